@@ -3,6 +3,7 @@ package org.example.flowday.domain.member.controller;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import org.example.flowday.domain.member.dto.MemberDTO;
 import org.example.flowday.domain.member.exception.MemberException;
 import org.example.flowday.domain.member.exception.MemberTaskException;
@@ -10,11 +11,14 @@ import org.example.flowday.domain.member.service.MemberService;
 import org.example.flowday.global.security.util.SecurityUser;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
 import java.util.Objects;
 
@@ -176,6 +180,23 @@ public class MemberController {
         }
     }
 
+    // 프로필 이미지 수정 - 요청 본문 스트리밍
+    @Operation(summary = "프로필 이미지 수정 (스트리밍)", description = "요청 본문에 이미지 바이트를 그대로 담아 보내주세요 (multipart 아님). 파일 이름은 X-File-Name 헤더에 URL 인코딩해서 보내주세요")
+    @PutMapping(value = "/updateImage/stream", consumes = {"image/*", MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    public ResponseEntity<Object> modifyImageStream(
+            @AuthenticationPrincipal SecurityUser user,
+            @RequestHeader(value = "X-File-Name", defaultValue = "profile") String fileName,
+            HttpServletRequest request) {
+        try {
+            memberService.changeProfileImageStream(user.getId(), request.getInputStream(),
+                    URLDecoder.decode(fileName, StandardCharsets.UTF_8));
+            return ResponseEntity.ok("프로필 사진이 변경되었습니다");
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(MemberException.MEMBER_IMAGE_NOT_MODIFIED.getMemberTaskException().getMessage());
+        }
+    }
+
     // 생일 수정(등록)
     // 사용 하지 않음 (배포시까지 변경 없다면 삭제 예정)
     @Operation(summary = "생일 수정(등록)")
@@ -0,0 +1,8 @@
+package org.example.flowday.domain.member.event.dto;
+
+public record PartnerDisconnectedEvent(
+        Long memberId,
+        Long partnerId,
+        boolean postsPrivatized
+) {
+}
@@ -10,6 +10,7 @@ import org.example.flowday.domain.course.wish.service.WishPlaceService;
 import org.example.flowday.domain.member.dto.MemberDTO;
 import org.example.flowday.domain.member.entity.Member;
 import org.example.flowday.domain.member.entity.Role;
+import org.example.flowday.domain.member.event.dto.PartnerDisconnectedEvent;
 import org.example.flowday.domain.member.exception.MemberException;
 import org.example.flowday.domain.member.exception.MemberTaskException;
 import org.example.flowday.domain.member.repository.MemberRepository;
@@ -18,6 +19,7 @@ import org.example.flowday.domain.notification.service.NotificationService;
 import org.example.flowday.domain.post.post.entity.Post;
 import org.example.flowday.global.fileupload.service.GenFileService;
 import org.example.flowday.global.security.util.JwtUtil;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -27,6 +29,7 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -49,6 +52,7 @@ public class MemberService {
     private final WishPlaceService wishPlaceService;
     private final ChatService chatService;
     private final GenFileService genFileService;
+    private final ApplicationEventPublisher eventPublisher;
     // 보안 관련 서비스
 
 
@@ -282,6 +286,11 @@ public class MemberService {
 
     }
 
+    //이미지 변경 - 요청 본문 스트리밍 (업로드 동안 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행)
+    public void changeProfileImageStream(Long id, InputStream in, String fileName) throws IOException {
+        genFileService.saveStream(in, fileName, "member", id, "common", "inBody", 1);
+    }
+
     // 생일 변경
     @Transactional
     public void updateBirthday(Member member, LocalDate birthday) {
@@ -366,6 +375,8 @@ public class MemberService {
     @Transactional
     public void disconnectPartner (Member member, Boolean stat){
 
+        Long partnerId = member.getPartnerId();
+
         //파트너 Id를 null로 변경
         member.setPartnerId(null);
 
@@ -381,6 +392,7 @@ public class MemberService {
         }
 
         memberRepository.save(member);
+        eventPublisher.publishEvent(new PartnerDisconnectedEvent(member.getId(), partnerId, stat));
 
     }
 
@@ -16,6 +16,9 @@ import java.util.List;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
 @EntityListeners(AuditingEntityListener.class)
+@Table(indexes = {
+        @Index(name = "idx_reply_member_post_created_at", columnList = "member_id, post_id, created_at")
+})
 public class Reply {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
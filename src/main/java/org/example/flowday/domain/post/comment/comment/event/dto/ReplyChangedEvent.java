@@ -0,0 +1,9 @@
+package org.example.flowday.domain.post.comment.comment.event.dto;
+
+public record ReplyChangedEvent(
+        Long postId,
+        Long replyId,
+        Long memberId,
+        int commentDelta
+) {
+}
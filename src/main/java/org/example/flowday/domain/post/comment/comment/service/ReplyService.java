@@ -5,12 +5,14 @@ import org.example.flowday.domain.member.entity.Member;
 import org.example.flowday.domain.member.repository.MemberRepository;
 import org.example.flowday.domain.post.comment.comment.dto.ReplyDTO;
 import org.example.flowday.domain.post.comment.comment.entity.Reply;
+import org.example.flowday.domain.post.comment.comment.event.dto.ReplyChangedEvent;
 import org.example.flowday.domain.post.comment.comment.exception.ReplyException;
 import org.example.flowday.domain.post.comment.comment.repository.ReplyRepository;
 import org.example.flowday.domain.post.post.entity.Post;
 import org.example.flowday.domain.post.post.exception.PostException;
 import org.example.flowday.domain.post.post.repository.PostRepository;
 import org.example.flowday.global.fileupload.service.GenFileService;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -28,6 +30,7 @@ public class ReplyService {
     private final MemberRepository memberRepository;
     private final PostRepository postRepository;
     private final GenFileService genFileService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public ReplyDTO.createResponse saveReply(ReplyDTO.createRequest request, Long memberId, Long postId) {
@@ -43,6 +46,7 @@ public class ReplyService {
         Reply reply = request.toEntity(member, parent, post);
         Reply saveReply = replyRepository.save(reply);
         post.increaseComment();
+        eventPublisher.publishEvent(new ReplyChangedEvent(postId, saveReply.getId(), memberId, 1));
 
 
         return new ReplyDTO.createResponse(saveReply, "댓글이 생성되었습니다");
@@ -63,9 +67,11 @@ public class ReplyService {
 
             replyRepository.delete(reply);
             post.decreaseComment();
+            eventPublisher.publishEvent(new ReplyChangedEvent(post.getId(), replyId, memberId, -1));
             deleteResponse = new ReplyDTO.deleteResponse("자식 댓글 삭제 완료", "댓글이 삭제되었습니다");
         } else {
             reply.updateDeleteMsg();
+            eventPublisher.publishEvent(new ReplyChangedEvent(post.getId(), replyId, memberId, 0));
             deleteResponse = new ReplyDTO.deleteResponse("부모 댓글 삭제 완료", "작성자에 의해 댓글이 삭제되었습니다");
         }
         return deleteResponse;
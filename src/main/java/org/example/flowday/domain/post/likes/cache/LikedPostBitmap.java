@@ -0,0 +1,216 @@
+package org.example.flowday.domain.post.likes.cache;
+
+import java.util.Arrays;
+
+/**
+ * 회원이 좋아요 누른 게시글 ID 집합 (Roaring 방식 압축 비트맵)
+ * ID 상위 비트로 65536 단위 구간을 나누고, 구간마다 원소가 적으면 정렬 배열, 많으면 비트맵 컨테이너를 사용합니다.
+ */
+public class LikedPostBitmap {
+    // 배열 컨테이너 최대 크기 (4096 * 2byte = 8KB, 비트맵 컨테이너와 같은 크기)
+    static final int ARRAY_MAX = 4096;
+    private static final int BITMAP_WORDS = 1 << 10;
+
+    private long[] keys = new long[0];
+    private Container[] containers = new Container[0];
+    private int cardinality;
+
+    public static LikedPostBitmap of(Iterable<Long> postIds) {
+        LikedPostBitmap bitmap = new LikedPostBitmap();
+        for (Long postId : postIds) {
+            if (postId != null) {
+                bitmap.add(postId);
+            }
+        }
+        return bitmap;
+    }
+
+    public synchronized boolean add(long postId) {
+        long key = postId >>> 16;
+        char low = (char) postId;
+
+        int index = Arrays.binarySearch(keys, key);
+        if (index < 0) {
+            index = -index - 1;
+            insertContainer(index, key, new ArrayContainer());
+        }
+
+        boolean added = containers[index].add(low);
+        if (added) {
+            cardinality++;
+            if (containers[index] instanceof ArrayContainer array && array.size > ARRAY_MAX) {
+                containers[index] = array.toBitmap();
+            }
+        }
+        return added;
+    }
+
+    public synchronized boolean remove(long postId) {
+        int index = Arrays.binarySearch(keys, postId >>> 16);
+        if (index < 0) {
+            return false;
+        }
+
+        Container container = containers[index];
+        if (!container.remove((char) postId)) {
+            return false;
+        }
+        cardinality--;
+
+        if (container.cardinality() == 0) {
+            removeContainer(index);
+        } else if (container instanceof BitmapContainer bitmap && bitmap.cardinality <= ARRAY_MAX) {
+            containers[index] = bitmap.toArray();
+        }
+        return true;
+    }
+
+    public synchronized boolean contains(long postId) {
+        int index = Arrays.binarySearch(keys, postId >>> 16);
+        return index >= 0 && containers[index].contains((char) postId);
+    }
+
+    public synchronized int cardinality() {
+        return cardinality;
+    }
+
+    private void insertContainer(int index, long key, Container container) {
+        long[] newKeys = new long[keys.length + 1];
+        Container[] newContainers = new Container[containers.length + 1];
+
+        System.arraycopy(keys, 0, newKeys, 0, index);
+        System.arraycopy(containers, 0, newContainers, 0, index);
+        newKeys[index] = key;
+        newContainers[index] = container;
+        System.arraycopy(keys, index, newKeys, index + 1, keys.length - index);
+        System.arraycopy(containers, index, newContainers, index + 1, containers.length - index);
+
+        keys = newKeys;
+        containers = newContainers;
+    }
+
+    private void removeContainer(int index) {
+        long[] newKeys = new long[keys.length - 1];
+        Container[] newContainers = new Container[containers.length - 1];
+
+        System.arraycopy(keys, 0, newKeys, 0, index);
+        System.arraycopy(containers, 0, newContainers, 0, index);
+        System.arraycopy(keys, index + 1, newKeys, index, keys.length - index - 1);
+        System.arraycopy(containers, index + 1, newContainers, index, containers.length - index - 1);
+
+        keys = newKeys;
+        containers = newContainers;
+    }
+
+    private interface Container {
+        boolean add(char value);
+
+        boolean remove(char value);
+
+        boolean contains(char value);
+
+        int cardinality();
+    }
+
+    // 정렬된 하위 16비트 값 배열
+    private static final class ArrayContainer implements Container {
+        private char[] values = new char[4];
+        private int size;
+
+        @Override
+        public boolean add(char value) {
+            int index = Arrays.binarySearch(values, 0, size, value);
+            if (index >= 0) {
+                return false;
+            }
+            index = -index - 1;
+            if (size == values.length) {
+                values = Arrays.copyOf(values, Math.min(size * 2, ARRAY_MAX + 1));
+            }
+            System.arraycopy(values, index, values, index + 1, size - index);
+            values[index] = value;
+            size++;
+            return true;
+        }
+
+        @Override
+        public boolean remove(char value) {
+            int index = Arrays.binarySearch(values, 0, size, value);
+            if (index < 0) {
+                return false;
+            }
+            System.arraycopy(values, index + 1, values, index, size - index - 1);
+            size--;
+            return true;
+        }
+
+        @Override
+        public boolean contains(char value) {
+            return Arrays.binarySearch(values, 0, size, value) >= 0;
+        }
+
+        @Override
+        public int cardinality() {
+            return size;
+        }
+
+        private BitmapContainer toBitmap() {
+            BitmapContainer bitmap = new BitmapContainer();
+            for (int i = 0; i < size; i++) {
+                bitmap.add(values[i]);
+            }
+            return bitmap;
+        }
+    }
+
+    // 65536 비트 고정 크기 비트맵
+    private static final class BitmapContainer implements Container {
+        private final long[] words = new long[BITMAP_WORDS];
+        private int cardinality;
+
+        @Override
+        public boolean add(char value) {
+            long before = words[value >>> 6];
+            words[value >>> 6] = before | (1L << value);
+            if (before == words[value >>> 6]) {
+                return false;
+            }
+            cardinality++;
+            return true;
+        }
+
+        @Override
+        public boolean remove(char value) {
+            long before = words[value >>> 6];
+            words[value >>> 6] = before & ~(1L << value);
+            if (before == words[value >>> 6]) {
+                return false;
+            }
+            cardinality--;
+            return true;
+        }
+
+        @Override
+        public boolean contains(char value) {
+            return (words[value >>> 6] & (1L << value)) != 0;
+        }
+
+        @Override
+        public int cardinality() {
+            return cardinality;
+        }
+
+        private ArrayContainer toArray() {
+            ArrayContainer array = new ArrayContainer();
+            array.values = new char[Math.max(cardinality, 4)];
+            for (int i = 0; i < words.length; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    array.values[array.size++] = (char) ((i << 6) + Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+            return array;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package org.example.flowday.domain.post.likes.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.RequiredArgsConstructor;
+import org.example.flowday.domain.post.likes.event.dto.PostLikeChangedEvent;
+import org.example.flowday.domain.post.likes.repository.LikeRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 회원별 좋아요 게시글 비트맵 캐시
+ * 최초 조회 시 likes 테이블에서 한 번 적재하고, 이후에는 좋아요 변경 이벤트로 갱신합니다.
+ * 최근에 사용하지 않은 회원부터 제거됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class LikedPostCache {
+    private static final int MAX_MEMBERS = 50_000;
+
+    private final LikeRepository likeRepository;
+    private final Cache<Long, LikedPostBitmap> bitmaps = Caffeine.newBuilder()
+            .maximumSize(MAX_MEMBERS)
+            .build();
+
+    // 주어진 게시글 중 회원이 좋아요 누른 게시글 ID
+    public Set<Long> findLikedPostIds(Long memberId, Collection<Long> postIds) {
+        Set<Long> liked = new HashSet<>();
+        if (memberId == null || postIds.isEmpty()) {
+            return liked;
+        }
+
+        LikedPostBitmap bitmap = get(memberId);
+        for (Long postId : postIds) {
+            if (postId != null && bitmap.contains(postId)) {
+                liked.add(postId);
+            }
+        }
+        return liked;
+    }
+
+    // 캐시에 적재된 회원만 갱신 (없는 회원은 다음 조회 시 DB에서 적재)
+    @TransactionalEventListener
+    public void handle(PostLikeChangedEvent event) {
+        bitmaps.asMap().computeIfPresent(event.memberId(), (memberId, bitmap) -> {
+            if (event.liked()) {
+                bitmap.add(event.postId());
+            } else {
+                bitmap.remove(event.postId());
+            }
+            return bitmap;
+        });
+    }
+
+    private LikedPostBitmap get(Long memberId) {
+        return bitmaps.get(memberId, id -> LikedPostBitmap.of(likeRepository.findAllPostIdByMemberId(id)));
+    }
+}
@@ -4,13 +4,22 @@ import jakarta.persistence.*;
 import lombok.*;
 import org.example.flowday.domain.member.entity.Member;
 import org.example.flowday.domain.post.post.entity.Post;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "likes")
+@Table(name = "likes", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_likes_member_post", columnNames = {"member_id", "post_id"})
+}, indexes = {
+        @Index(name = "idx_likes_member_id", columnList = "member_id, id")
+})
 @Data
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
+@EntityListeners(AuditingEntityListener.class)
 public class Likes {
 
     @Id
@@ -21,4 +30,9 @@ public class Likes {
 
     private Long postId;
 
+    // 트렌드 집계에서 좋아요 취소를 누른 시간 버킷에 상쇄하기 위해 보관
+    @CreatedDate
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
 }
\ No newline at end of file
@@ -0,0 +1,8 @@
+package org.example.flowday.domain.post.likes.event.dto;
+
+public record PostLikeChangedEvent(
+        Long postId,
+        Long memberId,
+        boolean liked
+) {
+}
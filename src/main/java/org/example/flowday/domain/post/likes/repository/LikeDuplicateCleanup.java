@@ -0,0 +1,89 @@
+package org.example.flowday.domain.post.likes.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.util.List;
+
+/**
+ * likes (member_id, post_id) 중복 행 정리
+ * 유니크 제약(uk_likes_member_post) 도입 전에 쌓인 중복 좋아요를 가장 먼저 생긴 행만 남기고 삭제한 뒤,
+ * 해당 게시글의 like_count 를 다시 계산합니다.
+ * 스키마 갱신(ddl-auto)이 제약을 추가하기 전에 실행되도록 EntityManagerFactory 보다 먼저 초기화되며,
+ * 제약이 이미 있으면 아무것도 하지 않습니다.
+ */
+@Slf4j
+@Component
+public class LikeDuplicateCleanup implements InitializingBean {
+    private static final String UNIQUE_KEY = "uk_likes_member_post";
+    private static final String DUPLICATED_POST_IDS_SQL =
+            "SELECT DISTINCT post_id FROM likes GROUP BY member_id, post_id HAVING COUNT(*) > 1";
+    // MySQL 은 삭제 대상 테이블을 서브쿼리에서 바로 읽을 수 없으므로 파생 테이블로 감쌈
+    private static final String DELETE_DUPLICATES_SQL =
+            "DELETE FROM likes WHERE id NOT IN (" +
+            "SELECT keep_id FROM (SELECT MIN(id) AS keep_id FROM likes GROUP BY member_id, post_id) kept)";
+    private static final String RECOUNT_SQL =
+            "UPDATE posts p SET like_count = (SELECT COUNT(*) FROM likes l WHERE l.post_id = p.id) WHERE p.id = ?";
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+
+    public LikeDuplicateCleanup(DataSource dataSource) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        if (!tableExists() || uniqueKeyExists()) {
+            return;
+        }
+
+        List<Long> postIds = jdbcTemplate.queryForList(DUPLICATED_POST_IDS_SQL, Long.class);
+        if (postIds.isEmpty()) {
+            return;
+        }
+
+        int deleted = jdbcTemplate.update(DELETE_DUPLICATES_SQL);
+        jdbcTemplate.batchUpdate(RECOUNT_SQL, postIds.stream().map(id -> new Object[]{id}).toList());
+        log.info("중복 좋아요 정리 - {}건 삭제, 게시글 {}건 좋아요 수 재계산", deleted, postIds.size());
+    }
+
+    private boolean tableExists() {
+        try {
+            jdbcTemplate.queryForList("SELECT 1 FROM likes WHERE 1 = 0");
+            return true;
+        } catch (DataAccessException e) {
+            // 최초 기동 - 스키마 생성 시 제약과 함께 만들어짐
+            return false;
+        }
+    }
+
+    // 테이블 이름 대소문자 저장 방식이 DB 마다 달라 두 가지 모두 확인
+    private boolean uniqueKeyExists() {
+        try (var connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            for (String table : List.of("likes", "LIKES")) {
+                try (ResultSet indexes = metaData.getIndexInfo(connection.getCatalog(), null, table, true, false)) {
+                    while (indexes.next()) {
+                        // H2 는 제약 이름 뒤에 접미사를 붙여 인덱스를 만듦
+                        String name = indexes.getString("INDEX_NAME");
+                        if (name != null && name.toLowerCase().startsWith(UNIQUE_KEY)) {
+                            return true;
+                        }
+                    }
+                }
+            }
+            return false;
+        } catch (Exception e) {
+            log.warn("likes 유니크 제약 확인 실패 - 중복 정리를 진행합니다", e);
+            return false;
+        }
+    }
+}
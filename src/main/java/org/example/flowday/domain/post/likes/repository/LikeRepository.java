@@ -4,16 +4,22 @@ import org.example.flowday.domain.member.entity.Member;
 import org.example.flowday.domain.post.likes.entity.Likes;
 import org.example.flowday.domain.post.post.entity.Post;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface LikeRepository extends JpaRepository<Likes, Long> {
+public interface LikeRepository extends JpaRepository<Likes, Long>, LikeRepositoryCustom {
     Optional<Likes> findByPostIdAndMemberId(Long postId , Long memberId);
-    void deleteByMemberIdAndPostId(Long userId, Long postId);
+
+    // 좋아요가 있을 때만 삭제 - 삭제된 행 수 반환
+    @Modifying
+    @Query("DELETE FROM Likes l WHERE l.memberId = :memberId AND l.postId = :postId")
+    int deleteByMemberIdAndPostId(@Param("memberId") Long memberId, @Param("postId") Long postId);
 
     @Query("SELECT l.postId FROM Likes l WHERE l.memberId = :memberId")
     List<Long> findAllPostIdByMemberId(Long memberId);
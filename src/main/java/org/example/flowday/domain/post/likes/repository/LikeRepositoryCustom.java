@@ -0,0 +1,6 @@
+package org.example.flowday.domain.post.likes.repository;
+
+public interface LikeRepositoryCustom {
+    // 좋아요가 없을 때만 추가 - 추가된 경우 생성된 ID, 이미 있거나 게시글이 없으면 null
+    Long insertIfAbsent(Long memberId, Long postId);
+}
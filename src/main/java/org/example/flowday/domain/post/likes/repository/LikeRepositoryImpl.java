@@ -0,0 +1,48 @@
+package org.example.flowday.domain.post.likes.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+@Repository
+@RequiredArgsConstructor
+public class LikeRepositoryImpl implements LikeRepositoryCustom {
+    // 게시글 존재 확인까지 한 문장으로 처리 - 게시글이 없으면 0건
+    private static final String INSERT_IF_ABSENT_SQL =
+            "INSERT INTO likes (member_id, post_id, created_at) SELECT ?, p.id, ? FROM posts p WHERE p.id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Long insertIfAbsent(Long memberId, Long postId) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+
+        int inserted;
+        try {
+            inserted = jdbcTemplate.update(con -> {
+                PreparedStatement ps = con.prepareStatement(INSERT_IF_ABSENT_SQL, Statement.RETURN_GENERATED_KEYS);
+                ps.setLong(1, memberId);
+                ps.setTimestamp(2, Timestamp.valueOf(LocalDateTime.now()));
+                ps.setLong(3, postId);
+                return ps;
+            }, keyHolder);
+        } catch (DuplicateKeyException e) {
+            // (member_id, post_id) 유니크 제약 위반만 "이미 좋아요" 로 처리하고 나머지 오류는 그대로 전파
+            return null;
+        }
+
+        if (inserted == 0) {
+            return null;
+        }
+        Number key = keyHolder.getKey();
+        return key != null ? key.longValue() : null;
+    }
+}
@@ -0,0 +1,148 @@
+package org.example.flowday.domain.post.likes.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.flowday.domain.post.likes.event.dto.PostLikeChangedEvent;
+import org.example.flowday.global.config.CacheConfig;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글 좋아요 수 write-behind 버퍼
+ * 좋아요/취소 증감분을 게시글별 LongAdder에 모았다가 주기적으로 posts.like_count 에 일괄 반영합니다.
+ * likes 테이블이 원본이므로, 반영 전에 서버가 종료되어 유실된 증감분은 기동 시 재집계로 복구합니다 (기본 실행).
+ * 재집계는 다른 인스턴스가 아직 반영하지 않은 증감분(최대 flush 주기만큼)과 겹칠 수 있지만, 유실을 그대로 두는 것보다 오차가 작습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LikeCountBuffer {
+    private static final String FLUSH_SQL =
+            "UPDATE posts SET like_count = GREATEST(like_count + ?, 0) WHERE id = ?";
+    // id 구간 단위로 나눠 실행해 한 번에 잠그는 행 수를 제한
+    private static final String RECONCILE_SQL =
+            "UPDATE posts p SET like_count = (SELECT COUNT(*) FROM likes l WHERE l.post_id = p.id) " +
+            "WHERE p.id > ? AND p.id <= ? " +
+            "AND p.like_count <> (SELECT COUNT(*) FROM likes l WHERE l.post_id = p.id)";
+    private static final int RECONCILE_BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CacheManager cacheManager;
+
+    @Value("${custom.likes.reconcile-on-startup:true}")
+    private boolean reconcileOnStartup = true;
+
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    // 직전 flush 에서도 증감이 없던 게시글 - 다음 flush 까지 변화가 없으면 맵에서 제거
+    private final Set<Long> idle = ConcurrentHashMap.newKeySet();
+
+    // 커밋된 좋아요 변경만 반영
+    @TransactionalEventListener
+    public void handle(PostLikeChangedEvent event) {
+        add(event.postId(), event.liked() ? 1 : -1);
+    }
+
+    public void add(Long postId, long delta) {
+        if (postId == null || delta == 0) {
+            return;
+        }
+        // 맵 잠금 안에서 더해 flush 가 같은 게시글의 버퍼를 제거하는 것과 겹치지 않도록 함
+        pending.compute(postId, (id, adder) -> {
+            LongAdder target = adder != null ? adder : new LongAdder();
+            target.add(delta);
+            return target;
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${custom.likes.flush-interval-ms:1000}")
+    public void flush() {
+        // id 순으로 정렬해 여러 인스턴스가 동시에 반영할 때 행 잠금 순서를 맞춤
+        Map<Long, Long> deltas = new TreeMap<>();
+        for (Long postId : pending.keySet()) {
+            // 증감분 수거와 유휴 버퍼 제거를 같은 잠금 안에서 처리
+            pending.computeIfPresent(postId, (id, adder) -> {
+                long delta = adder.sumThenReset();
+                if (delta != 0) {
+                    deltas.put(id, delta);
+                    idle.remove(id);
+                    return adder;
+                }
+                if (idle.add(id)) {
+                    return adder;
+                }
+                idle.remove(id);
+                return null;
+            });
+        }
+
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> args = new ArrayList<>(deltas.size());
+        deltas.forEach((postId, delta) -> args.add(new Object[]{delta, postId}));
+
+        try {
+            jdbcTemplate.batchUpdate(FLUSH_SQL, args);
+        } catch (DataAccessException e) {
+            // 실패한 증감분은 다음 flush 에서 다시 시도
+            log.warn("좋아요 수 반영 실패 - {}건 재시도 예정", deltas.size(), e);
+            deltas.forEach(this::add);
+            return;
+        }
+
+        Cache cache = cacheManager.getCache(CacheConfig.POST_DETAIL);
+        if (cache != null) {
+            deltas.keySet().forEach(cache::evict);
+        }
+    }
+
+    // id 구간 단위로 오래 걸릴 수 있으므로 기동을 막지 않도록 비동기로 실행
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileAtStartup() {
+        if (reconcileOnStartup) {
+            reconcile();
+        }
+    }
+
+    // likes 테이블 기준으로 like_count 재집계 (반영되지 못한 증감분 복구) - 보정한 게시글 수 반환
+    public int reconcile() {
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM posts", Long.class);
+        if (maxId == null) {
+            return 0;
+        }
+
+        int updated = 0;
+        for (long from = 0; from < maxId; from += RECONCILE_BATCH_SIZE) {
+            updated += jdbcTemplate.update(RECONCILE_SQL, from, from + RECONCILE_BATCH_SIZE);
+        }
+        if (updated > 0) {
+            log.info("좋아요 수 재집계 - {}건 보정", updated);
+        }
+        return updated;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+}
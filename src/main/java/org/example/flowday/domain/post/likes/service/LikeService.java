@@ -4,16 +4,14 @@ import lombok.RequiredArgsConstructor;
 
 import org.example.flowday.domain.member.repository.MemberRepository;
 import org.example.flowday.domain.post.likes.dto.LikesDTO;
-import org.example.flowday.domain.post.likes.entity.Likes;
+import org.example.flowday.domain.post.likes.event.dto.PostLikeChangedEvent;
 import org.example.flowday.domain.post.likes.repository.LikeRepository;
-import org.example.flowday.domain.post.post.entity.Post;
 import org.example.flowday.domain.post.post.exception.PostException;
 import org.example.flowday.domain.post.post.repository.PostRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
-import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
@@ -22,40 +20,41 @@ public class LikeService {
 
     private final LikeRepository likeRepository;
     private final PostRepository postRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    // 좋아요 생성
+    // 좋아요 생성 - 유니크 제약 기반 insert-if-absent 한 문장으로 처리
     @Transactional
     public LikesDTO.LikeResponseDTO addLike(Long postId , Long userId) {
-        Post post = postRepository.findById(postId).orElseThrow(PostException.POST_NOT_FOUND::get);
-
-        Optional<Likes> opLike = likeRepository.findByPostIdAndMemberId(postId, userId);
-        if (opLike.isPresent()) {
+        Long likeId = likeRepository.insertIfAbsent(userId, postId);
+        if (likeId == null) {
+            // 변경이 없을 때만 원인 확인
+            if (!postRepository.existsById(postId)) {
+                throw PostException.POST_NOT_FOUND.get();
+            }
             throw PostException.POST_IS_LIKE.get();
         }
 
-        post.increaseLike();
-        Likes like = Likes.builder()
-                .memberId(userId)
-                .postId(postId)
-                .build();
-
-        Likes savedLike = likeRepository.save(like);
+        // 게시글 좋아요 수는 커밋 후 LikeCountBuffer 가 모아서 반영
+        eventPublisher.publishEvent(new PostLikeChangedEvent(postId, userId, true));
         return new LikesDTO.LikeResponseDTO(
-                savedLike.getId(),
-                savedLike.getMemberId(),
-                savedLike.getPostId(),
+                likeId,
+                userId,
+                postId,
                 "좋아요를 눌렀습니다"
         );
 
     }
-    // 좋아요 삭제
+    // 좋아요 삭제 - 실제로 삭제된 경우에만 좋아요 수 감소
     @Transactional
     public void removeLike(Long postId, Long userId) {
-        Post post = postRepository.findById(postId).orElseThrow(PostException.POST_NOT_FOUND::get);
-        Optional<Likes> opLike = likeRepository.findByPostIdAndMemberId(postId, userId);
-        if (opLike.isPresent()) {
-            post.decreaseLike();
-            likeRepository.delete(opLike.get());
+        if (likeRepository.deleteByMemberIdAndPostId(userId, postId) > 0) {
+            eventPublisher.publishEvent(new PostLikeChangedEvent(postId, userId, false));
+            return;
+        }
+
+        // 변경이 없을 때만 원인 확인 (좋아요가 없던 경우는 그대로 성공)
+        if (!postRepository.existsById(postId)) {
+            throw PostException.POST_NOT_FOUND.get();
         }
 
     }
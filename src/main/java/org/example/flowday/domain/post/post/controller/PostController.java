@@ -4,23 +4,36 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.parameters.RequestBody;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.flowday.domain.post.post.dto.GenFileResponseDTO;
 import org.example.flowday.domain.post.post.dto.PostBriefResponseDTO;
+import org.example.flowday.domain.post.post.dto.PostCursor;
+import org.example.flowday.domain.post.post.dto.PostCursorResponseDTO;
+import org.example.flowday.domain.post.post.dto.PostFilter;
+import org.example.flowday.domain.post.post.dto.PostFilterResponseDTO;
 import org.example.flowday.domain.post.post.dto.PostRequestDTO;
 import org.example.flowday.domain.post.post.dto.PostResponseDTO;
+import org.example.flowday.domain.post.post.entity.Status;
 import org.example.flowday.domain.post.post.service.PostService;
 import org.example.flowday.global.security.util.SecurityUser;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 
@@ -53,19 +66,31 @@ public class PostController {
 
     @Operation(summary ="모든 게시글 최신순 조회"  , description = "status=Public으로 설정된 글만 최신순으로 불러옵니다")
     @GetMapping("/all/latest")
-    public ResponseEntity<Page<PostBriefResponseDTO>> getAllPosts(@RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "10") int pageSize) {
+    public ResponseEntity<Page<PostBriefResponseDTO>> getAllPosts(@RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "10") int pageSize,
+                                                                  @AuthenticationPrincipal SecurityUser user) {
         Pageable pageable = PageRequest.of(page, pageSize);
-        Page<PostBriefResponseDTO> result = postService.getAllPublicPosts(pageable);
+        Page<PostBriefResponseDTO> result = postService.getAllPublicPosts(pageable, user.getId());
 
         return ResponseEntity.ok().body(result);
 
     }
 
-    @Operation(summary ="모든 게시글 인기순 조회"  , description = "좋아요가 많은 순서로 게시글을 불러옵니다 ")
+    @Operation(summary ="트렌드 게시글 조회"  , description = "최근 24시간(window=24h) 또는 7일(window=7d) 동안 좋아요가 많이 눌린 게시글을 불러옵니다")
+    @GetMapping("/trending")
+    public ResponseEntity<List<PostBriefResponseDTO>> getTrendingPosts(@RequestParam(defaultValue = "7d") String window,
+                                                                       @RequestParam(defaultValue = "10") int size,
+                                                                       @AuthenticationPrincipal SecurityUser user) {
+        List<PostBriefResponseDTO> result = postService.findTrendingPosts(window, size, user.getId());
+
+        return ResponseEntity.ok().body(result);
+    }
+
+    @Operation(summary ="모든 게시글 인기순 조회"  , description = "좋아요/댓글이 많고 최근에 작성된 순서로 게시글을 불러옵니다 ")
     @GetMapping("/all/mostLike")
-    public ResponseEntity<Page<PostBriefResponseDTO>> getMostPosts(@RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "10") int pageSize) {
+    public ResponseEntity<Page<PostBriefResponseDTO>> getMostPosts(@RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "10") int pageSize,
+                                                                   @AuthenticationPrincipal SecurityUser user) {
         Pageable pageable = PageRequest.of(page, pageSize);
-        Page<PostBriefResponseDTO> result = postService.findAllMostLikePosts(pageable);
+        Page<PostBriefResponseDTO> result = postService.findAllMostLikePosts(pageable, user.getId());
 
         return ResponseEntity.ok().body(result);
 
@@ -123,13 +148,25 @@ public class PostController {
     }
 
 
-    @Operation(summary ="게시글 수정 "  , description = "수정 요청한 이미지 파일 그대로 게시글에 재반영됩니다 , 수정 요청의 content type = multipart/form 으로 해주세요")
+    @Operation(summary ="게시글 수정 "  , description = "keptImageIds(유지할 이미지 ID, 순서대로 배치) / removedImageIds(삭제할 이미지 ID) 와 새 images 를 보내면 바뀐 이미지만 반영됩니다. 둘 다 없으면 수정 요청한 이미지 파일 그대로 게시글에 재반영됩니다 , 수정 요청의 content type = multipart/form 으로 해주세요")
     @PutMapping("/{id}")
     public ResponseEntity<PostResponseDTO> updatePost(@PathVariable Long id, @Valid @ModelAttribute PostRequestDTO updatedPostDto ,@AuthenticationPrincipal SecurityUser user) {
         PostResponseDTO post = postService.updatePost(id, updatedPostDto, user.getId());
         return new ResponseEntity<>(post, HttpStatus.OK);
     }
 
+    @Operation(summary ="게시글 이미지 스트리밍 업로드" , description = "요청 본문에 이미지 바이트를 그대로 담아 보내주세요 (multipart 아님). " +
+            "fileNo 는 1 ~ " + PostRequestDTO.MAX_IMAGES + " 이고 같은 fileNo 의 이미지는 교체되며, 파일 이름은 X-File-Name 헤더에 URL 인코딩해서 보내주세요")
+    @PutMapping(value = "/{id}/images/{fileNo}", consumes = {"image/*", MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    public ResponseEntity<GenFileResponseDTO> uploadImage(@PathVariable Long id, @PathVariable @Min(1) @Max(PostRequestDTO.MAX_IMAGES) int fileNo,
+                                                          @RequestHeader(value = "X-File-Name", defaultValue = "image") String fileName,
+                                                          HttpServletRequest request,
+                                                          @AuthenticationPrincipal SecurityUser user) throws IOException {
+        GenFileResponseDTO image = postService.uploadImageStream(id, fileNo, request.getInputStream(),
+                URLDecoder.decode(fileName, StandardCharsets.UTF_8), user.getId());
+        return ResponseEntity.ok(image);
+    }
+
     @Operation(summary ="게시글 삭제 "  , description = "게시글이 삭제됩니다")
     @DeleteMapping("/{id}")
     public ResponseEntity<String> deletePost(@PathVariable Long id , @AuthenticationPrincipal SecurityUser user) {
@@ -141,12 +178,148 @@ public class PostController {
     @GetMapping("/all/list")
     public ResponseEntity<Page<PostBriefResponseDTO>> searchKwPosts(@RequestParam(defaultValue = "") String kw ,
                                                               @RequestParam(defaultValue = "0") int page,
-                                                              @RequestParam(defaultValue = "10") int pageSize) {
+                                                              @RequestParam(defaultValue = "10") int pageSize,
+                                                              @AuthenticationPrincipal SecurityUser user) {
 
         Pageable pageable = PageRequest.of(page, 10);
-        Page<PostBriefResponseDTO> result = postService.findAllKwPosts(kw, pageable);
+        Page<PostBriefResponseDTO> result = postService.findAllKwPosts(kw, pageable, user.getId());
+        return ResponseEntity.ok().body(result);
+
+    }
+
+    // Slice 조회 - 같은 경로에 slice=true 파라미터가 있으면 전체 개수 없이 hasNext만 응답
+
+    @Operation(summary ="모든 게시글 최신순 조회 - Slice"  , description = "전체 개수(count) 없이 다음 페이지 존재 여부만 반환합니다")
+    @GetMapping(value = "/all/latest", params = "slice=true")
+    public ResponseEntity<Slice<PostBriefResponseDTO>> getAllPostsSlice(@RequestParam(defaultValue = "0") @Min(0) int page, @RequestParam(defaultValue = "10") @Min(1) @Max(PostCursor.MAX_PAGE_SIZE) int pageSize,
+                                                                        @AuthenticationPrincipal SecurityUser user) {
+        Pageable pageable = PageRequest.of(page, pageSize);
+        Slice<PostBriefResponseDTO> result = postService.getAllPublicPostsSlice(pageable, user.getId());
+
+        return ResponseEntity.ok().body(result);
+    }
+
+    @Operation(summary ="커플 게시글 조회 - Slice"  , description = "전체 개수(count) 없이 다음 페이지 존재 여부만 반환합니다")
+    @GetMapping(value = "/all/couple", params = "slice=true")
+    public ResponseEntity<Slice<PostBriefResponseDTO>> getAllCouplePostsSlice(@RequestParam(defaultValue = "0") @Min(0) int page, @RequestParam(defaultValue = "10") @Min(1) @Max(PostCursor.MAX_PAGE_SIZE) int pageSize,
+                                                                              @AuthenticationPrincipal SecurityUser user) {
+        Pageable pageable = PageRequest.of(page, pageSize);
+        Slice<PostBriefResponseDTO> result = postService.findAllCouplePostsSlice(pageable, user.getId());
+
+        return ResponseEntity.ok().body(result);
+    }
+
+    @Operation(summary ="나의 게시글 조회 - Slice"  , description = "전체 개수(count) 없이 다음 페이지 존재 여부만 반환합니다")
+    @GetMapping(value = "/all", params = "slice=true")
+    public ResponseEntity<Slice<PostBriefResponseDTO>> getAllMyPostsSlice(@RequestParam(defaultValue = "0") @Min(0) int page, @RequestParam(defaultValue = "10") @Min(1) @Max(PostCursor.MAX_PAGE_SIZE) int pageSize,
+                                                                          @AuthenticationPrincipal SecurityUser user) {
+        Pageable pageable = PageRequest.of(page, pageSize);
+        Slice<PostBriefResponseDTO> result = postService.findAllMyPostsSlice(pageable, user.getId());
+
+        return ResponseEntity.ok().body(result);
+    }
+
+    @Operation(summary ="내가 좋아요 누른 게시글 조회 - Slice"  , description = "전체 개수(count) 없이 다음 페이지 존재 여부만 반환합니다")
+    @GetMapping(value = "/all/likes", params = "slice=true")
+    public ResponseEntity<Slice<PostBriefResponseDTO>> getAllMyLikesPostsSlice(@RequestParam(defaultValue = "0") @Min(0) int page, @RequestParam(defaultValue = "10") @Min(1) @Max(PostCursor.MAX_PAGE_SIZE) int pageSize,
+                                                                               @AuthenticationPrincipal SecurityUser user) {
+        Pageable pageable = PageRequest.of(page, pageSize);
+        Slice<PostBriefResponseDTO> result = postService.findAllMyLikePostsSlice(pageable, user.getId());
+
+        return ResponseEntity.ok().body(result);
+    }
+
+    // 커서 기반 조회 - 같은 경로에 cursor 파라미터가 있으면 커서 모드로 응답 (첫 페이지는 cursor= 빈 값)
+
+    @Operation(summary ="모든 게시글 최신순 조회 - 커서"  , description = "응답의 nextCursor를 다음 요청의 cursor로 전달해주세요")
+    @GetMapping(value = "/all/latest", params = "cursor")
+    public ResponseEntity<PostCursorResponseDTO> getAllPostsByCursor(@RequestParam String cursor, @RequestParam(defaultValue = "10") @Min(1) @Max(PostCursor.MAX_PAGE_SIZE) int pageSize,
+                                                                     @AuthenticationPrincipal SecurityUser user) {
+        PostCursorResponseDTO result = postService.getAllPublicPostsByCursor(cursor, pageSize, user.getId());
+
         return ResponseEntity.ok().body(result);
+    }
 
+    @Operation(summary ="모든 게시글 인기순 조회 - 커서"  , description = "응답의 nextCursor를 다음 요청의 cursor로 전달해주세요")
+    @GetMapping(value = "/all/mostLike", params = "cursor")
+    public ResponseEntity<PostCursorResponseDTO> getMostPostsByCursor(@RequestParam String cursor, @RequestParam(defaultValue = "10") @Min(1) @Max(PostCursor.MAX_PAGE_SIZE) int pageSize,
+                                                                      @AuthenticationPrincipal SecurityUser user) {
+        PostCursorResponseDTO result = postService.findAllMostLikePostsByCursor(cursor, pageSize, user.getId());
+
+        return ResponseEntity.ok().body(result);
+    }
+
+    @Operation(summary ="커플 게시글 조회 - 커서"  , description = "응답의 nextCursor를 다음 요청의 cursor로 전달해주세요")
+    @GetMapping(value = "/all/couple", params = "cursor")
+    public ResponseEntity<PostCursorResponseDTO> getAllCouplePostsByCursor(@RequestParam String cursor, @RequestParam(defaultValue = "10") @Min(1) @Max(PostCursor.MAX_PAGE_SIZE) int pageSize,
+                                                                           @AuthenticationPrincipal SecurityUser user) {
+        PostCursorResponseDTO result = postService.findAllCouplePostsByCursor(cursor, pageSize, user.getId());
+
+        return ResponseEntity.ok().body(result);
+    }
+
+    @Operation(summary ="나의 게시글 조회 - 커서"  , description = "응답의 nextCursor를 다음 요청의 cursor로 전달해주세요")
+    @GetMapping(value = "/all", params = "cursor")
+    public ResponseEntity<PostCursorResponseDTO> getAllMyPostsByCursor(@RequestParam String cursor, @RequestParam(defaultValue = "10") @Min(1) @Max(PostCursor.MAX_PAGE_SIZE) int pageSize,
+                                                                       @AuthenticationPrincipal SecurityUser user) {
+        PostCursorResponseDTO result = postService.findAllMyPostsByCursor(cursor, pageSize, user.getId());
+
+        return ResponseEntity.ok().body(result);
+    }
+
+    @Operation(summary ="내가 좋아요 누른 게시글 조회 - 커서"  , description = "응답의 nextCursor를 다음 요청의 cursor로 전달해주세요")
+    @GetMapping(value = "/all/likes", params = "cursor")
+    public ResponseEntity<PostCursorResponseDTO> getAllMyLikesPostsByCursor(@RequestParam String cursor, @RequestParam(defaultValue = "10") @Min(1) @Max(PostCursor.MAX_PAGE_SIZE) int pageSize,
+                                                                            @AuthenticationPrincipal SecurityUser user) {
+        PostCursorResponseDTO result = postService.findAllMyLikePostsByCursor(cursor, pageSize, user.getId());
+
+        return ResponseEntity.ok().body(result);
+    }
+
+    @Operation(summary ="내가 댓글 단 게시글 조회 - 커서"  , description = "내 마지막 댓글 시간 순으로 불러옵니다. 응답의 nextCursor를 다음 요청의 cursor로 전달해주세요")
+    @GetMapping(value = "/all/reply", params = "cursor")
+    public ResponseEntity<PostCursorResponseDTO> getAllMyReplyPostsByCursor(@RequestParam String cursor, @RequestParam(defaultValue = "10") @Min(1) @Max(PostCursor.MAX_PAGE_SIZE) int pageSize,
+                                                                            @AuthenticationPrincipal SecurityUser user) {
+        PostCursorResponseDTO result = postService.findAllMyReplyPostsByCursor(cursor, pageSize, user.getId());
+
+        return ResponseEntity.ok().body(result);
+    }
+
+    @Operation(summary ="게시글 필터 조회"  , description = "지역, 계절, 공개 범위(기본 PUBLIC), 코스 유무로 게시글을 최신순으로 불러옵니다. 공개 게시글 기준 지역/계절별 게시글 수를 함께 반환합니다. 첫 페이지는 cursor 없이, 이후에는 응답의 nextCursor를 cursor로 전달해주세요")
+    @GetMapping("/all/filter")
+    public ResponseEntity<PostFilterResponseDTO> getFilteredPosts(@RequestParam(required = false) String region,
+                                                                  @RequestParam(required = false) String season,
+                                                                  @RequestParam(required = false) Status status,
+                                                                  @RequestParam(required = false) Boolean hasCourse,
+                                                                  @RequestParam(defaultValue = "") String cursor,
+                                                                  @RequestParam(defaultValue = "10") @Min(1) @Max(PostCursor.MAX_PAGE_SIZE) int pageSize,
+                                                                  @AuthenticationPrincipal SecurityUser user) {
+        PostFilter filter = PostFilter.of(region, season, status, hasCourse);
+        PostFilterResponseDTO result = postService.findFilteredPostsByCursor(filter, cursor, pageSize, user.getId());
+
+        return ResponseEntity.ok().body(result);
+    }
+
+    @Operation(summary ="태그별 게시글 조회"  , description = "태그가 달린 PUBLIC 게시글을 최신순으로 불러옵니다. 첫 페이지는 cursor 없이, 이후에는 응답의 nextCursor를 cursor로 전달해주세요")
+    @GetMapping("/tags/{tag}")
+    public ResponseEntity<PostCursorResponseDTO> getAllTagPosts(@PathVariable String tag,
+                                                                @RequestParam(defaultValue = "") String cursor,
+                                                                @RequestParam(defaultValue = "10") @Min(1) @Max(PostCursor.MAX_PAGE_SIZE) int pageSize,
+                                                                @AuthenticationPrincipal SecurityUser user) {
+        PostCursorResponseDTO result = postService.findAllTagPostsByCursor(tag, cursor, pageSize, user.getId());
+
+        return ResponseEntity.ok().body(result);
+    }
+
+    @Operation(summary ="게시글 키워드 검색 - 커서"  , description = "응답의 nextCursor를 다음 요청의 cursor로 전달해주세요")
+    @GetMapping(value = "/all/list", params = "cursor")
+    public ResponseEntity<PostCursorResponseDTO> searchKwPostsByCursor(@RequestParam(defaultValue = "") String kw,
+                                                                       @RequestParam String cursor,
+                                                                       @RequestParam(defaultValue = "10") @Min(1) @Max(PostCursor.MAX_PAGE_SIZE) int pageSize,
+                                                                       @AuthenticationPrincipal SecurityUser user) {
+        PostCursorResponseDTO result = postService.findAllKwPostsByCursor(kw, cursor, pageSize, user.getId());
+
+        return ResponseEntity.ok().body(result);
     }
 
 
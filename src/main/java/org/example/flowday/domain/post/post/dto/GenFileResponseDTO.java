@@ -1,6 +1,9 @@
 package org.example.flowday.domain.post.post.dto;
 
 import lombok.*;
+import org.example.flowday.global.fileupload.entity.GenFileStatus;
+
+import java.util.Map;
 
 @Getter
 @Setter
@@ -13,6 +16,8 @@ public class GenFileResponseDTO {
     private String originFileName;
     private int fileSize;
     private String fileExt;
+    private GenFileStatus status;   // READY 가 아니면 url 이 null - 클라이언트는 placeholder 표시
+    private Map<String, String> variantUrls;    // 변형 이미지 URL (w320 / w640 / w1280 -> url), 아직 생성 전이면 비어 있음
 
 
 }
@@ -1,6 +1,8 @@
 package org.example.flowday.domain.post.post.dto;
 
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.*;
 import org.example.flowday.domain.post.post.entity.Post;
 import org.example.flowday.domain.post.post.entity.Status;
@@ -19,18 +21,53 @@ public class PostBriefResponseDTO {
     private int commentCount;
     private int likeCount;
     private LocalDateTime createdAt;
+    @Setter
     private String imageURL;
     private Status status;
     private String nickName;
+    @Setter
     private String tags;
+    // 조회한 회원이 좋아요를 눌렀는지 여부
+    @Setter
+    private boolean likedByMe;
+    // 좋아요 목록 커서용 좋아요 ID (응답에서는 제외)
+    @JsonIgnore
+    private Long likeId;
+    // 내가 댓글 단 게시글 목록에서만 내려가는 내 마지막 댓글 시간
+    @Setter
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private LocalDateTime lastRepliedAt;
+    // 트렌드 목록에서만 내려가는 집계 기간 내 좋아요 수
+    @Setter
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long trendLikeCount;
+
+    // 목록 조회 projection 용 생성자 - 본문 미리보기와 태그는 posts 의 비정규화 컬럼, 이미지는 별도 조회 후 채움
+    public PostBriefResponseDTO(Long id, String title, String content, int commentCount, int likeCount,
+                                LocalDateTime createdAt, Status status, String nickName, String tags) {
+        this.id = id;
+        this.title = title;
+        this.content = content;
+        this.commentCount = commentCount;
+        this.likeCount = likeCount;
+        this.createdAt = createdAt;
+        this.status = status;
+        this.nickName = nickName;
+        this.tags = tags != null ? tags : "";
+    }
+
+    // 좋아요 목록 projection 용 생성자
+    public PostBriefResponseDTO(Long id, String title, String content, int commentCount, int likeCount,
+                                LocalDateTime createdAt, Status status, String nickName, String tags, Long likeId) {
+        this(id, title, content, commentCount, likeCount, createdAt, status, nickName, tags);
+        this.likeId = likeId;
+    }
 
 
     public PostBriefResponseDTO(Post post , String url) {
         id = post.getId();
         title = post.getTitle();
-        content = post.getContents().length() > 20
-                ? post.getContents().substring(0, 20)
-                : post.getContents();
+        content = post.getExcerpt() != null ? post.getExcerpt() : Post.excerptOf(post.getContents());
         commentCount = post.getCommentCount();
         likeCount = post.getLikeCount();
         createdAt = post.getCreatedAt();
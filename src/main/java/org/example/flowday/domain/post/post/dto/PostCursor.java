@@ -0,0 +1,67 @@
+package org.example.flowday.domain.post.post.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.example.flowday.domain.post.post.exception.PostException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// 무한 스크롤용 커서 - 마지막으로 조회한 게시글의 정렬 키를 불투명한 문자열로 인코딩
+@Getter
+@AllArgsConstructor
+public class PostCursor {
+    // 커서 / Slice 조회 한 번에 가져올 수 있는 최대 게시글 수
+    public static final int MAX_PAGE_SIZE = 50;
+    private static final String DELIMITER = "|";
+
+    private LocalDateTime createdAt;
+    private Double score;
+    private Long id;
+
+    public static PostCursor ofCreatedAt(LocalDateTime createdAt, Long id) {
+        return new PostCursor(createdAt, null, id);
+    }
+
+    // 정렬 키가 ID 하나뿐인 목록용 (예: 좋아요 ID)
+    public static PostCursor ofId(Long id) {
+        return new PostCursor(null, null, id);
+    }
+
+    // 인기 랭킹용 - 조회 시점의 점수를 함께 담아 점수가 바뀌어도 같은 위치에서 이어서 조회
+    public static PostCursor ofScore(double score, Long id) {
+        return new PostCursor(null, score, id);
+    }
+
+    public String encode() {
+        String raw = (createdAt != null ? createdAt.toString() : "") + DELIMITER
+                + (score != null ? score : "") + DELIMITER
+                + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 비어있는 커서는 첫 페이지 요청으로 간주
+    public static PostCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 3) {
+                throw PostException.INVALID_CURSOR.get();
+            }
+
+            LocalDateTime createdAt = parts[0].isEmpty() ? null : LocalDateTime.parse(parts[0]);
+            Double score = parts[1].isEmpty() ? null : Double.valueOf(parts[1]);
+            Long id = Long.valueOf(parts[2]);
+
+            return new PostCursor(createdAt, score, id);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw PostException.INVALID_CURSOR.get();
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package org.example.flowday.domain.post.post.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PostCursorResponseDTO {
+    private List<PostBriefResponseDTO> content;
+    private String nextCursor;
+    private boolean hasNext;
+}
@@ -0,0 +1,19 @@
+package org.example.flowday.domain.post.post.dto;
+
+import org.example.flowday.domain.post.post.entity.Status;
+
+// 게시글 목록 필터 - null 인 조건은 적용하지 않음 (status 는 기본 PUBLIC)
+public record PostFilter(
+        String region,
+        String season,
+        Status status,
+        Boolean hasCourse
+) {
+    public static PostFilter of(String region, String season, Status status, Boolean hasCourse) {
+        return new PostFilter(normalize(region), normalize(season), status != null ? status : Status.PUBLIC, hasCourse);
+    }
+
+    private static String normalize(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+}
@@ -0,0 +1,19 @@
+package org.example.flowday.domain.post.post.dto;
+
+import lombok.*;
+
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PostFilterResponseDTO {
+    private List<PostBriefResponseDTO> content;
+    private String nextCursor;
+    private boolean hasNext;
+    // 공개 게시글 기준 지역 / 계절별 게시글 수 (자기 자신을 제외한 나머지 필터 조건 적용)
+    private Map<String, Long> regionCounts;
+    private Map<String, Long> seasonCounts;
+}
@@ -15,6 +15,8 @@ import java.util.List;
 @AllArgsConstructor
 @Builder
 public class PostRequestDTO {
+    // 게시글 한 개의 이미지 번호 상한 (스트리밍 업로드 fileNo 검증)
+    public static final int MAX_IMAGES = 10;
 
     @NotBlank(message = "제목은 필수입니다.")
     private String title;
@@ -26,5 +28,9 @@ public class PostRequestDTO {
     private Long courseId;
     private Status status;
     private List<MultipartFile> images;
+    // 수정 시 유지할 기존 이미지 ID (이 순서대로 앞에 배치되고 새 이미지는 뒤에 추가)
+    private List<Long> keptImageIds;
+    // 수정 시 삭제할 기존 이미지 ID (keptImageIds 가 없을 때 나머지 이미지는 기존 순서대로 유지)
+    private List<Long> removedImageIds;
 
 }
\ No newline at end of file
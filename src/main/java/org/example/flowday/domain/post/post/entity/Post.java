@@ -23,7 +23,13 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 @Entity
-@Table(name = "posts")
+@Table(name = "posts", indexes = {
+        @Index(name = "idx_posts_status_created_at", columnList = "status, created_at, id"),
+        @Index(name = "idx_posts_status_like_count", columnList = "status, like_count, id"),
+        @Index(name = "idx_posts_writer_created_at", columnList = "writer_id, created_at, id"),
+        @Index(name = "idx_posts_status_region_created_at", columnList = "status, region, created_at, id"),
+        @Index(name = "idx_posts_status_season_created_at", columnList = "status, season, created_at, id")
+})
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -31,6 +37,9 @@ import java.util.stream.Collectors;
 @Builder
 @EntityListeners(AuditingEntityListener.class)
 public class Post {
+    // 목록 미리보기 길이
+    public static final int EXCERPT_LENGTH = 20;
+    public static final int TAG_STRING_LENGTH = 1000;
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -46,9 +55,18 @@ public class Post {
     @Column(name = "contents", nullable = false, columnDefinition = "TEXT")
     private String contents;
 
+    // 목록용 비정규화 컬럼 - 본문 앞부분과 "#태그1 #태그2" 문자열 (목록 조회 시 TEXT 본문과 태그 행을 읽지 않도록 함)
+    @Column(name = "excerpt", length = EXCERPT_LENGTH)
+    private String excerpt;
+
+    @Column(name = "tag_string", length = TAG_STRING_LENGTH)
+    private String tagString;
+
     @Enumerated(EnumType.STRING)
     private Status status;
 
+    // 좋아요 수는 LikeCountBuffer 가 일괄 UPDATE 로만 반영 (엔티티 dirty checking 으로 덮어쓰지 않도록 함)
+    @Column(name = "like_count", updatable = false)
     private int likeCount;
     private int commentCount;
 
@@ -82,14 +100,6 @@ public class Post {
         writer=null;
     }
 
-    public void increaseLike() {
-        likeCount++;
-    }
-
-    public void decreaseLike() {
-        likeCount--;
-    }
-
     public void increaseComment() {commentCount++;}
 
     public void decreaseComment() {commentCount--;}
@@ -102,6 +112,7 @@ public class Post {
                 .content(tagContent)
                 .build();
         tags.add(tag);
+        refreshTagString();
     }
 
 
@@ -111,7 +122,15 @@ public class Post {
         }
     }
 
+    // 비정규화된 태그 문자열 (이관 전 행은 태그 컬렉션에서 계산)
     public String getTagStr() {
+        if (tagString != null) {
+            return tagString;
+        }
+        return joinTags();
+    }
+
+    private String joinTags() {
         String tagsStr = tags
                 .stream()
                 .map(PostTag::getContent)
@@ -130,7 +149,34 @@ public class Post {
         title = request.getTitle();
         contents = request.getContents();
         status = request.getStatus();
+        refreshExcerpt();
+
+    }
+
+    // 태그 컬렉션 변경 후 호출 (mappedBy 컬렉션 변경은 게시글 dirty checking 대상이 아님)
+    public void refreshTagString() {
+        String joined = joinTags();
+        if (joined.length() > TAG_STRING_LENGTH) {
+            joined = joined.substring(0, joined.lastIndexOf(' ', TAG_STRING_LENGTH));
+        }
+        tagString = joined;
+    }
+
+    public void refreshExcerpt() {
+        excerpt = excerptOf(contents);
+    }
+
+    // 본문 앞 EXCERPT_LENGTH 자
+    public static String excerptOf(String contents) {
+        return contents != null && contents.length() > EXCERPT_LENGTH
+                ? contents.substring(0, EXCERPT_LENGTH)
+                : contents;
+    }
 
+    @PrePersist
+    void refreshDenormalizedColumns() {
+        refreshExcerpt();
+        refreshTagString();
     }
 
 
@@ -0,0 +1,41 @@
+package org.example.flowday.domain.post.post.event;
+
+import lombok.RequiredArgsConstructor;
+import org.example.flowday.domain.post.comment.comment.event.dto.ReplyChangedEvent;
+import org.example.flowday.domain.post.post.event.dto.PostDeletedEvent;
+import org.example.flowday.domain.post.post.event.dto.PostUpdatedEvent;
+import org.example.flowday.global.config.CacheConfig;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// 게시글 상세 캐시 무효화 - 커밋된 변경만 반영되도록 트랜잭션 커밋 후 제거
+// (좋아요 수 변경은 LikeCountBuffer 가 DB 반영 직후 제거)
+@RequiredArgsConstructor
+@Component
+public class PostDetailCacheEventHandler {
+    private final CacheManager cacheManager;
+
+    @TransactionalEventListener
+    public void handle(PostUpdatedEvent event) {
+        evict(event.after().id());
+    }
+
+    @TransactionalEventListener
+    public void handle(PostDeletedEvent event) {
+        evict(event.post().id());
+    }
+
+    @TransactionalEventListener
+    public void handle(ReplyChangedEvent event) {
+        evict(event.postId());
+    }
+
+    private void evict(Long postId) {
+        Cache cache = cacheManager.getCache(CacheConfig.POST_DETAIL);
+        if (cache != null && postId != null) {
+            cache.evict(postId);
+        }
+    }
+}
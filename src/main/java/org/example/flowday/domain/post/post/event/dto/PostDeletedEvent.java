@@ -0,0 +1,6 @@
+package org.example.flowday.domain.post.post.event.dto;
+
+public record PostDeletedEvent(
+        PostSnapshot post
+) {
+}
@@ -0,0 +1,33 @@
+package org.example.flowday.domain.post.post.event.dto;
+
+import org.example.flowday.domain.post.post.entity.Post;
+import org.example.flowday.domain.post.post.entity.Status;
+import org.example.flowday.domain.post.tag.entity.PostTag;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 트랜잭션 커밋 후 리스너가 사용할 게시글 상태 (엔티티 대신 값만 전달)
+public record PostSnapshot(
+        Long id,
+        Long writerId,
+        Status status,
+        String region,
+        String season,
+        Long courseId,
+        LocalDateTime createdAt,
+        List<String> tags
+) {
+    public static PostSnapshot of(Post post) {
+        return new PostSnapshot(
+                post.getId(),
+                post.getWriter() != null ? post.getWriter().getId() : null,
+                post.getStatus(),
+                post.getRegion(),
+                post.getSeason(),
+                post.getCourse() != null ? post.getCourse().getId() : null,
+                post.getCreatedAt(),
+                post.getTags().stream().map(PostTag::getContent).toList()
+        );
+    }
+}
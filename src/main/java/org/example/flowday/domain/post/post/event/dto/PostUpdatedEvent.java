@@ -0,0 +1,7 @@
+package org.example.flowday.domain.post.post.event.dto;
+
+public record PostUpdatedEvent(
+        PostSnapshot before,
+        PostSnapshot after
+) {
+}
@@ -8,7 +8,10 @@ public enum PostException {
     POST_NOT_UPDATED("코스를 수정하는 데 실패했습니다.", HttpStatus.BAD_REQUEST),
     POST_NOT_DELETED("코스를 삭제하는 데 실패했습니다.", HttpStatus.BAD_REQUEST),
     POST_FORBIDDEN("게시글 작성자만 수정, 삭제 할 수 있습니다", HttpStatus.FORBIDDEN),
-    POST_IS_LIKE("게시글에 이미 좋아요를 눌렀습니다", HttpStatus.BAD_REQUEST );
+    POST_IS_LIKE("게시글에 이미 좋아요를 눌렀습니다", HttpStatus.BAD_REQUEST ),
+    INVALID_CURSOR("잘못된 커서 값입니다", HttpStatus.BAD_REQUEST),
+    INVALID_TREND_WINDOW("집계 기간은 24h 또는 7d 만 가능합니다", HttpStatus.BAD_REQUEST),
+    INVALID_IMAGE("10MB 이하의 이미지 파일(jpg, png, gif, webp)만 업로드할 수 있습니다", HttpStatus.BAD_REQUEST);
 
     private final String message;
     private final HttpStatus status;
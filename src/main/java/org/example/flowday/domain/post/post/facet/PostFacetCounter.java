@@ -0,0 +1,143 @@
+package org.example.flowday.domain.post.post.facet;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.example.flowday.domain.member.event.dto.PartnerDisconnectedEvent;
+import org.example.flowday.domain.post.post.dto.PostFilter;
+import org.example.flowday.domain.post.post.entity.QPost;
+import org.example.flowday.domain.post.post.entity.Status;
+import org.example.flowday.domain.post.post.event.dto.PostCreatedEvent;
+import org.example.flowday.domain.post.post.event.dto.PostDeletedEvent;
+import org.example.flowday.domain.post.post.event.dto.PostSnapshot;
+import org.example.flowday.domain.post.post.event.dto.PostUpdatedEvent;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * PUBLIC 게시글의 지역 / 계절 facet 수
+ * (지역, 계절, 코스 유무) 조합별 게시글 수를 메모리에 유지하고, 조회 시 다른 필터 조건에 맞는 조합만 합산합니다.
+ * 최초 조회 시 한 번 집계하고, 이후에는 게시글 생성/수정/삭제 이벤트로 증감합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PostFacetCounter {
+    private final JPAQueryFactory queryFactory;
+    private final Map<FacetKey, AtomicLong> counts = new ConcurrentHashMap<>();
+    private volatile boolean loaded;
+
+    public record FacetKey(String region, String season, boolean hasCourse) {
+    }
+
+    public record PostFacets(Map<String, Long> regions, Map<String, Long> seasons) {
+    }
+
+    // 지역별 수는 지역 조건을 제외한 필터로, 계절별 수는 계절 조건을 제외한 필터로 집계
+    public PostFacets facets(PostFilter filter) {
+        ensureLoaded();
+
+        Map<String, Long> regions = new TreeMap<>();
+        Map<String, Long> seasons = new TreeMap<>();
+        counts.forEach((key, count) -> {
+            long value = count.get();
+            if (value <= 0 || !matches(filter.hasCourse(), key.hasCourse())) {
+                return;
+            }
+            if (key.region() != null && matches(filter.season(), key.season())) {
+                regions.merge(key.region(), value, Long::sum);
+            }
+            if (key.season() != null && matches(filter.region(), key.region())) {
+                seasons.merge(key.season(), value, Long::sum);
+            }
+        });
+        return new PostFacets(regions, seasons);
+    }
+
+    @TransactionalEventListener
+    public void handle(PostCreatedEvent event) {
+        apply(event.post(), 1);
+    }
+
+    @TransactionalEventListener
+    public void handle(PostUpdatedEvent event) {
+        apply(event.before(), -1);
+        apply(event.after(), 1);
+    }
+
+    @TransactionalEventListener
+    public void handle(PostDeletedEvent event) {
+        apply(event.post(), -1);
+    }
+
+    // 게시글 상태가 일괄 변경되므로 다음 조회 시 다시 집계
+    @TransactionalEventListener
+    public void handle(PartnerDisconnectedEvent event) {
+        if (event.postsPrivatized()) {
+            loaded = false;
+        }
+    }
+
+    // 이벤트 반영 순서 등으로 생길 수 있는 오차 보정
+    @Scheduled(initialDelayString = "${custom.facet.reload-interval-ms:1800000}",
+            fixedDelayString = "${custom.facet.reload-interval-ms:1800000}")
+    public void invalidate() {
+        loaded = false;
+    }
+
+    // 집계 전에는 증감하지 않음 (집계 시 DB 값으로 채워짐)
+    private void apply(PostSnapshot post, long delta) {
+        if (!loaded || post.status() != Status.PUBLIC) {
+            return;
+        }
+        FacetKey key = new FacetKey(normalize(post.region()), normalize(post.season()), post.courseId() != null);
+        counts.computeIfAbsent(key, k -> new AtomicLong()).addAndGet(delta);
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        synchronized (this) {
+            if (loaded) {
+                return;
+            }
+            Map<FacetKey, AtomicLong> fresh = new HashMap<>();
+            load(QPost.post.course.isNotNull(), true, fresh);
+            load(QPost.post.course.isNull(), false, fresh);
+
+            counts.clear();
+            counts.putAll(fresh);
+            loaded = true;
+        }
+    }
+
+    private void load(BooleanExpression courseCondition, boolean hasCourse, Map<FacetKey, AtomicLong> target) {
+        QPost post = QPost.post;
+
+        List<Tuple> rows = queryFactory
+                .select(post.region, post.season, post.count())
+                .from(post)
+                .where(post.status.eq(Status.PUBLIC), courseCondition)
+                .groupBy(post.region, post.season)
+                .fetch();
+
+        for (Tuple row : rows) {
+            FacetKey key = new FacetKey(normalize(row.get(post.region)), normalize(row.get(post.season)), hasCourse);
+            target.computeIfAbsent(key, k -> new AtomicLong()).addAndGet(Optional.ofNullable(row.get(post.count())).orElse(0L));
+        }
+    }
+
+    private boolean matches(Object expected, Object actual) {
+        return expected == null || expected.equals(actual);
+    }
+
+    private String normalize(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+}
@@ -0,0 +1,140 @@
+package org.example.flowday.domain.post.post.ranking;
+
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.UnaryOperator;
+
+/**
+ * 인기 게시글 랭킹 (PUBLIC 게시글만)
+ * score = log10(max(1, 좋아요 + 댓글 * 2)) + 작성 시각(초) / GRAVITY_SECONDS
+ * 작성 시각 항이 시간 감쇠 역할을 하므로 점수는 좋아요/댓글이 바뀔 때만 다시 계산하면 되고,
+ * 정렬된 순서는 ConcurrentSkipListSet 에 유지하여 조회 시 정렬/집계 없이 상위 N 건을 읽습니다.
+ */
+@Component
+public class PostHotRanking {
+    // 12.5시간 늦게 작성된 글은 반응이 10배 많아야 같은 점수
+    static final double GRAVITY_SECONDS = 45_000;
+    static final int COMMENT_WEIGHT = 2;
+    private static final int MAX_ENTRIES = 100_000;
+
+    private static final Comparator<Ranked> ORDER = Comparator
+            .comparingDouble(Ranked::score).reversed()
+            .thenComparing(Ranked::id, Comparator.reverseOrder());
+
+    private final Map<Long, Ranked> entries = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListSet<Ranked> ranking = new ConcurrentSkipListSet<>(ORDER);
+
+    public record Ranked(Long id, Long writerId, int likes, int comments, LocalDateTime createdAt, double score) {
+
+        public static Ranked of(Long id, Long writerId, int likes, int comments, LocalDateTime createdAt) {
+            int safeLikes = Math.max(0, likes);
+            int safeComments = Math.max(0, comments);
+            return new Ranked(id, writerId, safeLikes, safeComments, createdAt, hotScore(safeLikes, safeComments, createdAt));
+        }
+
+        Ranked add(int likeDelta, int commentDelta) {
+            return of(id, writerId, likes + likeDelta, comments + commentDelta, createdAt);
+        }
+    }
+
+    static double hotScore(int likes, int comments, LocalDateTime createdAt) {
+        double reactions = Math.max(1, likes + (long) comments * COMMENT_WEIGHT);
+        long seconds = createdAt != null ? createdAt.toEpochSecond(ZoneOffset.UTC) : 0;
+        return Math.log10(reactions) + seconds / GRAVITY_SECONDS;
+    }
+
+    // offset 부터 limit 건 (점수 내림차순)
+    public List<Ranked> page(int offset, int limit) {
+        return collect(ranking.iterator(), offset, limit);
+    }
+
+    // (score, id) 다음 순위부터 limit 건 - 커서 조회용
+    public List<Ranked> after(double score, Long id, int limit) {
+        Ranked probe = new Ranked(id, null, 0, 0, null, score);
+        return collect(ranking.tailSet(probe, false).iterator(), 0, limit);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public void put(Ranked ranked) {
+        update(ranked.id(), current -> ranked);
+        evictOverflow();
+    }
+
+    // 랭킹에 있는 게시글만 증감 (없는 게시글은 PUBLIC 이 아니거나 상위권 밖)
+    public void add(Long postId, int likeDelta, int commentDelta) {
+        update(postId, current -> current != null ? current.add(likeDelta, commentDelta) : null);
+    }
+
+    public void remove(Long postId) {
+        update(postId, current -> null);
+    }
+
+    public void removeByWriter(Long writerId) {
+        for (Ranked ranked : entries.values()) {
+            if (Objects.equals(ranked.writerId(), writerId)) {
+                remove(ranked.id());
+            }
+        }
+    }
+
+    // 전체 재적재 - 목록에 없는 게시글은 제거
+    public void replaceAll(Collection<Ranked> rankedPosts) {
+        Set<Long> ids = new HashSet<>();
+        for (Ranked ranked : rankedPosts) {
+            ids.add(ranked.id());
+            update(ranked.id(), current -> ranked);
+        }
+        for (Long postId : entries.keySet()) {
+            if (!ids.contains(postId)) {
+                remove(postId);
+            }
+        }
+        evictOverflow();
+    }
+
+    // 게시글 단위로 map 과 정렬 집합을 함께 갱신
+    private void update(Long postId, UnaryOperator<Ranked> updater) {
+        entries.compute(postId, (id, current) -> {
+            Ranked next = updater.apply(current);
+            if (current != null) {
+                ranking.remove(current);
+            }
+            if (next != null) {
+                ranking.add(next);
+            }
+            return next;
+        });
+    }
+
+    // 최하위부터 제거
+    private void evictOverflow() {
+        while (entries.size() > MAX_ENTRIES) {
+            Ranked last = ranking.pollLast();
+            if (last == null) {
+                return;
+            }
+            entries.remove(last.id(), last);
+        }
+    }
+
+    private List<Ranked> collect(Iterator<Ranked> iterator, int offset, int limit) {
+        List<Ranked> result = new ArrayList<>();
+        int skipped = 0;
+        while (iterator.hasNext() && result.size() < limit) {
+            Ranked ranked = iterator.next();
+            if (skipped++ < offset) {
+                continue;
+            }
+            result.add(ranked);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,126 @@
+package org.example.flowday.domain.post.post.ranking;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.flowday.domain.member.event.dto.PartnerDisconnectedEvent;
+import org.example.flowday.domain.post.comment.comment.event.dto.ReplyChangedEvent;
+import org.example.flowday.domain.post.likes.event.dto.PostLikeChangedEvent;
+import org.example.flowday.domain.post.post.entity.QPost;
+import org.example.flowday.domain.post.post.entity.Status;
+import org.example.flowday.domain.post.post.event.dto.PostCreatedEvent;
+import org.example.flowday.domain.post.post.event.dto.PostDeletedEvent;
+import org.example.flowday.domain.post.post.event.dto.PostSnapshot;
+import org.example.flowday.domain.post.post.event.dto.PostUpdatedEvent;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 인기 게시글 랭킹 갱신
+ * 좋아요/댓글/게시글 이벤트로 해당 게시글 점수만 증분 갱신하고,
+ * 좋아요 일괄 반영 지연 등으로 생길 수 있는 오차는 주기적인 전체 재적재로 보정합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostHotRankingUpdater {
+    private static final int BATCH_SIZE = 1000;
+
+    private final PostHotRanking postHotRanking;
+    private final JPAQueryFactory queryFactory;
+
+    @TransactionalEventListener
+    public void handle(PostLikeChangedEvent event) {
+        postHotRanking.add(event.postId(), event.liked() ? 1 : -1, 0);
+    }
+
+    @TransactionalEventListener
+    public void handle(ReplyChangedEvent event) {
+        postHotRanking.add(event.postId(), 0, event.commentDelta());
+    }
+
+    @TransactionalEventListener
+    public void handle(PostCreatedEvent event) {
+        PostSnapshot post = event.post();
+        if (post.status() == Status.PUBLIC) {
+            postHotRanking.put(PostHotRanking.Ranked.of(post.id(), post.writerId(), 0, 0, post.createdAt()));
+        }
+    }
+
+    // 공개 범위가 바뀐 경우만 반영 (다시 PUBLIC 이 되면 현재 좋아요/댓글 수를 DB에서 읽음)
+    @TransactionalEventListener
+    public void handle(PostUpdatedEvent event) {
+        if (event.before().status() == event.after().status()) {
+            return;
+        }
+        if (event.after().status() != Status.PUBLIC) {
+            postHotRanking.remove(event.after().id());
+            return;
+        }
+        load(QPost.post.id.eq(event.after().id()), 1).forEach(postHotRanking::put);
+    }
+
+    @TransactionalEventListener
+    public void handle(PostDeletedEvent event) {
+        postHotRanking.remove(event.post().id());
+    }
+
+    // 연결 해제 시 작성자의 게시글이 모두 PRIVATE 로 바뀜
+    @TransactionalEventListener
+    public void handle(PartnerDisconnectedEvent event) {
+        if (event.postsPrivatized()) {
+            postHotRanking.removeByWriter(event.memberId());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${custom.ranking.rebuild-interval-ms:600000}",
+            fixedDelayString = "${custom.ranking.rebuild-interval-ms:600000}")
+    public void rebuild() {
+        QPost post = QPost.post;
+        List<PostHotRanking.Ranked> rankedPosts = new ArrayList<>();
+        Long lastId = 0L;
+
+        List<PostHotRanking.Ranked> batch;
+        do {
+            batch = load(post.id.gt(lastId), BATCH_SIZE);
+            rankedPosts.addAll(batch);
+            if (!batch.isEmpty()) {
+                lastId = batch.get(batch.size() - 1).id();
+            }
+        } while (batch.size() == BATCH_SIZE);
+
+        postHotRanking.replaceAll(rankedPosts);
+        log.info("인기 게시글 랭킹 적재 완료 - {}건", postHotRanking.size());
+    }
+
+    // 비정규화된 likeCount / commentCount 로 점수 계산 (ID 오름차순)
+    private List<PostHotRanking.Ranked> load(BooleanExpression condition, int limit) {
+        QPost post = QPost.post;
+
+        List<Tuple> rows = queryFactory
+                .select(post.id, post.writer.id, post.likeCount, post.commentCount, post.createdAt)
+                .from(post)
+                .where(condition, post.status.eq(Status.PUBLIC))
+                .orderBy(post.id.asc())
+                .limit(limit)
+                .fetch();
+
+        return rows.stream()
+                .map(row -> PostHotRanking.Ranked.of(
+                        row.get(post.id),
+                        row.get(post.writer.id),
+                        row.get(post.likeCount),
+                        row.get(post.commentCount),
+                        row.get(post.createdAt)))
+                .toList();
+    }
+}
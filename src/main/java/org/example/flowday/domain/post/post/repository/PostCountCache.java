@@ -0,0 +1,167 @@
+package org.example.flowday.domain.post.post.repository;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.example.flowday.domain.member.event.dto.PartnerDisconnectedEvent;
+import org.example.flowday.domain.post.post.entity.QPost;
+import org.example.flowday.domain.post.post.entity.Status;
+import org.example.flowday.domain.post.post.event.dto.PostCreatedEvent;
+import org.example.flowday.domain.post.post.event.dto.PostDeletedEvent;
+import org.example.flowday.domain.post.post.event.dto.PostSnapshot;
+import org.example.flowday.domain.post.post.event.dto.PostUpdatedEvent;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 상태별 / 작성자별 게시글 수 캐시
+ * 최초 조회 시에만 count 쿼리를 실행하고, 이후에는 게시글 이벤트로 값을 증감합니다.
+ * status == null 은 "모든 상태", writerId == null 은 "모든 작성자"를 의미합니다.
+ * count 쿼리는 맵 잠금 밖에서 실행하며, 조회 도중 커밋 중이거나 커밋된 게시글 변경이 있으면
+ * 결과를 캐시하지 않습니다 (쿼리 결과와 커밋 후 이벤트가 같은 게시글을 두 번 세지 않도록).
+ * 이벤트는 이 인스턴스에서 커밋된 변경만 받으므로, 다른 인스턴스의 변경이 반영되도록 주기적으로 비우고 다시 조회합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PostCountCache {
+    private static final int MAX_ENTRIES = 10_000;
+
+    private final JPAQueryFactory queryFactory;
+    // 최대 항목 수를 넘으면 오래 쓰이지 않은 키부터 제거
+    private final Map<CountKey, AtomicLong> counts = Caffeine.newBuilder()
+            .maximumSize(MAX_ENTRIES)
+            .<CountKey, AtomicLong>build()
+            .asMap();
+    // 커밋 직전 ~ 커밋 후 처리 완료 사이에 있는 게시글 변경 트랜잭션 수
+    private final AtomicInteger inFlight = new AtomicInteger();
+    // 커밋된 게시글 변경 이벤트 수
+    private final AtomicLong epoch = new AtomicLong();
+
+    // 상태별 전체 게시글 수
+    public long countByStatus(Status status) {
+        return count(new CountKey(status, null));
+    }
+
+    // 작성자의 게시글 수 (status == null 이면 모든 상태)
+    public long countByWriter(Long writerId, Status status) {
+        if (writerId == null) {
+            return 0;
+        }
+        return count(new CountKey(status, writerId));
+    }
+
+    private long count(CountKey key) {
+        AtomicLong cached = counts.get(key);
+        if (cached != null) {
+            return cached.get();
+        }
+
+        boolean quiet = inFlight.get() == 0;
+        long startEpoch = epoch.get();
+        long total = fetchCount(key);
+        if (!quiet) {
+            return total;
+        }
+
+        // 조회 도중 변경이 없었을 때만 저장 (저장과 이벤트 반영은 같은 키 잠금 안에서 순서가 정해짐)
+        AtomicLong stored = counts.compute(key, (k, current) -> {
+            if (current != null) {
+                return current;
+            }
+            return inFlight.get() == 0 && epoch.get() == startEpoch ? new AtomicLong(total) : null;
+        });
+        return stored != null ? stored.get() : total;
+    }
+
+    private long fetchCount(CountKey key) {
+        QPost post = QPost.post;
+
+        Long total = queryFactory
+                .select(post.count())
+                .from(post)
+                .where(
+                        key.status() != null ? post.status.eq(key.status()) : null,
+                        key.writerId() != null ? post.writer.id.eq(key.writerId()) : null
+                )
+                .fetchOne();
+
+        return total != null ? total : 0;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT,
+            classes = {PostCreatedEvent.class, PostUpdatedEvent.class, PostDeletedEvent.class, PartnerDisconnectedEvent.class})
+    public void beforeCommit() {
+        inFlight.incrementAndGet();
+    }
+
+    // 커밋 후 이벤트 반영(AFTER_COMMIT)이 끝난 뒤 호출 - 롤백이나 커밋 실패에도 호출됨
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION,
+            classes = {PostCreatedEvent.class, PostUpdatedEvent.class, PostDeletedEvent.class, PartnerDisconnectedEvent.class})
+    public void afterCompletion() {
+        inFlight.decrementAndGet();
+    }
+
+    @TransactionalEventListener
+    public void handle(PostCreatedEvent event) {
+        apply(event.post(), 1);
+    }
+
+    @TransactionalEventListener
+    public void handle(PostUpdatedEvent event) {
+        epoch.incrementAndGet();
+        if (event.before().status() == event.after().status()) {
+            return;
+        }
+        apply(event.before(), -1);
+        apply(event.after(), 1);
+    }
+
+    @TransactionalEventListener
+    public void handle(PostDeletedEvent event) {
+        apply(event.post(), -1);
+    }
+
+    // 파트너 연결 해제 시 작성자의 게시글이 모두 PRIVATE 로 바뀌므로 상태별 전체 집계와 해당 작성자의 집계를 다시 계산
+    @TransactionalEventListener
+    public void handle(PartnerDisconnectedEvent event) {
+        epoch.incrementAndGet();
+        if (!event.postsPrivatized()) {
+            return;
+        }
+        counts.keySet().removeIf(key -> key.writerId() == null || Objects.equals(key.writerId(), event.memberId()));
+    }
+
+    // 다른 인스턴스에서 커밋된 변경 / 이벤트 누락으로 생긴 오차 보정 - 비운 뒤 조회 시 count 쿼리로 다시 채움
+    // 비우기 전에 시작한 조회 결과는 저장하지 않음 (epoch 변경)
+    @Scheduled(initialDelayString = "${custom.post-count.reload-interval-ms:60000}",
+            fixedDelayString = "${custom.post-count.reload-interval-ms:60000}")
+    public void invalidate() {
+        epoch.incrementAndGet();
+        counts.clear();
+    }
+
+    // 이미 캐시된 키만 증감 (없는 키는 다음 조회 시 count 쿼리로 채워짐)
+    private void apply(PostSnapshot post, long delta) {
+        epoch.incrementAndGet();
+        if (post.status() != null) {
+            counts.computeIfPresent(new CountKey(post.status(), null), (k, v) -> add(v, delta));
+            counts.computeIfPresent(new CountKey(post.status(), post.writerId()), (k, v) -> add(v, delta));
+        }
+        counts.computeIfPresent(new CountKey(null, post.writerId()), (k, v) -> add(v, delta));
+    }
+
+    private AtomicLong add(AtomicLong value, long delta) {
+        value.updateAndGet(current -> Math.max(0, current + delta));
+        return value;
+    }
+
+    private record CountKey(Status status, Long writerId) {
+    }
+}
@@ -1,9 +1,25 @@
 package org.example.flowday.domain.post.post.repository;
 
 import org.example.flowday.domain.post.post.entity.Post;
+import org.example.flowday.domain.post.post.entity.Status;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface PostRepository extends JpaRepository<Post, Long> , PostRepositoryCustom {
+    // 검색 색인 재구성용 - ID 순 배치 조회
+    List<Post> findByStatusAndIdGreaterThanOrderByIdAsc(Status status, Long id, Pageable pageable);
+
+    // 작성자의 게시글 ID - 공개 범위 일괄 변경 시 검색 색인 정리용
+    @Query("select p.id from Post p where p.writer.id = :writerId")
+    List<Long> findIdsByWriterId(@Param("writerId") Long writerId);
+
+    // 비정규화 컬럼(excerpt, tag_string) 이관용 - 값이 비어있는 게시글을 ID 순으로 조회 (본문이 없어 excerpt 를 채울 수 없는 게시글은 제외)
+    @Query("select p from Post p where p.id > :id and ((p.excerpt is null and p.contents is not null) or p.tagString is null) order by p.id asc")
+    List<Post> findDenormalizationTargets(@Param("id") Long id, Pageable pageable);
 }
@@ -1,28 +1,57 @@
 package org.example.flowday.domain.post.post.repository;
 
 
-import org.example.flowday.domain.post.post.entity.Post;
+import org.example.flowday.domain.post.post.dto.PostBriefResponseDTO;
+import org.example.flowday.domain.post.post.dto.PostCursor;
+import org.example.flowday.domain.post.post.dto.PostFilter;
+import org.example.flowday.domain.post.post.entity.Status;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
+import java.util.Collection;
 import java.util.List;
 
 
 public interface PostRepositoryCustom {
-    Page<Post> searchLatestPost(Pageable pageable);
+    Page<PostBriefResponseDTO> searchLatestPost(Pageable pageable);
 
-    Page<Post> searchMostLikedPost(Pageable pageable);
+    Page<PostBriefResponseDTO> searchMyPost(Pageable pageable , Long memberId);
 
-    Page<Post> searchCouplePost(Pageable pageable , Long memberId , Long partnerId);
+    Page<PostBriefResponseDTO> searchMyLikePost(Pageable pageable , Long memberId);
 
-    Page<Post> searchMyPost(Pageable pageable , Long memberId);
+    Page<PostBriefResponseDTO> searchPrivatePost(Pageable pageable, Long memberId);
 
-    Page<Post> searchMyLikePost(Pageable pageable , List<Long> postIds);
+    Page<PostBriefResponseDTO> searchMyReplyPost(Pageable pageable, Long memberId);
 
-    Page<Post> searchPrivatePost(Pageable pageable, Long memberId);
+    Page<PostBriefResponseDTO> searchKwPost(Pageable pageable, String kw);
 
-    Page<Post> searchMyReplyPost(Pageable pageable, Long memberId);
+    // count 쿼리 없이 다음 페이지 여부만 확인하는 Slice 조회 (size + 1 건 조회)
+    Slice<PostBriefResponseDTO> searchLatestPostSlice(Pageable pageable);
 
-    Page<Post> searchKwPost(Pageable pageable, String kw);
+    Slice<PostBriefResponseDTO> searchMyPostSlice(Pageable pageable, Long memberId);
+
+    Slice<PostBriefResponseDTO> searchMyLikePostSlice(Pageable pageable, Long memberId);
+
+    // 커서 기반 조회 - hasNext 판단을 위해 size + 1 건까지 조회
+    List<PostBriefResponseDTO> searchLatestPostByCursor(PostCursor cursor, int size);
+
+    List<PostBriefResponseDTO> searchMyPostByCursor(PostCursor cursor, int size, Long memberId);
+
+    List<PostBriefResponseDTO> searchMyLikePostByCursor(PostCursor cursor, int size, Long memberId);
+
+    // 내 마지막 댓글 시간 순 (커서의 createdAt 은 마지막 댓글 시간)
+    List<PostBriefResponseDTO> searchMyReplyPostByCursor(PostCursor cursor, int size, Long memberId);
+
+    List<PostBriefResponseDTO> searchKwPostByCursor(PostCursor cursor, int size, String kw);
+
+    // 태그가 달린 PUBLIC 게시글 - 게시글 ID 내림차순 (커서의 id 는 게시글 ID)
+    List<PostBriefResponseDTO> searchTagPostByCursor(PostCursor cursor, int size, Long tagId);
+
+    // 지역/계절/공개 범위/코스 유무 필터 - 최신순 (COUPLE 은 본인과 파트너, PRIVATE 는 본인 게시글만)
+    List<PostBriefResponseDTO> searchFilteredPostByCursor(PostCursor cursor, int size, PostFilter filter, Long memberId, Long partnerId);
+
+    // 검색 색인 / 인기 랭킹 / 커플 타임라인 결과 ID 로 해당 상태의 게시글 목록 조회 (순서 보장 없음)
+    List<PostBriefResponseDTO> findBriefsByIds(Collection<Long> postIds, Status status);
 
 }
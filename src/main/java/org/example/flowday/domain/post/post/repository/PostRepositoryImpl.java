@@ -1,235 +1,472 @@
 package org.example.flowday.domain.post.post.repository;
 
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.DateTimeExpression;
+import com.querydsl.core.types.dsl.NumberPath;
 import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.example.flowday.domain.course.course.entity.QCourse;
 import org.example.flowday.domain.course.spot.entity.QSpot;
-import org.example.flowday.domain.member.entity.Member;
 import org.example.flowday.domain.member.entity.QMember;
 
 import org.example.flowday.domain.post.comment.comment.entity.QReply;
 import org.example.flowday.domain.post.likes.entity.QLikes;
-import org.example.flowday.domain.post.post.entity.Post;
+import org.example.flowday.domain.post.post.dto.PostBriefResponseDTO;
+import org.example.flowday.domain.post.post.dto.PostCursor;
+import org.example.flowday.domain.post.post.dto.PostFilter;
 import org.example.flowday.domain.post.post.entity.QPost;
 import org.example.flowday.domain.post.post.entity.Status;
 import org.example.flowday.domain.post.tag.entity.QPostTag;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 @Repository
 @RequiredArgsConstructor
 public class PostRepositoryImpl implements PostRepositoryCustom {
     private final JPAQueryFactory queryFactory;
+    private final PostCountCache postCountCache;
 
     //게시글 최신순 조회
     @Override
-    public Page<Post> searchLatestPost(Pageable pageable) {
+    public Page<PostBriefResponseDTO> searchLatestPost(Pageable pageable) {
         QPost post = QPost.post;
 
-        List<Post> content = queryFactory.
-                selectFrom(post)
+        List<PostBriefResponseDTO> content = selectBrief()
                 .where(post.status.eq(Status.PUBLIC))
                 .orderBy(post.createdAt.desc())
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .fetch();
 
-        long total = queryFactory
-                .selectFrom(post)
-                .fetch()
-                .size();
-
-        return new PageImpl<>(content, pageable, total);
-
-
+        return PageableExecutionUtils.getPage(content, pageable, () -> postCountCache.countByStatus(Status.PUBLIC));
     }
 
-    //좋아요 순 게시글 조회
+    //개인 PRIVATE 게시글 조회
     @Override
-    public Page<Post> searchMostLikedPost(Pageable pageable) {
+    public Page<PostBriefResponseDTO> searchPrivatePost(Pageable pageable, Long userId) {
         QPost post = QPost.post;
-        QLikes likes = QLikes.likes;
 
 
-        // 좋아요 수를 카운트하여 내림차순 정렬
-        List<Post> content = queryFactory
-                .selectFrom(post)
-                .leftJoin(likes).on(likes.postId.eq(post.id)) // Post와 Likes를 조인
-                .where(post.status.eq(Status.PUBLIC))
-                .groupBy(post.id) // Post별로 그룹화
-                .orderBy(likes.count().desc()) // 좋아요 수 기준 내림차순 정렬
-                .offset(pageable.getOffset()) // 페이지 시작점
-                .limit(pageable.getPageSize()) // 페이지 크기 제한
-                .fetch(); // 결과 조회
-
-        // 전체 게시글 수 조회
-        long total = queryFactory
-                .selectFrom(post)
-                .leftJoin(likes).on(likes.postId.eq(post.id))
-                .where(post.status.eq(Status.PUBLIC))
-                .groupBy(post.id)
-                .fetchCount(); // 게시글 수 카운트
+        List<PostBriefResponseDTO> posts = selectBrief()
+                .where(
+                        post.status.eq(Status.PRIVATE)
+                                .and(post.writer.id.eq(userId))
+                )
+                .orderBy(post.createdAt.desc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
 
-        return new PageImpl<>(content, pageable, total);
+        return PageableExecutionUtils.getPage(posts, pageable, () -> postCountCache.countByWriter(userId, Status.PRIVATE));
     }
 
-
-    //커플 게시글 조회
+    //내가 작성한 게시글들 조회
     @Override
-    public Page<Post> searchCouplePost(Pageable pageable, Long memberId, Long partnerId) {
+    public Page<PostBriefResponseDTO> searchMyPost(Pageable pageable, Long memberId) {
         QPost post = QPost.post;
 
         BooleanBuilder builder = new BooleanBuilder();
-        builder.and(post.status.eq(Status.COUPLE)); // 상태가 COUPLE인 게시글만 필터링
 
-        // 작성자가 현재 회원인 경우 또는 파트너인 경우 필터링
-        builder.and(
-                post.writer.id.eq(memberId)
-                        .or(partnerId != null ? post.writer.id.eq(partnerId) : null)
-        );
+        // 작성자가 현재 회원인 경우
+        builder.and(post.writer.id.eq(memberId));
 
-        List<Post> posts = queryFactory
-                .selectFrom(post)
+        // 쿼리로 게시글 목록 조회
+        List<PostBriefResponseDTO> posts = selectBrief()
                 .where(builder)
-                .orderBy(post.createdAt.desc()) // 최신순으로 정렬
-                .offset(pageable.getOffset()) // 페이지 시작점
-                .limit(pageable.getPageSize()) // 페이지 크기 제한
-                .fetch(); // 결과 조회
+                .orderBy(post.createdAt.desc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
 
-        return new PageImpl<>(posts, pageable, posts.size());
+        // 전체 게시글 수 조회 (작성자별 게시글 수 캐시)
+        return PageableExecutionUtils.getPage(posts, pageable, () -> postCountCache.countByWriter(memberId, null));
+    }
 
+    //내가 좋아요 누른 게시글 조회 - 좋아요 누른 순서(likes.id) 기준
+    @Override
+    public Page<PostBriefResponseDTO> searchMyLikePost(Pageable pageable, Long memberId) {
+        QLikes likes = QLikes.likes;
 
+        List<PostBriefResponseDTO> posts = selectLikedBrief(memberId)
+                .orderBy(likes.id.desc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        // 전체 게시글 수 조회 (삭제된 게시글의 좋아요는 제외)
+        return PageableExecutionUtils.getPage(posts, pageable, () -> queryFactory
+                .select(likes.count())
+                .from(likes)
+                .join(QPost.post).on(QPost.post.id.eq(likes.postId))
+                .where(likes.memberId.eq(memberId))
+                .fetchOne());
     }
 
-    //개인 PRIVATE 게시글 조회
+    //내가 댓글 단 게시글 조회 - 조인 후 중복 제거 대신 EXISTS 세미 조인
     @Override
-    public Page<Post> searchPrivatePost(Pageable pageable, Long userId) {
+    public Page<PostBriefResponseDTO> searchMyReplyPost(Pageable pageable, Long memberId) {
         QPost post = QPost.post;
 
+        List<PostBriefResponseDTO> posts = selectBrief()
+                .where(repliedBy(memberId))
+                .orderBy(post.createdAt.desc(), post.id.desc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
 
-        List<Post> posts = queryFactory
-                .selectFrom(post)
-                .where(
-                        post.status.eq(Status.PRIVATE)
-                                .and(post.writer.id.eq(userId))
-                )
-                .orderBy(post.createdAt.desc())
+        return PageableExecutionUtils.getPage(posts, pageable, () -> queryFactory
+                .select(post.count())
+                .from(post)
+                .where(repliedBy(memberId))
+                .fetchOne());
+    }
+
+    @Override
+    public Page<PostBriefResponseDTO> searchKwPost(Pageable pageable, String kw) {
+        // Q 클래스 인스턴스 생성
+        QPost post = QPost.post;
+        QCourse course = QCourse.course;
+        QMember writer = QMember.member;
+
+        BooleanExpression finalCondition = kwCondition(kw);
+
+        // 쿼리 생성
+        List<PostBriefResponseDTO> posts = selectBrief()
+                .leftJoin(post.course, course)
+                .where(finalCondition)
+                .orderBy(post.id.desc())
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .fetch();
 
+        // 전체 결과 수 조회
+        long total = queryFactory.select(post.count())
+                .from(post)
+                .leftJoin(post.writer, writer)
+                .leftJoin(post.course, course)
+                .where(finalCondition)
+                .fetchOne();
 
-        return new PageImpl<>(posts, pageable, posts.size());
+        // 페이지 생성 및 반환
+        return new PageImpl<>(posts, pageable, total);
+    }
 
+    //게시글 최신순 조회 - Slice
+    @Override
+    public Slice<PostBriefResponseDTO> searchLatestPostSlice(Pageable pageable) {
+        QPost post = QPost.post;
+
+        List<PostBriefResponseDTO> content = selectBrief()
+                .where(post.status.eq(Status.PUBLIC))
+                .orderBy(post.createdAt.desc(), post.id.desc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize() + 1)
+                .fetch();
 
+        return toSlice(content, pageable);
     }
 
-    //내가 작성한 게시글들 조회
+    //내가 작성한 게시글들 조회 - Slice
     @Override
-    public Page<Post> searchMyPost(Pageable pageable, Long memberId) {
+    public Slice<PostBriefResponseDTO> searchMyPostSlice(Pageable pageable, Long memberId) {
         QPost post = QPost.post;
 
-        BooleanBuilder builder = new BooleanBuilder();
+        List<PostBriefResponseDTO> content = selectBrief()
+                .where(post.writer.id.eq(memberId))
+                .orderBy(post.createdAt.desc(), post.id.desc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize() + 1)
+                .fetch();
 
-        // 작성자가 현재 회원인 경우
-        builder.and(post.writer.id.eq(memberId));
+        return toSlice(content, pageable);
+    }
 
-        // 쿼리로 게시글 목록 조회
-        List<Post> posts = queryFactory
-                .selectFrom(post)
-                .where(builder)
-                .orderBy(post.createdAt.desc())
+    //내가 좋아요 누른 게시글 조회 - Slice
+    @Override
+    public Slice<PostBriefResponseDTO> searchMyLikePostSlice(Pageable pageable, Long memberId) {
+        QLikes likes = QLikes.likes;
+
+        List<PostBriefResponseDTO> content = selectLikedBrief(memberId)
+                .orderBy(likes.id.desc())
                 .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
+                .limit(pageable.getPageSize() + 1)
                 .fetch();
 
-        // 전체 게시글 수 조회
-        long total = queryFactory
-                .selectFrom(post)
-                .fetch()
-                .size();
+        return toSlice(content, pageable);
+    }
 
-        return new PageImpl<>(posts, pageable, total);
+    @Override
+    public List<PostBriefResponseDTO> findBriefsByIds(Collection<Long> postIds, Status status) {
+        if (postIds == null || postIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        QPost post = QPost.post;
+
+        return selectBrief()
+                .where(post.id.in(postIds), post.status.eq(status))
+                .fetch();
+    }
+
+    // 회원이 좋아요 누른 게시글 - likes 에서 출발해 게시글을 조인 (좋아요 ID를 함께 조회)
+    private JPAQuery<PostBriefResponseDTO> selectLikedBrief(Long memberId) {
+        QLikes likes = QLikes.likes;
+        QPost post = QPost.post;
+        QMember writer = QMember.member;
+
+        return queryFactory
+                .select(Projections.constructor(PostBriefResponseDTO.class,
+                        post.id,
+                        post.title,
+                        post.excerpt,
+                        post.commentCount,
+                        post.likeCount,
+                        post.createdAt,
+                        post.status,
+                        writer.name,
+                        post.tagString,
+                        likes.id))
+                .from(likes)
+                .join(post).on(post.id.eq(likes.postId))
+                .leftJoin(post.writer, writer)
+                .where(likes.memberId.eq(memberId));
+    }
+
+    // 목록 화면에 필요한 컬럼만 조회 (본문 TEXT 와 태그 행 대신 비정규화 컬럼 excerpt, tag_string 사용)
+    private JPAQuery<PostBriefResponseDTO> selectBrief() {
+        QPost post = QPost.post;
+        QMember writer = QMember.member;
+
+        return queryFactory
+                .select(Projections.constructor(PostBriefResponseDTO.class,
+                        post.id,
+                        post.title,
+                        post.excerpt,
+                        post.commentCount,
+                        post.likeCount,
+                        post.createdAt,
+                        post.status,
+                        writer.name,
+                        post.tagString))
+                .from(post)
+                .leftJoin(post.writer, writer);
     }
 
-    //내가 좋아요 누른 게시글 조회
+    // size + 1 건 조회 결과로 다음 페이지 여부 판단
+    private <T> Slice<T> toSlice(List<T> content, Pageable pageable) {
+        boolean hasNext = content.size() > pageable.getPageSize();
+        if (hasNext) {
+            content = content.subList(0, pageable.getPageSize());
+        }
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    //게시글 최신순 조회 - 커서
     @Override
-    public Page<Post> searchMyLikePost(Pageable pageable, List<Long> postIds) {
+    public List<PostBriefResponseDTO> searchLatestPostByCursor(PostCursor cursor, int size) {
         QPost post = QPost.post;
 
-        BooleanBuilder builder = new BooleanBuilder();
+        return selectBrief()
+                .where(post.status.eq(Status.PUBLIC), createdAtCursor(cursor))
+                .orderBy(post.createdAt.desc(), post.id.desc())
+                .limit(size + 1)
+                .fetch();
+    }
 
-        // 특정 ID들의 게시글 조회
-        builder.and(post.id.in(postIds));
+    //내가 작성한 게시글들 조회 - 커서
+    @Override
+    public List<PostBriefResponseDTO> searchMyPostByCursor(PostCursor cursor, int size, Long memberId) {
+        QPost post = QPost.post;
 
-        // 쿼리로 게시글 목록 조회
-        List<Post> posts = queryFactory
-                .selectFrom(post)
-                .where(builder)
-                .orderBy(post.createdAt.desc())
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
+        return selectBrief()
+                .where(post.writer.id.eq(memberId), createdAtCursor(cursor))
+                .orderBy(post.createdAt.desc(), post.id.desc())
+                .limit(size + 1)
                 .fetch();
+    }
 
-        // 전체 게시글 수 조회
-        long total = queryFactory
-                .selectFrom(post)
-                .fetch()
-                .size();
+    //내가 좋아요 누른 게시글 조회 - 커서 (좋아요 ID 기준)
+    @Override
+    public List<PostBriefResponseDTO> searchMyLikePostByCursor(PostCursor cursor, int size, Long memberId) {
+        QLikes likes = QLikes.likes;
 
-        return new PageImpl<>(posts, pageable, total);
+        return selectLikedBrief(memberId)
+                .where(cursor != null ? likes.id.lt(cursor.getId()) : null)
+                .orderBy(likes.id.desc())
+                .limit(size + 1)
+                .fetch();
     }
 
+    //내가 댓글 단 게시글 조회 - 커서 (내 마지막 댓글 시간 기준)
     @Override
-    public Page<Post> searchMyReplyPost(Pageable pageable, Long memberId) {
-        QPost post = QPost.post;
+    public List<PostBriefResponseDTO> searchMyReplyPostByCursor(PostCursor cursor, int size, Long memberId) {
         QReply reply = QReply.reply;
+        QPost post = QPost.post;
+        NumberPath<Long> postId = reply.post.id;
+        DateTimeExpression<LocalDateTime> lastRepliedAt = reply.createdAt.max();
+
+        // 1) (member_id, post_id, created_at) 인덱스만으로 게시글별 마지막 댓글 시간을 구해 한 페이지만큼 자름
+        BooleanExpression having = null;
+        if (cursor != null && cursor.getCreatedAt() != null) {
+            having = lastRepliedAt.lt(cursor.getCreatedAt())
+                    .or(lastRepliedAt.eq(cursor.getCreatedAt()).and(postId.lt(cursor.getId())));
+        }
 
-        List<Post> posts = queryFactory
-                .selectDistinct(post)
-                .from(post)
-                .join(post.replies, reply)
+        List<Tuple> rows = queryFactory
+                .select(postId, lastRepliedAt)
+                .from(reply)
                 .where(reply.member.id.eq(memberId))
-                .orderBy(post.createdAt.desc())
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
+                .groupBy(postId)
+                .having(having)
+                .orderBy(lastRepliedAt.desc(), postId.desc())
+                .limit(size + 1)
                 .fetch();
 
-        long total = queryFactory
-                .selectDistinct(post)
-                .from(post)
-                .join(post.replies, reply)
-                .where(reply.member.id.eq(memberId))
-                .fetchCount();
+        if (rows.isEmpty()) {
+            return new ArrayList<>();
+        }
 
-        return new PageImpl<>(posts, pageable, total);
+        // 2) 해당 페이지의 게시글만 조회한 뒤 댓글 시간 순서로 정렬
+        Map<Long, LocalDateTime> repliedAtByPostId = new LinkedHashMap<>();
+        for (Tuple row : rows) {
+            repliedAtByPostId.put(row.get(postId), row.get(lastRepliedAt));
+        }
+
+        Map<Long, PostBriefResponseDTO> postsById = new HashMap<>();
+        for (PostBriefResponseDTO brief : selectBrief().where(post.id.in(repliedAtByPostId.keySet())).fetch()) {
+            postsById.put(brief.getId(), brief);
+        }
+
+        List<PostBriefResponseDTO> posts = new ArrayList<>(rows.size());
+        repliedAtByPostId.forEach((id, repliedAt) -> {
+            PostBriefResponseDTO brief = postsById.get(id);
+            if (brief != null) {
+                brief.setLastRepliedAt(repliedAt);
+                posts.add(brief);
+            }
+        });
+        return posts;
     }
 
+    //키워드 검색 - 커서
     @Override
-    public Page<Post> searchKwPost(Pageable pageable, String kw) {
-        // Q 클래스 인스턴스 생성
+    public List<PostBriefResponseDTO> searchKwPostByCursor(PostCursor cursor, int size, String kw) {
         QPost post = QPost.post;
-        QPostTag postTag = QPostTag.postTag;
         QCourse course = QCourse.course;
-        QSpot spot = QSpot.spot;
-        QMember writer = QMember.member;
 
-        // 검색어를 소문자로 변환하여 대소문자 구분 없이 검색합니다.
-        String lowerKw = kw.toLowerCase();
+        return selectBrief()
+                .leftJoin(post.course, course)
+                .where(kwCondition(kw), createdAtCursor(cursor))
+                .orderBy(post.createdAt.desc(), post.id.desc())
+                .limit(size + 1)
+                .fetch();
+    }
+
+    //태그별 게시글 조회 - 커서 (post_tag 의 (tag_id, post_id) 인덱스 순서로 조회)
+    @Override
+    public List<PostBriefResponseDTO> searchTagPostByCursor(PostCursor cursor, int size, Long tagId) {
+        QPost post = QPost.post;
+        QPostTag postTag = QPostTag.postTag;
+
+        return selectBrief()
+                .join(postTag).on(postTag.post.id.eq(post.id))
+                .where(postTag.tag.id.eq(tagId),
+                        post.status.eq(Status.PUBLIC),
+                        cursor != null ? post.id.lt(cursor.getId()) : null)
+                .orderBy(post.id.desc())
+                .limit(size + 1)
+                .fetch();
+    }
+
+    //필터 게시글 조회 - 커서 (최신순)
+    @Override
+    public List<PostBriefResponseDTO> searchFilteredPostByCursor(PostCursor cursor, int size, PostFilter filter, Long memberId, Long partnerId) {
+        QPost post = QPost.post;
+
+        return selectBrief()
+                .where(visibleTo(filter.status(), memberId, partnerId),
+                        filter.region() != null ? post.region.eq(filter.region()) : null,
+                        filter.season() != null ? post.season.eq(filter.season()) : null,
+                        hasCourse(filter.hasCourse()),
+                        createdAtCursor(cursor))
+                .orderBy(post.createdAt.desc(), post.id.desc())
+                .limit(size + 1)
+                .fetch();
+    }
+
+    // 공개 범위별로 조회 가능한 게시글
+    private BooleanExpression visibleTo(Status status, Long memberId, Long partnerId) {
+        QPost post = QPost.post;
+
+        return switch (status) {
+            case PUBLIC -> post.status.eq(Status.PUBLIC);
+            case COUPLE -> post.status.eq(Status.COUPLE)
+                    .and(partnerId != null ? post.writer.id.in(memberId, partnerId) : post.writer.id.eq(memberId));
+            case PRIVATE -> post.status.eq(Status.PRIVATE).and(post.writer.id.eq(memberId));
+        };
+    }
+
+    private BooleanExpression hasCourse(Boolean hasCourse) {
+        if (hasCourse == null) {
+            return null;
+        }
+        QPost post = QPost.post;
+
+        return hasCourse ? post.course.isNotNull() : post.course.isNull();
+    }
+
+    // (createdAt, id) 내림차순 커서 조건 - 커서가 없으면 첫 페이지
+    private BooleanExpression createdAtCursor(PostCursor cursor) {
+        if (cursor == null || cursor.getCreatedAt() == null) {
+            return null;
+        }
+        QPost post = QPost.post;
+
+        return post.createdAt.lt(cursor.getCreatedAt())
+                .or(post.createdAt.eq(cursor.getCreatedAt()).and(post.id.lt(cursor.getId())));
+    }
+
+    // 회원이 댓글을 단 게시글 (EXISTS)
+    private BooleanExpression repliedBy(Long memberId) {
+        QPost post = QPost.post;
+        QReply reply = QReply.reply;
+
+        return JPAExpressions
+                .selectOne()
+                .from(reply)
+                .where(reply.member.id.eq(memberId), reply.post.id.eq(post.id))
+                .exists();
+    }
+
+    // 키워드 검색 조건 - PUBLIC 게시글 중 제목, 내용, 작성자, 지역, 계절, 태그, 코스, 장소 대상
+    private BooleanExpression kwCondition(String kw) {
+        QPost post = QPost.post;
+        QPostTag postTag = QPostTag.postTag;
+        QSpot spot = QSpot.spot;
 
         // 조건을 담을 리스트 생성
         List<BooleanExpression> conditions = new ArrayList<>();
 
         if (kw != null && !kw.isBlank()) {
+            // 검색어를 소문자로 변환하여 대소문자 구분 없이 검색합니다.
+            String lowerKw = kw.toLowerCase();
 
             // 제목에 키워드가 포함되는지 검사
             conditions.add(post.title.lower().contains(lowerKw));
@@ -275,32 +512,10 @@ public class PostRepositoryImpl implements PostRepositoryCustom {
         BooleanExpression statusCondition = post.status.eq(Status.PUBLIC);
 
         // 최종 조건 결합
-        BooleanExpression finalCondition = statusCondition;
-
         if (predicate != null) {
-            finalCondition = finalCondition.and(predicate);
+            return statusCondition.and(predicate);
         }
-
-        // 쿼리 생성
-        List<Post> posts = queryFactory.selectFrom(post)
-                .leftJoin(post.writer, writer)
-                .leftJoin(post.course, course)
-                .where(finalCondition)
-                .orderBy(post.id.desc())
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetch();
-
-        // 전체 결과 수 조회
-        long total = queryFactory.select(post.count())
-                .from(post)
-                .leftJoin(post.writer, writer)
-                .leftJoin(post.course, course)
-                .where(finalCondition)
-                .fetchOne();
-
-        // 페이지 생성 및 반환
-        return new PageImpl<>(posts, pageable, total);
+        return statusCondition;
     }
 
 
@@ -0,0 +1,100 @@
+package org.example.flowday.domain.post.post.search;
+
+import org.example.flowday.domain.course.course.entity.Course;
+import org.example.flowday.domain.course.spot.entity.Spot;
+import org.example.flowday.domain.post.post.entity.Post;
+import org.example.flowday.domain.post.tag.entity.PostTag;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 검색 색인 단위 - 게시글에서 검색 대상 필드만 추린 스냅샷
+public record PostSearchDocument(
+        Long id,
+        LocalDateTime createdAt,
+        String title,
+        String contents,
+        String writerName,
+        String region,
+        String season,
+        List<String> tags,
+        String courseTitle,
+        List<String> spotNames
+) {
+    // 필드 가중치 - 제목/태그 일치를 본문 일치보다 높게 평가
+    private static final int TITLE_WEIGHT = 3;
+    private static final int TAG_WEIGHT = 2;
+
+    public static PostSearchDocument of(Post post) {
+        Course course = post.getCourse();
+
+        return new PostSearchDocument(
+                post.getId(),
+                post.getCreatedAt(),
+                post.getTitle(),
+                post.getContents(),
+                post.getWriter() != null ? post.getWriter().getName() : null,
+                post.getRegion(),
+                post.getSeason(),
+                post.getTags().stream().map(PostTag::getContent).toList(),
+                course != null ? course.getTitle() : null,
+                course != null && course.getSpots() != null
+                        ? course.getSpots().stream().map(Spot::getName).toList()
+                        : List.of()
+        );
+    }
+
+    // 색인할 토큰별 (가중) 출현 빈도
+    public Map<String, Integer> termFrequencies() {
+        Map<String, Integer> tf = new HashMap<>();
+
+        add(tf, title, TITLE_WEIGHT);
+        add(tf, contents, 1);
+        add(tf, writerName, 1);
+        add(tf, region, 1);
+        add(tf, season, 1);
+        tags.forEach(tag -> add(tf, tag, TAG_WEIGHT));
+        add(tf, courseTitle, 1);
+        spotNames.forEach(spotName -> add(tf, spotName, 1));
+
+        // 초성/자모 검색 대상은 제목, 태그, 장소 이름
+        addKorean(tf, title, TITLE_WEIGHT);
+        tags.forEach(tag -> addKorean(tf, tag, TAG_WEIGHT));
+        spotNames.forEach(spotName -> addKorean(tf, spotName, 1));
+
+        return tf;
+    }
+
+    // 후보 검증용 - 단어 검색 대상 필드를 이은 문자열
+    public String wordText() {
+        List<String> texts = new ArrayList<>(Arrays.asList(title, contents, writerName, region, season, courseTitle));
+        texts.addAll(tags);
+        texts.addAll(spotNames);
+        return SearchTokenizer.joinWords(texts);
+    }
+
+    // 후보 검증용 - 초성/자모 검색 대상 필드를 이은 문자열
+    public String koreanText() {
+        List<String> texts = new ArrayList<>();
+        texts.add(title);
+        texts.addAll(tags);
+        texts.addAll(spotNames);
+        return SearchTokenizer.joinWords(texts);
+    }
+
+    private static void add(Map<String, Integer> tf, String text, int weight) {
+        for (String token : SearchTokenizer.tokenize(text)) {
+            tf.merge(token, weight, Integer::sum);
+        }
+    }
+
+    private static void addKorean(Map<String, Integer> tf, String text, int weight) {
+        for (String token : SearchTokenizer.koreanTokens(text)) {
+            tf.merge(token, weight, Integer::sum);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package org.example.flowday.domain.post.post.search;
+
+import lombok.RequiredArgsConstructor;
+import org.example.flowday.domain.post.post.entity.Status;
+import org.example.flowday.domain.post.post.repository.PostRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+// 색인할 게시글 조회 - 태그, 코스, 장소 지연 로딩을 위해 트랜잭션 안에서 문서로 변환
+@Component
+@RequiredArgsConstructor
+public class PostSearchDocumentLoader {
+    private final PostRepository postRepository;
+
+    // 커밋 후 이벤트에서 호출되므로 새 트랜잭션으로 조회
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public Optional<PostSearchDocument> loadPublic(Long postId) {
+        return postRepository.findById(postId)
+                .filter(post -> post.getStatus() == Status.PUBLIC)
+                .map(PostSearchDocument::of);
+    }
+
+    // ID 순으로 afterId 이후의 PUBLIC 게시글 size 건
+    @Transactional(readOnly = true)
+    public List<PostSearchDocument> loadPublicAfter(Long afterId, int size) {
+        return postRepository.findByStatusAndIdGreaterThanOrderByIdAsc(Status.PUBLIC, afterId, PageRequest.of(0, size))
+                .stream()
+                .map(PostSearchDocument::of)
+                .toList();
+    }
+
+    // 작성자의 게시글 ID (공개 범위 일괄 변경 반영용)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public List<Long> loadPostIdsByWriter(Long writerId) {
+        return postRepository.findIdsByWriterId(writerId);
+    }
+}
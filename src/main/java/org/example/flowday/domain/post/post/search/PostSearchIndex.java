@@ -0,0 +1,215 @@
+package org.example.flowday.domain.post.post.search;
+
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * PUBLIC 게시글 전문 검색용 메모리 역색인
+ * 토큰 -> (게시글 ID -> 가중 빈도) posting 을 유지하고 BM25 로 점수를 매깁니다.
+ * 검색어의 모든 토큰을 포함하는 게시글 중 원문에 검색어 단어가 연속으로 있는 게시글만 결과에 포함합니다.
+ * 초성(ㅅㅇ)과 입력 중인 글자(서ㅇ) 검색은 SearchTokenizer 의 초성/자모 토큰으로 처리합니다.
+ */
+@Component
+public class PostSearchIndex {
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    private Map<Long, IndexedDoc> docs = new HashMap<>();
+    private long totalLength;
+
+    // 게시글 색인 (이미 있으면 교체)
+    public void index(PostSearchDocument document) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(document.id());
+            addInternal(document);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long postId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(postId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 전체 재색인 - 새 색인을 만든 뒤 한 번에 교체
+    public void replaceAll(Collection<PostSearchDocument> documents) {
+        PostSearchIndex rebuilt = new PostSearchIndex();
+        documents.forEach(rebuilt::addInternal);
+
+        lock.writeLock().lock();
+        try {
+            postings = rebuilt.postings;
+            docs = rebuilt.docs;
+            totalLength = rebuilt.totalLength;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docs.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // BM25 점수 순 검색 (동점이면 최신 게시글 우선)
+    public SearchHits search(String query, int offset, int limit) {
+        lock.readLock().lock();
+        try {
+            Map<Long, Double> scores = score(query);
+
+            List<Long> ids = scores.entrySet().stream()
+                    .sorted(Map.Entry.<Long, Double>comparingByValue().reversed()
+                            .thenComparing(Map.Entry.<Long, Double>comparingByKey().reversed()))
+                    .skip(offset)
+                    .limit(limit)
+                    .map(Map.Entry::getKey)
+                    .toList();
+
+            return new SearchHits(ids, scores.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 최신순 검색 - (작성일, ID) 가 커서보다 이전인 게시글만 (커서 페이지용)
+    public List<Long> searchLatest(String query, LocalDateTime cursorCreatedAt, Long cursorId, int limit) {
+        lock.readLock().lock();
+        try {
+            Comparator<IndexedDoc> latestFirst = Comparator
+                    .comparing(IndexedDoc::createdAt, Comparator.nullsLast(Comparator.reverseOrder()))
+                    .thenComparing(IndexedDoc::id, Comparator.reverseOrder());
+
+            return score(query).keySet().stream()
+                    .map(docs::get)
+                    .filter(doc -> cursorCreatedAt == null || isBefore(doc, cursorCreatedAt, cursorId))
+                    .sorted(latestFirst)
+                    .limit(limit)
+                    .map(IndexedDoc::id)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private boolean isBefore(IndexedDoc doc, LocalDateTime cursorCreatedAt, Long cursorId) {
+        if (doc.createdAt() == null) {
+            return true;
+        }
+        int compare = doc.createdAt().compareTo(cursorCreatedAt);
+        return compare < 0 || (compare == 0 && doc.id() < cursorId);
+    }
+
+    // 모든 검색 토큰을 포함하고 원문 일치가 확인된 게시글의 BM25 점수
+    private Map<Long, Double> score(String query) {
+        Set<String> terms = new LinkedHashSet<>(SearchTokenizer.queryTokens(query));
+        List<String> words = SearchTokenizer.words(query);
+        if (terms.isEmpty() || docs.isEmpty()) {
+            return new HashMap<>();
+        }
+
+        List<Map<Long, Integer>> termPostings = new ArrayList<>(terms.size());
+        for (String term : terms) {
+            Map<Long, Integer> posting = postings.get(term);
+            if (posting == null) {
+                return new HashMap<>();
+            }
+            termPostings.add(posting);
+        }
+        // 가장 짧은 posting 부터 교집합
+        termPostings.sort(Comparator.comparingInt(Map::size));
+
+        int docCount = docs.size();
+        double avgLength = (double) totalLength / docCount;
+
+        Map<Long, Double> scores = new HashMap<>();
+        candidates:
+        for (Long postId : termPostings.get(0).keySet()) {
+            IndexedDoc doc = docs.get(postId);
+            double score = 0;
+            for (Map<Long, Integer> posting : termPostings) {
+                Integer tf = posting.get(postId);
+                if (tf == null) {
+                    continue candidates;
+                }
+                double idf = Math.log(1 + (docCount - posting.size() + 0.5) / (posting.size() + 0.5));
+                double norm = K1 * (1 - B + B * doc.length() / avgLength);
+                score += idf * (tf * (K1 + 1)) / (tf + norm);
+            }
+            // n-gram 이 흩어져 있는 경우 제외 (서울역 -> "서울" + "울역")
+            if (matches(doc, words)) {
+                scores.put(postId, score);
+            }
+        }
+        return scores;
+    }
+
+    private boolean matches(IndexedDoc doc, List<String> words) {
+        for (String word : words) {
+            if (!SearchTokenizer.matches(word, doc.text(), doc.koreanChosung(), doc.koreanJamo())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void addInternal(PostSearchDocument document) {
+        Map<String, Integer> tf = document.termFrequencies();
+        int length = tf.values().stream().mapToInt(Integer::intValue).sum();
+        String koreanText = document.koreanText();
+
+        tf.forEach((term, freq) -> postings.computeIfAbsent(term, t -> new HashMap<>()).put(document.id(), freq));
+        docs.put(document.id(), new IndexedDoc(document.id(), document.createdAt(), length, tf.keySet(),
+                document.wordText(), SearchTokenizer.chosung(koreanText), SearchTokenizer.jamo(koreanText)));
+        totalLength += length;
+    }
+
+    private void removeInternal(Long postId) {
+        IndexedDoc doc = docs.remove(postId);
+        if (doc == null) {
+            return;
+        }
+
+        for (String term : doc.terms()) {
+            Map<Long, Integer> posting = postings.get(term);
+            if (posting != null) {
+                posting.remove(postId);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+        totalLength -= doc.length();
+    }
+
+    public record SearchHits(List<Long> ids, long total) {
+    }
+
+    // text / koreanChosung / koreanJamo - 후보 검증용 원문 (SearchTokenizer.matches 참고)
+    private record IndexedDoc(Long id, LocalDateTime createdAt, int length, Set<String> terms,
+                              String text, String koreanChosung, String koreanJamo) {
+    }
+}
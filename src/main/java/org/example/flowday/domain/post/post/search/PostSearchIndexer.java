@@ -0,0 +1,114 @@
+package org.example.flowday.domain.post.post.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.flowday.domain.member.event.dto.PartnerDisconnectedEvent;
+import org.example.flowday.domain.post.post.event.dto.PostCreatedEvent;
+import org.example.flowday.domain.post.post.event.dto.PostDeletedEvent;
+import org.example.flowday.domain.post.post.event.dto.PostUpdatedEvent;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 검색 색인 갱신
+ * 게시글 생성/수정/삭제 이벤트로 해당 게시글만 다시 색인하고,
+ * 이벤트가 없는 변경(작성자 이름, 코스/장소 이름 등)은 주기적인 전체 재색인으로 반영합니다.
+ * 전체 재색인 도중 들어온 이벤트의 게시글은 기록해 두었다가 색인 교체 후 DB 에서 다시 읽어 반영합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostSearchIndexer {
+    private static final int BATCH_SIZE = 500;
+
+    private final PostSearchIndex postSearchIndex;
+    private final PostSearchDocumentLoader documentLoader;
+
+    // 전체 재색인 중 변경된 게시글 (재색인 중이 아니면 null)
+    private volatile Set<Long> changedDuringRebuild;
+
+    @TransactionalEventListener
+    public void handle(PostCreatedEvent event) {
+        reindex(event.post().id());
+    }
+
+    // 태그/코스 변경도 게시글 수정 이벤트로 함께 반영
+    @TransactionalEventListener
+    public void handle(PostUpdatedEvent event) {
+        reindex(event.after().id());
+    }
+
+    @TransactionalEventListener
+    public void handle(PostDeletedEvent event) {
+        markChanged(event.post().id());
+        postSearchIndex.remove(event.post().id());
+    }
+
+    // 연결 해제 시 작성자의 게시글이 모두 PRIVATE 로 바뀜
+    @TransactionalEventListener
+    public void handle(PartnerDisconnectedEvent event) {
+        if (!event.postsPrivatized()) {
+            return;
+        }
+        for (Long postId : documentLoader.loadPostIdsByWriter(event.memberId())) {
+            markChanged(postId);
+            postSearchIndex.remove(postId);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${custom.search.rebuild-interval-ms:1800000}",
+            fixedDelayString = "${custom.search.rebuild-interval-ms:1800000}")
+    public synchronized void rebuild() {
+        Set<Long> changed = ConcurrentHashMap.newKeySet();
+        changedDuringRebuild = changed;
+        try {
+            postSearchIndex.replaceAll(loadAll());
+        } finally {
+            changedDuringRebuild = null;
+        }
+
+        // 스냅샷을 읽는 동안 바뀐 게시글은 교체된 색인에 현재 상태로 다시 반영
+        changed.forEach(this::reindex);
+        log.info("게시글 검색 색인 완료 - {}건 (재색인 중 변경 {}건 재반영)", postSearchIndex.size(), changed.size());
+    }
+
+    private List<PostSearchDocument> loadAll() {
+        List<PostSearchDocument> documents = new ArrayList<>();
+        Long lastId = 0L;
+
+        List<PostSearchDocument> batch;
+        do {
+            batch = documentLoader.loadPublicAfter(lastId, BATCH_SIZE);
+            documents.addAll(batch);
+            if (!batch.isEmpty()) {
+                lastId = batch.get(batch.size() - 1).id();
+            }
+        } while (batch.size() == BATCH_SIZE);
+
+        return documents;
+    }
+
+    private void markChanged(Long postId) {
+        Set<Long> changed = changedDuringRebuild;
+        if (changed != null) {
+            changed.add(postId);
+        }
+    }
+
+    // PUBLIC 이 아니게 된 게시글은 색인에서 제거
+    private void reindex(Long postId) {
+        markChanged(postId);
+        documentLoader.loadPublic(postId).ifPresentOrElse(
+                postSearchIndex::index,
+                () -> postSearchIndex.remove(postId));
+    }
+}
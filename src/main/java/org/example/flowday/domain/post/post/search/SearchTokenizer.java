@@ -0,0 +1,215 @@
+package org.example.flowday.domain.post.post.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 검색용 n-gram 토크나이저
+ * 문자/숫자가 아닌 문자로 단어를 나누고, 단어마다 글자와 바이그램을 만듭니다.
+ * 바이그램 단위로 색인하므로 기존 contains 검색처럼 단어 중간 일치도 찾을 수 있습니다.
+ *
+ * 한글은 추가로 초성 열(서울 -> ㅅㅇ)과 자모 열(서울 -> ㅅㅓㅇㅜㄹ)의 n-gram 을 만들어
+ * 초성 검색과 입력 중인 글자(서ㅇ) 검색을 지원합니다.
+ * n-gram 교집합은 순서와 인접 여부를 보지 않으므로, 후보는 matches 로 원문 일치를 다시 확인합니다.
+ */
+public final class SearchTokenizer {
+    // 초성/자모 토큰 구분용 접두어 - 단어 토큰에는 문자/숫자만 들어가므로 겹치지 않음
+    static final String CHOSUNG_PREFIX = "#c";
+    static final String JAMO_PREFIX = "#j";
+
+    private static final int HANGUL_BASE = 0xAC00;
+    private static final int HANGUL_LAST = 0xD7A3;
+    private static final int JUNG_COUNT = 21;
+    private static final int JONG_COUNT = 28;
+
+    private static final String CHO = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    // 겹모음/겹받침은 입력 순서대로 풀어서 입력 중 검색과 맞춤
+    private static final String[] JUNG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ",
+            "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+    private static final String[] JONG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ",
+            "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    private SearchTokenizer() {
+    }
+
+    // 색인/검색 공통 단어 토큰
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+
+        for (String word : words(text)) {
+            // 한 글자 검색어도 단어 중간에서 찾을 수 있도록 글자 단위 토큰도 색인
+            if (word.length() > 1) {
+                addGrams(tokens, "", word, 1);
+            }
+            addWordGrams(tokens, word);
+        }
+        return tokens;
+    }
+
+    // 초성 1/2/3-gram 과 자모 2/3-gram (제목, 태그, 장소 이름 색인용)
+    public static List<String> koreanTokens(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+
+        for (String word : words(text)) {
+            if (!containsHangul(word)) {
+                continue;
+            }
+            String chosung = chosung(word);
+            addGrams(tokens, CHOSUNG_PREFIX, chosung, 1);
+            addGrams(tokens, CHOSUNG_PREFIX, chosung, 2);
+            addGrams(tokens, CHOSUNG_PREFIX, chosung, 3);
+            addGrams(tokens, JAMO_PREFIX, jamo(word), 2);
+            addGrams(tokens, JAMO_PREFIX, jamo(word), 3);
+        }
+        return tokens;
+    }
+
+    /**
+     * 검색어 토큰 - 단어마다 형태를 보고 토큰 종류를 고릅니다.
+     * 초성만 있는 단어(ㅅㅇ)는 초성 n-gram, 낱자모가 섞인 단어(서ㅇ, ㅅㅓ)는 자모 n-gram, 나머지는 단어 바이그램
+     */
+    public static List<String> queryTokens(String query) {
+        List<String> tokens = new ArrayList<>();
+        if (query == null || query.isBlank()) {
+            return tokens;
+        }
+
+        for (String word : words(query)) {
+            if (isChosungOnly(word)) {
+                // 길수록 더 선택적인 n-gram 사용
+                addGrams(tokens, CHOSUNG_PREFIX, word, Math.min(word.length(), 3));
+            } else if (containsJamo(word)) {
+                String jamo = jamo(word);
+                addGrams(tokens, JAMO_PREFIX, jamo, Math.min(jamo.length(), 3));
+            } else {
+                addWordGrams(tokens, word);
+            }
+        }
+        return tokens;
+    }
+
+    // 검증용 문자열 - 단어를 공백으로 이어붙여 검색어 단어가 단어 경계를 넘어 일치하지 않도록 함
+    public static String joinWords(List<String> texts) {
+        StringBuilder sb = new StringBuilder();
+        for (String text : texts) {
+            if (text == null) {
+                continue;
+            }
+            for (String word : words(text)) {
+                sb.append(word).append(' ');
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 검색어 단어가 원문에 연속으로 있는지 확인 (queryTokens 와 같은 기준으로 비교 대상을 고름)
+     * text 는 단어 검색 대상, koreanChosung / koreanJamo 는 초성/자모 검색 대상을 joinWords 로 이은 뒤 변환한 문자열
+     */
+    static boolean matches(String word, String text, String koreanChosung, String koreanJamo) {
+        if (isChosungOnly(word)) {
+            return koreanChosung.contains(word);
+        }
+        if (containsJamo(word)) {
+            return koreanJamo.contains(jamo(word));
+        }
+        return text.contains(word);
+    }
+
+    static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        StringBuilder word = new StringBuilder();
+
+        for (char c : text.toLowerCase(Locale.ROOT).toCharArray()) {
+            if (Character.isLetterOrDigit(c)) {
+                word.append(c);
+            } else if (!word.isEmpty()) {
+                words.add(word.toString());
+                word.setLength(0);
+            }
+        }
+        if (!word.isEmpty()) {
+            words.add(word.toString());
+        }
+        return words;
+    }
+
+    // 한글 음절은 초성으로, 그 외 문자는 그대로
+    static String chosung(String word) {
+        StringBuilder sb = new StringBuilder(word.length());
+        for (char c : word.toCharArray()) {
+            if (isSyllable(c)) {
+                sb.append(CHO.charAt((c - HANGUL_BASE) / (JUNG_COUNT * JONG_COUNT)));
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    // 한글 음절은 초성/중성/종성 자모로 풀고, 그 외 문자는 그대로
+    static String jamo(String word) {
+        StringBuilder sb = new StringBuilder(word.length() * 3);
+        for (char c : word.toCharArray()) {
+            if (isSyllable(c)) {
+                int index = c - HANGUL_BASE;
+                sb.append(CHO.charAt(index / (JUNG_COUNT * JONG_COUNT)))
+                        .append(JUNG[(index % (JUNG_COUNT * JONG_COUNT)) / JONG_COUNT])
+                        .append(JONG[index % JONG_COUNT]);
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    private static void addWordGrams(List<String> tokens, String word) {
+        if (word.length() == 1) {
+            tokens.add(word);
+            return;
+        }
+        addGrams(tokens, "", word, 2);
+    }
+
+    // n 보다 짧으면 전체를 하나의 토큰으로
+    private static void addGrams(List<String> tokens, String prefix, String text, int n) {
+        if (text.length() <= n) {
+            tokens.add(prefix + text);
+            return;
+        }
+        for (int i = 0; i + n <= text.length(); i++) {
+            tokens.add(prefix + text.substring(i, i + n));
+        }
+    }
+
+    private static boolean isSyllable(char c) {
+        return c >= HANGUL_BASE && c <= HANGUL_LAST;
+    }
+
+    private static boolean isJamo(char c) {
+        return c >= 'ㄱ' && c <= 'ㅣ';
+    }
+
+    private static boolean containsHangul(String word) {
+        return word.chars().anyMatch(c -> isSyllable((char) c) || isJamo((char) c));
+    }
+
+    private static boolean containsJamo(String word) {
+        return word.chars().anyMatch(c -> isJamo((char) c));
+    }
+
+    private static boolean isChosungOnly(String word) {
+        return word.chars().allMatch(c -> CHO.indexOf(c) >= 0);
+    }
+}
@@ -0,0 +1,35 @@
+package org.example.flowday.domain.post.post.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시글 비정규화 컬럼 이관
+ * excerpt / tag_string 컬럼 추가 이전에 저장된 게시글의 값을 채웁니다.
+ * 이미 채워진 게시글은 조회 대상이 아니므로 매 기동 시 실행해도 안전합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostDenormalizationBackfill {
+    private static final int BATCH_SIZE = 100;
+
+    private final PostService postService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        int batches = 0;
+        Long lastId = postService.backfillDenormalizedColumns(0L, BATCH_SIZE);
+        while (lastId != null) {
+            batches++;
+            lastId = postService.backfillDenormalizedColumns(lastId, BATCH_SIZE);
+        }
+
+        if (batches > 0) {
+            log.info("게시글 excerpt / tag_string 이관 완료 - {}회 배치", batches);
+        }
+    }
+}
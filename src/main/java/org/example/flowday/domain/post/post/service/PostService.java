@@ -10,33 +10,68 @@ import org.example.flowday.domain.member.entity.Member;
 import org.example.flowday.domain.member.exception.MemberException;
 import org.example.flowday.domain.member.repository.MemberRepository;
 import org.example.flowday.domain.post.comment.comment.repository.ReplyRepository;
-import org.example.flowday.domain.post.likes.repository.LikeRepository;
+import org.example.flowday.domain.post.likes.cache.LikedPostCache;
 import org.example.flowday.domain.post.post.dto.GenFileResponseDTO;
 import org.example.flowday.domain.post.post.dto.PostBriefResponseDTO;
+import org.example.flowday.domain.post.post.dto.PostCursor;
+import org.example.flowday.domain.post.post.dto.PostCursorResponseDTO;
+import org.example.flowday.domain.post.post.dto.PostFilter;
+import org.example.flowday.domain.post.post.dto.PostFilterResponseDTO;
 import org.example.flowday.domain.post.post.dto.PostRequestDTO;
 import org.example.flowday.domain.post.post.dto.PostResponseDTO;
 import org.example.flowday.domain.post.post.entity.Post;
+import org.example.flowday.domain.post.post.entity.Status;
+import org.example.flowday.domain.post.post.event.dto.PostCreatedEvent;
+import org.example.flowday.domain.post.post.event.dto.PostDeletedEvent;
+import org.example.flowday.domain.post.post.event.dto.PostSnapshot;
+import org.example.flowday.domain.post.post.event.dto.PostUpdatedEvent;
 import org.example.flowday.domain.post.post.exception.PostException;
+import org.example.flowday.domain.post.tag.entity.Tag;
+import org.example.flowday.domain.post.tag.repository.TagDictionaryRepository;
 import org.example.flowday.domain.post.tag.service.TagService;
+import org.example.flowday.domain.post.tag.util.TagNormalizer;
+import org.example.flowday.domain.post.trend.counter.TrendWindow;
+import org.example.flowday.domain.post.trend.dto.TrendCountDTO;
+import org.example.flowday.domain.post.trend.service.TrendService;
+import org.example.flowday.global.config.CacheConfig;
 import org.example.flowday.global.fileupload.mapper.GenFileMapper;
 import org.example.flowday.domain.post.post.mapper.PostMapper;
 import org.example.flowday.domain.post.post.repository.PostRepository;
+import org.example.flowday.domain.post.post.ranking.PostHotRanking;
+import org.example.flowday.domain.post.post.facet.PostFacetCounter;
+import org.example.flowday.domain.post.post.search.PostSearchIndex;
+import org.example.flowday.domain.post.post.timeline.CoupleTimeline;
 import org.example.flowday.global.fileupload.entity.GenFile;
+import org.example.flowday.global.fileupload.image.ImageVariant;
 import org.example.flowday.global.fileupload.repository.GenFileRepository;
 import org.example.flowday.global.fileupload.service.GenFileService;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.*;
+import java.util.function.Function;
+import java.util.function.IntFunction;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class PostService {
+    // 색인/랭킹 ID 중 걸러진 게시글만큼 조회 범위를 두 배씩 늘리는 최대 횟수
+    private static final int MAX_FILL_ROUNDS = 5;
 
     private final PostRepository postRepository;
     private final PostMapper postMapper;
@@ -44,9 +79,16 @@ public class PostService {
     private final CourseRepository courseRepository;
     private final GenFileService genFileService;
     private final GenFileRepository genFileRepository;
-    private final LikeRepository likeRepository;
     private final ReplyRepository replyRepository;
     private final TagService tagService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final LikedPostCache likedPostCache;
+    private final PostSearchIndex postSearchIndex;
+    private final PostHotRanking postHotRanking;
+    private final TrendService trendService;
+    private final CoupleTimeline coupleTimeline;
+    private final PostFacetCounter postFacetCounter;
+    private final TagDictionaryRepository tagDictionaryRepository;
 
     @Transactional
     public PostResponseDTO createPost(PostRequestDTO postRequestDTO, Long userId) {
@@ -69,18 +111,16 @@ public class PostService {
             Post post = postMapper.toEntity(postRequestDTO, writer, course);
             Post savedPost = postRepository.save(post);
             tagService.createTags(postRequestDTO.getTags(), savedPost);
+            eventPublisher.publishEvent(new PostCreatedEvent(PostSnapshot.of(savedPost)));
 
-            // 이미지 저장 로직 추가
+            // 이미지는 PENDING 상태로 저장하고 S3 업로드는 커밋 후 업로드 워커가 처리
             List<MultipartFile> images = postRequestDTO.getImages();
             if (images != null && !images.isEmpty()) {
-                genFileService.saveFiles(images, "post", savedPost.getId(), "common", "inBody");
+                genFileService.enqueueFiles(images, "post", savedPost.getId(), "common", "inBody");
             }
 
             // 이미지 정보를 포함하여 응답 DTO 생성
-            List<GenFile> genFiles = genFileService.getFilesByPost("post", savedPost.getId());
-            List<GenFileResponseDTO> imageDTOs = genFiles.stream()
-                    .map(GenFileMapper::toResponseDTO)
-                    .collect(Collectors.toList());
+            List<GenFileResponseDTO> imageDTOs = genFileService.getImageResponses("post", savedPost.getId());
 
             return postMapper.toResponseDTO(savedPost, spotResDTOs, imageDTOs);
         } catch (Exception e) {
@@ -90,7 +130,8 @@ public class PostService {
     }
 
 
-    // 게시글 디테일 - ID
+    // 게시글 디테일 - ID (수정/삭제/좋아요/댓글 이벤트로 캐시 무효화)
+    @Cacheable(cacheNames = CacheConfig.POST_DETAIL, key = "#id")
     public PostResponseDTO getPostById(Long id) {
         Post post = postRepository.findById(id).orElseThrow(PostException.POST_NOT_FOUND::get);
 
@@ -104,37 +145,30 @@ public class PostService {
         }
 
         // 이미지 정보 가져오기
-        List<GenFile> genFiles = genFileService.getFilesByPost("post", post.getId());
-        List<GenFileResponseDTO> imageDTOs = genFiles.stream()
-                .map(GenFileMapper::toResponseDTO)
-                .collect(Collectors.toList());
+        List<GenFileResponseDTO> imageDTOs = genFileService.getImageResponses("post", post.getId());
 
         return postMapper.toResponseDTO(post, spotResDTOs, imageDTOs);
     }
 
     // 모든 게시글 조회 최신순 - PUBLIC
-    public Page<PostBriefResponseDTO> getAllPublicPosts(Pageable pageable) {
-        Page<Post> posts = postRepository.searchLatestPost(pageable);
+    public Page<PostBriefResponseDTO> getAllPublicPosts(Pageable pageable, Long userId) {
+        Page<PostBriefResponseDTO> posts = postRepository.searchLatestPost(pageable);
 
 
-        return posts.map(post -> {
-            String imageURL = genFileService.getFirstImageUrlByObject("post", post.getId());
-            return new PostBriefResponseDTO(post, imageURL);
-        });
+        return withImagesAndLikes(posts, userId);
 
     }
 
     //커플 게시글 리스트 조회
     public Page<PostBriefResponseDTO> findAllCouplePosts(Pageable pageable, Long userId) {
         Member member = memberRepository.findById(userId).orElseThrow(() -> new IllegalArgumentException("해당 멤버가 없습니다 "));
-        Long partnerId = (member.getPartnerId() != null) ? member.getPartnerId() : null;
+        Long partnerId = member.getPartnerId();
 
-        Page<Post> posts = postRepository.searchCouplePost(pageable, userId, partnerId);
+        List<Long> postIds = coupleTimeline.page(userId, partnerId, (int) pageable.getOffset(), pageable.getPageSize());
+        Page<PostBriefResponseDTO> posts = new PageImpl<>(findBriefsInOrder(postIds, Status.COUPLE), pageable,
+                coupleTimeline.size(userId, partnerId));
 
-        return posts.map(post -> {
-            String imageUrl = genFileService.getFirstImageUrlByObject("post", post.getId());
-            return new PostBriefResponseDTO(post, imageUrl);
-        });
+        return withImagesAndLikes(posts, userId);
 
     }
 
@@ -142,23 +176,39 @@ public class PostService {
     public Page<PostBriefResponseDTO> findAllPrivate(Pageable pageable, Long userId) {
         Member member = memberRepository.findById(userId).orElseThrow(MemberException.MEMBER_NOT_FOUND::getMemberTaskException);
 
-        Page<Post> posts = postRepository.searchPrivatePost(pageable, userId);
+        Page<PostBriefResponseDTO> posts = postRepository.searchPrivatePost(pageable, userId);
 
-        return posts.map(post -> {
-            String imageUrl = genFileService.getFirstImageUrlByObject("post", post.getId());
-            return new PostBriefResponseDTO(post, imageUrl);
-        });
+        return withImagesAndLikes(posts, userId);
     }
 
-    //좋아요가 많은 게시글 조회
-    public Page<PostBriefResponseDTO> findAllMostLikePosts(Pageable pageable) {
+    //인기 게시글 조회 - 좋아요/댓글 수와 작성 시간으로 미리 계산된 랭킹 순
+    public Page<PostBriefResponseDTO> findAllMostLikePosts(Pageable pageable, Long userId) {
+        List<Long> postIds = postHotRanking.page((int) pageable.getOffset(), pageable.getPageSize()).stream()
+                .map(PostHotRanking.Ranked::id)
+                .toList();
+        Page<PostBriefResponseDTO> posts = new PageImpl<>(findPublicBriefsInOrder(postIds), pageable, postHotRanking.size());
+
+        return withImagesAndLikes(posts, userId);
+    }
+
+
+    //최근 24시간 / 7일 동안 좋아요가 많이 눌린 게시글
+    public List<PostBriefResponseDTO> findTrendingPosts(String window, int size, Long userId) {
+        TrendWindow trendWindow = TrendWindow.from(window);
+        int limit = Math.max(1, Math.min(size, TrendService.MAX_SIZE));
+        Map<Long, Long> likesByPostId = new HashMap<>();
 
-        Page<Post> posts = postRepository.searchMostLikedPost(pageable);
+        // 집계에 남은 비공개/삭제 게시글이 걸러져도 limit 건을 채움
+        List<PostBriefResponseDTO> filled = findPublicBriefsFilling(n -> {
+            List<TrendCountDTO<Long>> trends = trendService.topPosts(trendWindow, n);
+            trends.forEach(trend -> likesByPostId.put(trend.key(), trend.count()));
+            return trends.stream().map(TrendCountDTO::key).toList();
+        }, limit).posts();
+        List<PostBriefResponseDTO> posts = filled.size() > limit ? new ArrayList<>(filled.subList(0, limit)) : filled;
+        posts.forEach(post -> post.setTrendLikeCount(likesByPostId.get(post.getId())));
+        fillImagesAndLikes(posts, userId);
 
-        return posts.map(post -> {
-            String imageUrl = genFileService.getFirstImageUrlByObject("post", post.getId());
-            return new PostBriefResponseDTO(post, imageUrl);
-        });
+        return posts;
     }
 
 
@@ -166,38 +216,40 @@ public class PostService {
     public Page<PostBriefResponseDTO> findAllMyPosts(Pageable pageable, Long userId) {
         Member member = memberRepository.findById(userId).orElseThrow(() -> new IllegalArgumentException("해당 멤버가 없습니다 "));
 
-        Page<Post> posts = postRepository.searchMyPost(pageable, userId);
+        Page<PostBriefResponseDTO> posts = postRepository.searchMyPost(pageable, userId);
 
-        return posts.map(post -> {
-            String imageUrl = genFileService.getFirstImageUrlByObject("post", post.getId());
-            return new PostBriefResponseDTO(post, imageUrl);
-        });
+        return withImagesAndLikes(posts, userId);
     }
 
-    //내가 좋아요 누른 게시글 보기
+    //내가 좋아요 누른 게시글 보기 - 좋아요 누른 순서
     public Page<PostBriefResponseDTO> findAllMyLikePosts(Pageable pageable, Long userId) {
-        List<Long> postIds = likeRepository.findAllPostIdByMemberId(userId);
+        Page<PostBriefResponseDTO> posts = postRepository.searchMyLikePost(pageable, userId);
 
-        Page<Post> posts = postRepository.searchMyLikePost(pageable, postIds);
-
-        return posts.map(post -> {
-            String imageUrl = genFileService.getFirstImageUrlByObject("post", post.getId());
-            return new PostBriefResponseDTO(post, imageUrl);
-        });
+        return withImagesAndLikes(posts, userId);
     }
 
     //내가 댓글 단 게시글 보기
     public Page<PostBriefResponseDTO> findAllMyReplyPosts(Pageable pageable, Long userId) {
+        Page<PostBriefResponseDTO> posts = postRepository.searchMyReplyPost(pageable, userId);
 
+        return withImagesAndLikes(posts, userId);
+    }
 
-        Page<Post> posts = postRepository.searchMyReplyPost(pageable, userId);
 
-        return posts.map(post -> {
-            String imageUrl = genFileService.getFirstImageUrlByObject("post", post.getId());
-            return new PostBriefResponseDTO(post, imageUrl);
-        });
-    }
+    // excerpt, tag_string 이 비어있는 기존 게시글을 ID 순으로 batchSize 건 채움 - 마지막으로 처리한 ID 반환 (없으면 null)
+    @Transactional
+    public Long backfillDenormalizedColumns(Long afterId, int batchSize) {
+        List<Post> posts = postRepository.findDenormalizationTargets(afterId, PageRequest.of(0, batchSize));
+        if (posts.isEmpty()) {
+            return null;
+        }
 
+        for (Post post : posts) {
+            post.refreshExcerpt();
+            post.refreshTagString();
+        }
+        return posts.get(posts.size() - 1).getId();
+    }
 
     //게시글 수정
     @Transactional
@@ -205,6 +257,8 @@ public class PostService {
         Post post = postRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다."));
 
+        PostSnapshot before = PostSnapshot.of(post);
+
         // 게시글 정보 수정
         post.updatePost(updatedPostDTO);
         tagService.updateTags(updatedPostDTO.getTags(), post);
@@ -223,17 +277,21 @@ public class PostService {
         }
 
         post.setCourse(course);
+        eventPublisher.publishEvent(new PostUpdatedEvent(before, PostSnapshot.of(post)));
 
         // 기존 이미지 처리
         List<GenFile> existingGenFiles = genFileService.getFilesByPost("post", post.getId());
         List<MultipartFile> newImages = updatedPostDTO.getImages();
 
-        // 기존 이미지 삭제 처리
-        if (newImages == null || newImages.isEmpty()) {
-            // 새로운 이미지가 없을 경우 기존 모든 이미지 삭제
+        if (updatedPostDTO.getKeptImageIds() != null || updatedPostDTO.getRemovedImageIds() != null) {
+            // 유지 / 삭제할 이미지 ID 가 오면 바뀐 이미지만 삭제 / 업로드하고 순서만 다시 매김
+            genFileService.updateFiles("post", post.getId(), "common", "inBody",
+                    updatedPostDTO.getKeptImageIds(), updatedPostDTO.getRemovedImageIds(),
+                    newImages != null ? newImages : List.of());
+        } else if (newImages == null || newImages.isEmpty()) {
+            // 새로운 이미지가 없을 경우 기존 모든 이미지 삭제 (이미지 ID 를 보내지 않는 이전 클라이언트)
             for (GenFile genFileToDelete : existingGenFiles) {
-                genFileService.deleteFileFromS3(genFileToDelete.getFileDir(), genFileToDelete.getS3FileName());
-                genFileRepository.delete(genFileToDelete);
+                genFileService.deleteWithVariants(genFileToDelete);
             }
         } else {
             // 새로운 이미지가 있는 경우 기존 이미지와 비교
@@ -244,26 +302,42 @@ public class PostService {
             if (existingImageCount > newImageCount) {
                 for (int i = newImageCount; i < existingImageCount; i++) {
                     GenFile genFileToDelete = existingGenFiles.get(i);
-                    genFileService.deleteFileFromS3(genFileToDelete.getFileDir(), genFileToDelete.getS3FileName());
-                    genFileRepository.delete(genFileToDelete);
+                    genFileService.deleteWithVariants(genFileToDelete);
                 }
             }
 
-            // 새 이미지 저장
-            genFileService.saveFiles(newImages, "post", post.getId(), "common", "inBody");
+            // 새 이미지 저장 (업로드는 커밋 후 비동기 처리)
+            genFileService.enqueueFiles(newImages, "post", post.getId(), "common", "inBody");
         }
 
 
         // 최종 이미지 정보 수집 후 DTO 변환
-        List<GenFile> updatedGenFiles = genFileService.getFilesByPost("post", post.getId());
-        List<GenFileResponseDTO> imageDTOs = updatedGenFiles.stream()
-                .map(GenFileMapper::toResponseDTO)
-                .collect(Collectors.toList());
+        List<GenFileResponseDTO> imageDTOs = genFileService.getImageResponses("post", post.getId());
 
         return postMapper.toResponseDTO(post, spotResDTOs, imageDTOs);
     }
 
 
+    // 게시글 이미지 스트리밍 업로드 - 요청 본문을 버퍼링 없이 S3로 전달하고 같은 번호의 이미지는 교체
+    // 업로드 동안 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행 (파일 저장은 저장소 단위 트랜잭션)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @CacheEvict(cacheNames = CacheConfig.POST_DETAIL, key = "#postId")
+    public GenFileResponseDTO uploadImageStream(Long postId, int fileNo, InputStream in, String fileName, Long userId) {
+        Post post = postRepository.findById(postId).orElseThrow(PostException.POST_NOT_FOUND::get);
+        if (!Objects.equals(post.getWriter().getId(), userId)) {
+            throw PostException.POST_FORBIDDEN.get();
+        }
+
+        try {
+            GenFile genFile = genFileService.saveStream(in, fileName, "post", postId, "common", "inBody", fileNo);
+            return GenFileMapper.toResponseDTO(genFile);
+        } catch (IllegalArgumentException e) {
+            throw PostException.INVALID_IMAGE.get();
+        } catch (IOException e) {
+            throw PostException.POST_NOT_UPDATED.get();
+        }
+    }
+
     // 게시글 삭제
     @Transactional
     public void deletePost(Long id, Long userId) {
@@ -273,22 +347,243 @@ public class PostService {
         }
         List<GenFile> genFiles = genFileService.getFilesByPost("post", post.getId());
         for (GenFile genFile : genFiles) {
-            genFileService.deleteFileFromS3(genFile.getFileDir(), genFile.getS3FileName());
-            genFileRepository.delete(genFile);
+            genFileService.deleteWithVariants(genFile);
         }
+        eventPublisher.publishEvent(new PostDeletedEvent(PostSnapshot.of(post)));
+        tagService.removeTags(post);
         post.remove();
         postRepository.deleteById(id);
     }
 
 
-    //검색
-    public Page<PostBriefResponseDTO> findAllKwPosts(String kw, Pageable pageable) {
-        Page<Post> posts = postRepository.searchKwPost(pageable, kw);
+    //검색 - 검색어가 있으면 메모리 역색인(BM25 점수 순), 없으면 DB에서 최신 PUBLIC 게시글
+    public Page<PostBriefResponseDTO> findAllKwPosts(String kw, Pageable pageable, Long userId) {
+        if (kw == null || kw.isBlank()) {
+            Page<PostBriefResponseDTO> posts = postRepository.searchKwPost(pageable, kw);
+
+            return withImagesAndLikes(posts, userId);
+        }
+
+        PostSearchIndex.SearchHits hits = postSearchIndex.search(kw, (int) pageable.getOffset(), pageable.getPageSize());
+        Page<PostBriefResponseDTO> posts = new PageImpl<>(findPublicBriefsInOrder(hits.ids()), pageable, hits.total());
 
-        return posts.map(post -> {
-            String imageUrl = genFileService.getFirstImageUrlByObject("post", post.getId());
-            return new PostBriefResponseDTO(post, imageUrl);
-        });
+        return withImagesAndLikes(posts, userId);
+    }
 
+    // 모든 게시글 최신순 조회 - Slice (전체 개수 없이 다음 페이지 여부만 제공)
+    public Slice<PostBriefResponseDTO> getAllPublicPostsSlice(Pageable pageable, Long userId) {
+        Slice<PostBriefResponseDTO> posts = postRepository.searchLatestPostSlice(pageable);
+
+        return withImagesAndLikes(posts, userId);
+    }
+
+    //커플 게시글 리스트 조회 - Slice
+    public Slice<PostBriefResponseDTO> findAllCouplePostsSlice(Pageable pageable, Long userId) {
+        Member member = memberRepository.findById(userId).orElseThrow(MemberException.MEMBER_NOT_FOUND::getMemberTaskException);
+
+        List<Long> postIds = coupleTimeline.page(userId, member.getPartnerId(), (int) pageable.getOffset(), pageable.getPageSize() + 1);
+        List<PostBriefResponseDTO> content = findBriefsInOrder(postIds, Status.COUPLE);
+
+        boolean hasNext = content.size() > pageable.getPageSize();
+        if (hasNext) {
+            content = content.subList(0, pageable.getPageSize());
+        }
+        Slice<PostBriefResponseDTO> posts = new SliceImpl<>(content, pageable, hasNext);
+
+        return withImagesAndLikes(posts, userId);
+    }
+
+    //내가 작성한 게시글 보기 - Slice
+    public Slice<PostBriefResponseDTO> findAllMyPostsSlice(Pageable pageable, Long userId) {
+        Slice<PostBriefResponseDTO> posts = postRepository.searchMyPostSlice(pageable, userId);
+
+        return withImagesAndLikes(posts, userId);
+    }
+
+    //내가 좋아요 누른 게시글 보기 - Slice
+    public Slice<PostBriefResponseDTO> findAllMyLikePostsSlice(Pageable pageable, Long userId) {
+        Slice<PostBriefResponseDTO> posts = postRepository.searchMyLikePostSlice(pageable, userId);
+
+        return withImagesAndLikes(posts, userId);
+    }
+
+    // 모든 게시글 최신순 조회 - 커서
+    public PostCursorResponseDTO getAllPublicPostsByCursor(String cursor, int size, Long userId) {
+        List<PostBriefResponseDTO> posts = postRepository.searchLatestPostByCursor(PostCursor.decode(cursor), size);
+
+        return toCursorResponse(posts, size, userId, post -> PostCursor.ofCreatedAt(post.getCreatedAt(), post.getId()));
+    }
+
+    //인기 게시글 조회 - 커서 (커서에는 조회 시점의 랭킹 점수를 담음)
+    public PostCursorResponseDTO findAllMostLikePostsByCursor(String cursor, int size, Long userId) {
+        PostCursor decoded = PostCursor.decode(cursor);
+        Map<Long, Double> scores = new HashMap<>();
+
+        FilledBriefs filled = findPublicBriefsFilling(limit -> {
+            List<PostHotRanking.Ranked> ranked = decoded != null && decoded.getScore() != null
+                    ? postHotRanking.after(decoded.getScore(), decoded.getId(), limit)
+                    : postHotRanking.page(0, limit);
+            ranked.forEach(rankedPost -> scores.put(rankedPost.id(), rankedPost.score()));
+            return ranked.stream().map(PostHotRanking.Ranked::id).toList();
+        }, size + 1);
+
+        return toCursorResponse(filled.posts(), size, userId, post -> PostCursor.ofScore(scores.get(post.getId()), post.getId()),
+                !filled.exhausted());
+    }
+
+    //커플 게시글 리스트 조회 - 커서
+    public PostCursorResponseDTO findAllCouplePostsByCursor(String cursor, int size, Long userId) {
+        Member member = memberRepository.findById(userId).orElseThrow(MemberException.MEMBER_NOT_FOUND::getMemberTaskException);
+
+        PostCursor decoded = PostCursor.decode(cursor);
+        List<Long> postIds = decoded != null && decoded.getCreatedAt() != null
+                ? coupleTimeline.after(userId, member.getPartnerId(), decoded.getCreatedAt(), decoded.getId(), size + 1)
+                : coupleTimeline.page(userId, member.getPartnerId(), 0, size + 1);
+        List<PostBriefResponseDTO> posts = findBriefsInOrder(postIds, Status.COUPLE);
+
+        return toCursorResponse(posts, size, userId, post -> PostCursor.ofCreatedAt(post.getCreatedAt(), post.getId()));
+    }
+
+    //내가 작성한 게시글 보기 - 커서
+    public PostCursorResponseDTO findAllMyPostsByCursor(String cursor, int size, Long userId) {
+        List<PostBriefResponseDTO> posts = postRepository.searchMyPostByCursor(PostCursor.decode(cursor), size, userId);
+
+        return toCursorResponse(posts, size, userId, post -> PostCursor.ofCreatedAt(post.getCreatedAt(), post.getId()));
+    }
+
+    //내가 좋아요 누른 게시글 보기 - 커서
+    public PostCursorResponseDTO findAllMyLikePostsByCursor(String cursor, int size, Long userId) {
+        List<PostBriefResponseDTO> posts = postRepository.searchMyLikePostByCursor(PostCursor.decode(cursor), size, userId);
+
+        return toCursorResponse(posts, size, userId, post -> PostCursor.ofId(post.getLikeId()));
+    }
+
+    //내가 댓글 단 게시글 보기 - 커서 (내 마지막 댓글 시간 순)
+    public PostCursorResponseDTO findAllMyReplyPostsByCursor(String cursor, int size, Long userId) {
+        List<PostBriefResponseDTO> posts = postRepository.searchMyReplyPostByCursor(PostCursor.decode(cursor), size, userId);
+
+        return toCursorResponse(posts, size, userId, post -> PostCursor.ofCreatedAt(post.getLastRepliedAt(), post.getId()));
+    }
+
+    //지역/계절/공개 범위/코스 유무 필터 조회 - 커서 (facet 수는 메모리 집계값)
+    public PostFilterResponseDTO findFilteredPostsByCursor(PostFilter filter, String cursor, int size, Long userId) {
+        Long partnerId = null;
+        if (filter.status() == Status.COUPLE) {
+            Member member = memberRepository.findById(userId).orElseThrow(MemberException.MEMBER_NOT_FOUND::getMemberTaskException);
+            partnerId = member.getPartnerId();
+        }
+
+        List<PostBriefResponseDTO> posts = postRepository.searchFilteredPostByCursor(PostCursor.decode(cursor), size, filter, userId, partnerId);
+        PostCursorResponseDTO page = toCursorResponse(posts, size, userId, post -> PostCursor.ofCreatedAt(post.getCreatedAt(), post.getId()));
+        PostFacetCounter.PostFacets facets = postFacetCounter.facets(filter);
+
+        return PostFilterResponseDTO.builder()
+                .content(page.getContent())
+                .nextCursor(page.getNextCursor())
+                .hasNext(page.isHasNext())
+                .regionCounts(facets.regions())
+                .seasonCounts(facets.seasons())
+                .build();
+    }
+
+    //태그별 게시글 조회 - 커서 (최신 게시글 순)
+    public PostCursorResponseDTO findAllTagPostsByCursor(String tag, String cursor, int size, Long userId) {
+        Optional<Tag> dictionaryTag = tagDictionaryRepository.findByName(TagNormalizer.normalize(tag));
+        if (dictionaryTag.isEmpty()) {
+            return new PostCursorResponseDTO(new ArrayList<>(), null, false);
+        }
+
+        List<PostBriefResponseDTO> posts = postRepository.searchTagPostByCursor(PostCursor.decode(cursor), size, dictionaryTag.get().getId());
+
+        return toCursorResponse(posts, size, userId, post -> PostCursor.ofId(post.getId()));
+    }
+
+    //검색 - 커서 (최신순)
+    public PostCursorResponseDTO findAllKwPostsByCursor(String kw, String cursor, int size, Long userId) {
+        PostCursor decoded = PostCursor.decode(cursor);
+
+        if (kw == null || kw.isBlank()) {
+            List<PostBriefResponseDTO> posts = postRepository.searchKwPostByCursor(decoded, size, kw);
+            return toCursorResponse(posts, size, userId, post -> PostCursor.ofCreatedAt(post.getCreatedAt(), post.getId()));
+        }
+
+        FilledBriefs filled = findPublicBriefsFilling(limit -> decoded != null
+                ? postSearchIndex.searchLatest(kw, decoded.getCreatedAt(), decoded.getId(), limit)
+                : postSearchIndex.searchLatest(kw, null, null, limit), size + 1);
+
+        return toCursorResponse(filled.posts(), size, userId, post -> PostCursor.ofCreatedAt(post.getCreatedAt(), post.getId()),
+                !filled.exhausted());
+    }
+
+    // 색인/랭킹 ID 로 wanted 건을 채울 때까지 조회 범위를 늘려가며 조회 (색인 반영 전 비공개/삭제된 게시글이 걸러져도 페이지가 짧아지지 않도록)
+    private FilledBriefs findPublicBriefsFilling(IntFunction<List<Long>> idsOf, int wanted) {
+        int limit = wanted;
+        for (int round = 1; ; round++) {
+            List<Long> postIds = idsOf.apply(limit);
+            List<PostBriefResponseDTO> posts = findPublicBriefsInOrder(postIds);
+            boolean exhausted = postIds.size() < limit;
+            if (posts.size() >= wanted || exhausted || round == MAX_FILL_ROUNDS) {
+                return new FilledBriefs(posts, exhausted);
+            }
+            limit *= 2;
+        }
+    }
+
+    // exhausted - 색인/랭킹에 더 읽을 ID 가 남아있지 않음
+    private record FilledBriefs(List<PostBriefResponseDTO> posts, boolean exhausted) {
+    }
+
+    // 검색 / 랭킹 결과 ID 순서대로 게시글 목록 조회 (색인 반영 전 비공개/삭제된 게시글은 제외)
+    private List<PostBriefResponseDTO> findPublicBriefsInOrder(List<Long> postIds) {
+        return findBriefsInOrder(postIds, Status.PUBLIC);
+    }
+
+    private List<PostBriefResponseDTO> findBriefsInOrder(List<Long> postIds, Status status) {
+        Map<Long, PostBriefResponseDTO> postsById = postRepository.findBriefsByIds(postIds, status).stream()
+                .collect(Collectors.toMap(PostBriefResponseDTO::getId, Function.identity()));
+
+        return postIds.stream()
+                .map(postsById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    // size + 1 건 조회 결과로 다음 페이지 여부와 다음 커서를 계산
+    private PostCursorResponseDTO toCursorResponse(List<PostBriefResponseDTO> posts, int size, Long userId,
+                                                   Function<PostBriefResponseDTO, PostCursor> cursorOf) {
+        return toCursorResponse(posts, size, userId, cursorOf, false);
+    }
+
+    // hasMore - 조회 범위를 다 늘려도 size + 1 건을 못 채웠지만 읽지 않은 ID 가 남아있음
+    private PostCursorResponseDTO toCursorResponse(List<PostBriefResponseDTO> posts, int size, Long userId,
+                                                   Function<PostBriefResponseDTO, PostCursor> cursorOf, boolean hasMore) {
+        boolean hasNext = posts.size() > size || (hasMore && !posts.isEmpty());
+        List<PostBriefResponseDTO> content = hasNext ? posts.subList(0, size) : posts;
+
+        fillImagesAndLikes(content, userId);
+
+        String nextCursor = hasNext ? cursorOf.apply(content.get(content.size() - 1)).encode() : null;
+
+        return new PostCursorResponseDTO(content, nextCursor, hasNext);
+    }
+
+    private <S extends Slice<PostBriefResponseDTO>> S withImagesAndLikes(S posts, Long userId) {
+        fillImagesAndLikes(posts.getContent(), userId);
+        return posts;
+    }
+
+    // 목록의 대표 이미지를 한 번의 쿼리로 조회하여 채움 (태그는 posts.tag_string, 좋아요 여부는 비트맵 캐시에서 확인)
+    private void fillImagesAndLikes(List<PostBriefResponseDTO> posts, Long userId) {
+        List<Long> postIds = posts.stream()
+                .map(PostBriefResponseDTO::getId)
+                .collect(Collectors.toList());
+
+        Map<Long, String> imageUrls = genFileService.getFirstImageUrlsByObjects("post", postIds, ImageVariant.W640);
+        Set<Long> likedPostIds = likedPostCache.findLikedPostIds(userId, postIds);
+
+        for (PostBriefResponseDTO post : posts) {
+            post.setImageURL(imageUrls.get(post.getId()));
+            post.setLikedByMe(likedPostIds.contains(post.getId()));
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,157 @@
+package org.example.flowday.domain.post.post.timeline;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.example.flowday.domain.member.event.dto.PartnerDisconnectedEvent;
+import org.example.flowday.domain.post.post.entity.QPost;
+import org.example.flowday.domain.post.post.entity.Status;
+import org.example.flowday.domain.post.post.event.dto.PostCreatedEvent;
+import org.example.flowday.domain.post.post.event.dto.PostDeletedEvent;
+import org.example.flowday.domain.post.post.event.dto.PostSnapshot;
+import org.example.flowday.domain.post.post.event.dto.PostUpdatedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * 커플 게시글 타임라인
+ * 회원별 COUPLE 게시글 (createdAt, id) 를 최신순으로 메모리에 유지하고, 커플 피드는 본인과 파트너의 타임라인을 병합해 읽습니다.
+ * 최초 조회 시 DB에서 한 번 적재하고, 이후에는 게시글 생성/공개 범위 변경/삭제와 파트너 연결 해제 이벤트로 갱신합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CoupleTimeline {
+    private static final int MAX_MEMBERS = 20_000;
+
+    private static final Comparator<Entry> LATEST_FIRST = Comparator
+            .comparing(Entry::createdAt, Comparator.nullsFirst(Comparator.<LocalDateTime>naturalOrder())).reversed()
+            .thenComparing(Entry::id, Comparator.reverseOrder());
+
+    private final JPAQueryFactory queryFactory;
+    // 이벤트 반영 전에 적재된 경우를 대비해 일정 시간 후 다시 적재
+    private final Cache<Long, NavigableSet<Entry>> timelines = Caffeine.newBuilder()
+            .maximumSize(MAX_MEMBERS)
+            .expireAfterWrite(Duration.ofMinutes(30))
+            .build();
+
+    public record Entry(LocalDateTime createdAt, Long id) {
+    }
+
+    // offset 부터 limit 건의 게시글 ID (최신순)
+    public List<Long> page(Long memberId, Long partnerId, int offset, int limit) {
+        return merge(timeline(memberId), timeline(partnerOf(memberId, partnerId)), offset, limit);
+    }
+
+    // (createdAt, id) 커서 다음 게시글부터 limit 건
+    public List<Long> after(Long memberId, Long partnerId, LocalDateTime createdAt, Long id, int limit) {
+        Entry cursor = new Entry(createdAt, id);
+        return merge(timeline(memberId).tailSet(cursor, false),
+                timeline(partnerOf(memberId, partnerId)).tailSet(cursor, false), 0, limit);
+    }
+
+    public long size(Long memberId, Long partnerId) {
+        return timeline(memberId).size() + (long) timeline(partnerOf(memberId, partnerId)).size();
+    }
+
+    @TransactionalEventListener
+    public void handle(PostCreatedEvent event) {
+        if (event.post().status() == Status.COUPLE) {
+            patch(event.post(), true);
+        }
+    }
+
+    @TransactionalEventListener
+    public void handle(PostUpdatedEvent event) {
+        if (event.before().status() == event.after().status()) {
+            return;
+        }
+        patch(event.after(), event.after().status() == Status.COUPLE);
+    }
+
+    @TransactionalEventListener
+    public void handle(PostDeletedEvent event) {
+        patch(event.post(), false);
+    }
+
+    // 게시글이 일괄 PRIVATE 로 바뀌므로 작성자의 타임라인을 다시 적재
+    @TransactionalEventListener
+    public void handle(PartnerDisconnectedEvent event) {
+        if (event.postsPrivatized()) {
+            timelines.invalidate(event.memberId());
+        }
+    }
+
+    // 적재된 회원만 갱신 (없는 회원은 다음 조회 시 DB에서 적재)
+    private void patch(PostSnapshot post, boolean add) {
+        NavigableSet<Entry> timeline = timelines.getIfPresent(post.writerId());
+        if (timeline == null) {
+            return;
+        }
+
+        // DB에서 읽은 createdAt 은 정밀도가 다를 수 있으므로 ID 로 제거
+        timeline.removeIf(entry -> entry.id().equals(post.id()));
+        if (add) {
+            timeline.add(new Entry(post.createdAt(), post.id()));
+        }
+    }
+
+    private Long partnerOf(Long memberId, Long partnerId) {
+        return Objects.equals(memberId, partnerId) ? null : partnerId;
+    }
+
+    private NavigableSet<Entry> timeline(Long memberId) {
+        if (memberId == null) {
+            return Collections.emptyNavigableSet();
+        }
+        return timelines.get(memberId, this::load);
+    }
+
+    // 작성자 인덱스 범위 조회
+    private NavigableSet<Entry> load(Long memberId) {
+        QPost post = QPost.post;
+
+        List<Tuple> rows = queryFactory
+                .select(post.createdAt, post.id)
+                .from(post)
+                .where(post.writer.id.eq(memberId), post.status.eq(Status.COUPLE))
+                .fetch();
+
+        NavigableSet<Entry> timeline = new ConcurrentSkipListSet<>(LATEST_FIRST);
+        for (Tuple row : rows) {
+            timeline.add(new Entry(row.get(post.createdAt), row.get(post.id)));
+        }
+        return timeline;
+    }
+
+    private List<Long> merge(NavigableSet<Entry> first, NavigableSet<Entry> second, int offset, int limit) {
+        Iterator<Entry> left = first.iterator();
+        Iterator<Entry> right = second.iterator();
+        Entry nextLeft = left.hasNext() ? left.next() : null;
+        Entry nextRight = right.hasNext() ? right.next() : null;
+
+        List<Long> ids = new ArrayList<>();
+        int skipped = 0;
+        while ((nextLeft != null || nextRight != null) && ids.size() < limit) {
+            Entry next;
+            if (nextRight == null || (nextLeft != null && LATEST_FIRST.compare(nextLeft, nextRight) <= 0)) {
+                next = nextLeft;
+                nextLeft = left.hasNext() ? left.next() : null;
+            } else {
+                next = nextRight;
+                nextRight = right.hasNext() ? right.next() : null;
+            }
+
+            if (skipped++ >= offset) {
+                ids.add(next.id());
+            }
+        }
+        return ids;
+    }
+}
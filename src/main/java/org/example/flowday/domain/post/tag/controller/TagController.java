@@ -0,0 +1,44 @@
+package org.example.flowday.domain.post.tag.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.example.flowday.domain.post.tag.dto.TagSuggestionDTO;
+import org.example.flowday.domain.post.tag.service.TagPopularityService;
+import org.example.flowday.domain.post.trend.counter.TrendWindow;
+import org.example.flowday.domain.post.trend.service.TrendService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/tags")
+@RequiredArgsConstructor
+@Tag(name = "Tag", description = "태그 관련 api")
+public class TagController {
+
+    private final TagPopularityService tagPopularityService;
+    private final TrendService trendService;
+
+    @Operation(summary = "태그 자동완성", description = "접두어로 시작하는 태그를 공개 게시글 사용 횟수 순으로 불러옵니다. prefix를 비우면 인기 태그를 불러옵니다")
+    @GetMapping("/suggest")
+    public ResponseEntity<List<TagSuggestionDTO>> suggest(@RequestParam(defaultValue = "") String prefix,
+                                                          @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok().body(tagPopularityService.suggest(prefix, size));
+    }
+
+    @Operation(summary = "트렌드 태그", description = "최근 24시간(window=24h) 또는 7일(window=7d) 동안 공개 게시글에 많이 사용된 태그를 불러옵니다")
+    @GetMapping("/trending")
+    public ResponseEntity<List<TagSuggestionDTO>> trending(@RequestParam(defaultValue = "7d") String window,
+                                                           @RequestParam(defaultValue = "10") int size) {
+        List<TagSuggestionDTO> result = trendService.topTags(TrendWindow.from(window), size).stream()
+                .map(trend -> new TagSuggestionDTO(trend.key(), trend.count()))
+                .toList();
+
+        return ResponseEntity.ok().body(result);
+    }
+}
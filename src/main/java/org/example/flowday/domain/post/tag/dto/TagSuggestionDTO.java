@@ -0,0 +1,11 @@
+package org.example.flowday.domain.post.tag.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class TagSuggestionDTO {
+    private String name;
+    private long count;
+}
@@ -7,6 +7,9 @@ import org.example.flowday.domain.member.entity.Member;
 import org.example.flowday.domain.post.post.entity.Post;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_post_tag_tag_post", columnList = "tag_id, post_id")
+})
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
@@ -23,5 +26,11 @@ public class PostTag {
     private Member member;
     private String content;
 
+    // 태그 사전 항목 (기존 데이터는 기동 시 TagDictionaryBackfill 이 채움)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @ToString.Exclude
+    @Setter
+    private Tag tag;
+
 
 }
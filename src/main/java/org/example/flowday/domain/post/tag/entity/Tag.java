@@ -0,0 +1,27 @@
+package org.example.flowday.domain.post.tag.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// 태그 사전 - 정규화된 태그 이름당 한 행, 태그가 달린 게시글 수를 함께 관리
+@Entity
+@Table(name = "tags", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_tags_name", columnNames = "name")
+})
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@ToString
+@Builder
+public class Tag {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 30)
+    private String name;
+
+    // TagDictionaryRepository.addPostCount 로만 변경 (동시 수정 시 유실 방지)
+    @Column(name = "post_count", updatable = false)
+    private int postCount;
+}
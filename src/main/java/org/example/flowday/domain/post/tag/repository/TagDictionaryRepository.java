@@ -0,0 +1,29 @@
+package org.example.flowday.domain.post.tag.repository;
+
+import org.example.flowday.domain.post.tag.entity.Tag;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface TagDictionaryRepository extends JpaRepository<Tag, Long>, TagDictionaryRepositoryCustom {
+    Optional<Tag> findByName(String name);
+
+    List<Tag> findByNameIn(Collection<String> names);
+
+    // 게시글 수 증감 - 읽고 쓰지 않고 한 문장으로 처리
+    @Modifying
+    @Query(value = "UPDATE tags SET post_count = GREATEST(post_count + :delta, 0) WHERE id IN :ids", nativeQuery = true)
+    int addPostCount(@Param("ids") Collection<Long> ids, @Param("delta") int delta);
+
+    // 게시글 수 재집계 (기존 데이터 이관 후 보정용) - 한 게시글에 같은 항목으로 묶인 태그가 여럿이어도 한 번만 셈
+    @Modifying
+    @Query(value = "UPDATE tags t SET post_count = (SELECT COUNT(DISTINCT pt.post_id) FROM post_tag pt WHERE pt.tag_id = t.id)", nativeQuery = true)
+    int recountPostCount();
+}
@@ -0,0 +1,8 @@
+package org.example.flowday.domain.post.tag.repository;
+
+import java.util.Collection;
+
+public interface TagDictionaryRepositoryCustom {
+    // 사전에 없는 태그 이름만 추가 (동시에 같은 태그를 추가해도 유니크 제약으로 한 행만 생성)
+    void insertIgnore(Collection<String> names);
+}
@@ -0,0 +1,29 @@
+package org.example.flowday.domain.post.tag.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class TagDictionaryRepositoryImpl implements TagDictionaryRepositoryCustom {
+    private static final String INSERT_IGNORE_SQL = "INSERT IGNORE INTO tags (name, post_count) VALUES (?, 0)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertIgnore(Collection<String> names) {
+        if (names.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> args = names.stream()
+                .sorted()
+                .map(name -> new Object[]{name})
+                .toList();
+        jdbcTemplate.batchUpdate(INSERT_IGNORE_SQL, args);
+    }
+}
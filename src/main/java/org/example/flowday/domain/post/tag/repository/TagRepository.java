@@ -1,7 +1,11 @@
 package org.example.flowday.domain.post.tag.repository;
 
+import org.example.flowday.domain.post.post.entity.Status;
 import org.example.flowday.domain.post.tag.entity.PostTag;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -11,4 +15,11 @@ public interface TagRepository extends JpaRepository<PostTag, Long> {
     List<PostTag> findByMemberId(long writerId);
 
     List<PostTag> findByMember_Name(String writerName);
+
+    // 태그 사전 이관용 - 사전과 연결되지 않은 행을 ID 순으로 조회
+    List<PostTag> findByTagIsNullAndIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    // 태그별 사용 횟수 (content, count)
+    @Query("SELECT t.content, COUNT(t) FROM PostTag t WHERE t.post.status = :status GROUP BY t.content")
+    List<Object[]> countByContent(@Param("status") Status status);
 }
\ No newline at end of file
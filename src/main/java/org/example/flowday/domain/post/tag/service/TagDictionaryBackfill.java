@@ -0,0 +1,36 @@
+package org.example.flowday.domain.post.tag.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 태그 사전 이관
+ * 사전 도입 이전에 저장된 PostTag 를 tags 테이블과 연결하고, 연결된 행이 있으면 태그별 게시글 수를 다시 집계합니다.
+ * 이미 연결된 행은 건너뛰므로 매 기동 시 실행해도 안전합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TagDictionaryBackfill {
+    private static final int BATCH_SIZE = 500;
+
+    private final TagService tagService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        int batches = 0;
+        Long lastId = tagService.linkDictionary(0L, BATCH_SIZE);
+        while (lastId != null) {
+            batches++;
+            lastId = tagService.linkDictionary(lastId, BATCH_SIZE);
+        }
+
+        if (batches > 0) {
+            tagService.recountPostCounts();
+            log.info("태그 사전 이관 완료 - {}회 배치", batches);
+        }
+    }
+}
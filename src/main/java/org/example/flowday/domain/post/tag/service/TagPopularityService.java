@@ -0,0 +1,127 @@
+package org.example.flowday.domain.post.tag.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.flowday.domain.member.event.dto.PartnerDisconnectedEvent;
+import org.example.flowday.domain.post.post.entity.Status;
+import org.example.flowday.domain.post.post.event.dto.PostCreatedEvent;
+import org.example.flowday.domain.post.post.event.dto.PostDeletedEvent;
+import org.example.flowday.domain.post.post.event.dto.PostSnapshot;
+import org.example.flowday.domain.post.post.event.dto.PostUpdatedEvent;
+import org.example.flowday.domain.post.tag.dto.TagSuggestionDTO;
+import org.example.flowday.domain.post.tag.repository.TagRepository;
+import org.example.flowday.domain.post.tag.trie.TagTrie;
+import org.example.flowday.domain.post.tag.util.TagNormalizer;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 태그 자동완성 / 인기 태그
+ * PUBLIC 게시글의 태그 사용 횟수를 메모리 트라이에 유지합니다. (기동 시와 주기적으로 DB에서 적재, 그 사이는 게시글 이벤트로 증감)
+ * 다시 적재하는 동안 들어온 증감은 기록해 두었다가 새 트라이로 교체할 때 함께 더합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TagPopularityService {
+    private static final int MAX_TAGS = 100_000;
+    private static final int MAX_SUGGESTIONS = 50;
+
+    private final TagRepository tagRepository;
+    // 다시 적재할 때는 새 트라이를 채운 뒤 교체 (적재 중에도 자동완성이 비지 않도록)
+    private volatile TagTrie tagTrie = new TagTrie(MAX_TAGS);
+    // 다시 적재하는 중 반영된 태그별 증감 (적재 중이 아니면 null)
+    private Map<String, Long> changedDuringRebuild;
+    // 증감 반영과 트라이 교체를 묶어 교체 직전의 증감이 빠지지 않도록 함
+    private final Object swapLock = new Object();
+
+    // 접두어로 시작하는 태그를 사용 횟수 순으로 (DB 조회 없음)
+    public List<TagSuggestionDTO> suggest(String prefix, int size) {
+        int limit = Math.max(1, Math.min(size, MAX_SUGGESTIONS));
+
+        return tagTrie.top(TagNormalizer.normalize(prefix), limit).stream()
+                .map(tag -> new TagSuggestionDTO(tag.tag(), tag.count()))
+                .toList();
+    }
+
+    // 다른 인스턴스에서 반영된 증감과 이벤트가 없는 변경은 주기적인 재적재로 반영
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${custom.tag.reload-interval-ms:1800000}",
+            fixedDelayString = "${custom.tag.reload-interval-ms:1800000}")
+    public synchronized void bootstrap() {
+        Map<String, Long> changed = new HashMap<>();
+        synchronized (swapLock) {
+            changedDuringRebuild = changed;
+        }
+
+        TagTrie loaded = new TagTrie(MAX_TAGS);
+        try {
+            for (Object[] row : tagRepository.countByContent(Status.PUBLIC)) {
+                loaded.add(TagNormalizer.normalize((String) row[0]), (Long) row[1]);
+            }
+        } catch (RuntimeException e) {
+            synchronized (swapLock) {
+                changedDuringRebuild = null;
+            }
+            throw e;
+        }
+
+        synchronized (swapLock) {
+            // 조회하는 동안 기존 트라이에 반영된 증감을 새 트라이에도 반영
+            changed.forEach(loaded::add);
+            tagTrie = loaded;
+            changedDuringRebuild = null;
+        }
+        log.info("태그 트라이 적재 완료 - {}건 (적재 중 증감 {}건 재반영)", loaded.size(), changed.size());
+    }
+
+    @TransactionalEventListener
+    public void handle(PostCreatedEvent event) {
+        apply(event.post(), 1);
+    }
+
+    @TransactionalEventListener
+    public void handle(PostUpdatedEvent event) {
+        apply(event.before(), -1);
+        apply(event.after(), 1);
+    }
+
+    @TransactionalEventListener
+    public void handle(PostDeletedEvent event) {
+        apply(event.post(), -1);
+    }
+
+    // 연결 해제 시 작성자의 게시글이 모두 PRIVATE 로 바뀜 (이전 공개 범위를 알 수 없으므로 DB 에서 다시 적재)
+    // 전체 집계라 요청 스레드를 막지 않도록 비동기로 실행
+    @Async
+    @TransactionalEventListener
+    public void handle(PartnerDisconnectedEvent event) {
+        if (event.postsPrivatized()) {
+            bootstrap();
+        }
+    }
+
+    // 공개 게시글의 태그만 집계 (비공개 태그가 자동완성에 노출되지 않도록)
+    private void apply(PostSnapshot post, long delta) {
+        if (post.status() != Status.PUBLIC) {
+            return;
+        }
+        synchronized (swapLock) {
+            for (String tag : post.tags()) {
+                String name = TagNormalizer.normalize(tag);
+                tagTrie.add(name, delta);
+                if (changedDuringRebuild != null) {
+                    changedDuringRebuild.merge(name, delta, Long::sum);
+                }
+            }
+        }
+    }
+}
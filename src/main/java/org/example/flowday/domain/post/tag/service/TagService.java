@@ -2,10 +2,12 @@ package org.example.flowday.domain.post.tag.service;
 
 import lombok.RequiredArgsConstructor;
 import org.example.flowday.domain.post.post.entity.Post;
-import org.example.flowday.domain.post.tag.dto.TagRequestDTO;
-import org.example.flowday.domain.post.tag.dto.TagResponseDTO;
 import org.example.flowday.domain.post.tag.entity.PostTag;
+import org.example.flowday.domain.post.tag.entity.Tag;
+import org.example.flowday.domain.post.tag.repository.TagDictionaryRepository;
 import org.example.flowday.domain.post.tag.repository.TagRepository;
+import org.example.flowday.domain.post.tag.util.TagNormalizer;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,36 +19,136 @@ import java.util.stream.Collectors;
 public class TagService {
 
     private final TagRepository tagRepository;
+    private final TagDictionaryRepository tagDictionaryRepository;
 
 
     @Transactional
     public void createTags(String tags, Post post) {
+        addTags(parse(tags), post);
+        post.refreshTagString();
+    }
+
+    // 기존 태그와 비교하여 빠진 태그만 삭제하고 새 태그만 추가
+    @Transactional
+    public void updateTags(String tags, Post post) {
+        Set<String> newTags = parse(tags);
+
+        Set<String> kept = new HashSet<>();
+        List<PostTag> removed = new ArrayList<>();
+        for (PostTag postTag : post.getTags()) {
+            String name = TagNormalizer.normalize(postTag.getContent());
+            if (newTags.contains(name) && kept.add(name)) {
+                continue;
+            }
+            removed.add(postTag);
+        }
+
+        post.getTags().removeAll(removed);
+        decreasePostCount(removed);
+
+        newTags.removeAll(kept);
+        addTags(newTags, post);
+        post.refreshTagString();
+    }
+
+    // 게시글 삭제 시 태그 사전의 게시글 수 감소 (PostTag 행은 게시글과 함께 삭제)
+    @Transactional
+    public void removeTags(Post post) {
+        decreasePostCount(post.getTags());
+    }
+
+    // 태그 사전과 연결되지 않은 기존 PostTag 를 ID 순으로 batchSize 건 연결 - 마지막으로 처리한 ID 반환 (없으면 null)
+    @Transactional
+    public Long linkDictionary(Long afterId, int batchSize) {
+        List<PostTag> postTags = tagRepository.findByTagIsNullAndIdGreaterThanOrderByIdAsc(afterId, PageRequest.of(0, batchSize));
+        if (postTags.isEmpty()) {
+            return null;
+        }
+
+        Set<String> names = postTags.stream()
+                .map(postTag -> TagNormalizer.normalize(postTag.getContent()))
+                .filter(name -> !name.isEmpty())
+                .collect(Collectors.toSet());
+        Map<String, Tag> dictionary = resolve(names);
+
+        for (PostTag postTag : postTags) {
+            postTag.setTag(dictionary.get(TagNormalizer.normalize(postTag.getContent())));
+        }
+        return postTags.get(postTags.size() - 1).getId();
+    }
+
+    @Transactional
+    public void recountPostCounts() {
+        tagDictionaryRepository.recountPostCount();
+    }
+
+    // 정규화 후 중복 제거 (입력 순서 유지)
+    private Set<String> parse(String tags) {
         if (tags == null || tags.isBlank()) {
-            return;
+            return new LinkedHashSet<>();
         }
 
-        Set<String> tagSet = Arrays.stream(tags.split("#"))
-                .map(String::trim)
+        return Arrays.stream(tags.split("#"))
+                .map(TagNormalizer::normalize)
                 .filter(tag -> !tag.isEmpty())
-                .collect(Collectors.toSet());
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    private void addTags(Set<String> names, Post post) {
+        if (names.isEmpty()) {
+            return;
+        }
 
-        for (String tagContent : tagSet) {
+        Map<String, Tag> dictionary = resolve(names);
+        for (String name : names) {
             PostTag postTag = PostTag.builder()
                     .post(post)
-                    .content(tagContent)
+                    .content(name)
                     .member(post.getWriter())
+                    .tag(dictionary.get(name))
                     .build();
             post.getTags().add(postTag);
-
         }
+
+        // 정렬 규칙상 같은 이름인 태그는 한 사전 항목을 가리키므로 한 번만 증가
+        tagDictionaryRepository.addPostCount(
+                dictionary.values().stream().map(Tag::getId).distinct().toList(), 1);
     }
 
-    @Transactional
-    public void updateTags(String tags, Post post) {
-        post.getTags().clear();
-        createTags(tags, post);
+    // 태그 이름 -> 사전 항목 (없으면 생성)
+    private Map<String, Tag> resolve(Collection<String> names) {
+        if (names.isEmpty()) {
+            return new HashMap<>();
+        }
+        tagDictionaryRepository.insertIgnore(names);
 
+        Map<String, Tag> byName = tagDictionaryRepository.findByNameIn(names).stream()
+                .collect(Collectors.toMap(Tag::getName, tag -> tag, (a, b) -> a));
+
+        Map<String, Tag> dictionary = new HashMap<>();
+        for (String name : names) {
+            Tag tag = byName.get(name);
+            if (tag == null) {
+                // DB 정렬 규칙(악센트/전각 무시 등)상 같은 이름이 다른 표기로 이미 저장된 경우 - DB 비교로 다시 조회
+                tag = tagDictionaryRepository.findByName(name).orElse(null);
+            }
+            if (tag != null) {
+                dictionary.put(name, tag);
+            }
+        }
+        return dictionary;
     }
 
+    private void decreasePostCount(Collection<PostTag> postTags) {
+        List<Long> tagIds = postTags.stream()
+                .map(PostTag::getTag)
+                .filter(Objects::nonNull)
+                .map(Tag::getId)
+                .distinct()
+                .toList();
 
-}
\ No newline at end of file
+        if (!tagIds.isEmpty()) {
+            tagDictionaryRepository.addPostCount(tagIds, -1);
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package org.example.flowday.domain.post.tag.trie;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 태그 사용 횟수를 담는 접두어 트라이
+ * 노드마다 하위 태그 상위 N개를 캐시하고, 횟수가 바뀌면 경로의 캐시만 비웁니다.
+ * 태그 수가 최대치를 넘으면 사용 횟수가 적은 태그부터 정리하여 메모리를 제한합니다.
+ */
+public class TagTrie {
+    static final int CACHE_SIZE = 20;
+    // 정리 시 최대치의 90% 까지 줄여서 매번 정리하지 않도록 함
+    private static final double PRUNE_RATIO = 0.9;
+
+    private static final Comparator<TagCount> MOST_USED = Comparator
+            .comparingLong(TagCount::count).reversed()
+            .thenComparing(TagCount::tag);
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Node root = new Node(null, '\0');
+    private final int maxTags;
+    private int tagCount;
+
+    public TagTrie(int maxTags) {
+        this.maxTags = maxTags;
+    }
+
+    // 태그 사용 횟수 증감 (0 이하가 되면 제거)
+    public void add(String tag, long delta) {
+        if (tag == null || tag.isEmpty() || delta == 0) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            Node node = delta > 0 ? getOrCreate(tag) : find(tag);
+            if (node == null) {
+                return;
+            }
+
+            boolean wasTag = node.count > 0;
+            node.count = Math.max(0, node.count + delta);
+            if (!wasTag && node.count > 0) {
+                tagCount++;
+            } else if (wasTag && node.count == 0) {
+                tagCount--;
+                prune(node);
+            }
+            invalidate(node);
+
+            if (tagCount > maxTags) {
+                pruneRareTags();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 접두어로 시작하는 태그 중 사용 횟수 상위 k개
+    public List<TagCount> top(String prefix, int k) {
+        lock.readLock().lock();
+        try {
+            Node node = prefix == null || prefix.isEmpty() ? root : find(prefix);
+            if (node == null || k <= 0) {
+                return List.of();
+            }
+
+            if (k > CACHE_SIZE) {
+                return collect(node, prefix == null ? "" : prefix, k);
+            }
+
+            List<TagCount> cached = node.top;
+            if (cached == null) {
+                // 읽기 잠금 중에는 트라이가 바뀌지 않으므로 동시에 계산해도 같은 결과
+                cached = collect(node, prefix == null ? "" : prefix, CACHE_SIZE);
+                node.top = cached;
+            }
+            return cached.size() > k ? cached.subList(0, k) : cached;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long count(String tag) {
+        lock.readLock().lock();
+        try {
+            Node node = find(tag);
+            return node != null ? node.count : 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return tagCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            root.children.clear();
+            root.count = 0;
+            root.top = null;
+            tagCount = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private Node find(String tag) {
+        Node node = root;
+        for (int i = 0; i < tag.length() && node != null; i++) {
+            node = node.children.get(tag.charAt(i));
+        }
+        return node;
+    }
+
+    private Node getOrCreate(String tag) {
+        Node node = root;
+        for (int i = 0; i < tag.length(); i++) {
+            Node parent = node;
+            node = parent.children.computeIfAbsent(tag.charAt(i), c -> new Node(parent, c));
+        }
+        return node;
+    }
+
+    // 하위 노드를 돌며 사용 횟수 상위 limit 개를 최소 힙으로 수집
+    private List<TagCount> collect(Node start, String prefix, int limit) {
+        PriorityQueue<TagCount> heap = new PriorityQueue<>(MOST_USED.reversed());
+        collect(start, new StringBuilder(prefix), heap, limit);
+
+        List<TagCount> result = new ArrayList<>(heap);
+        result.sort(MOST_USED);
+        return result;
+    }
+
+    private void collect(Node node, StringBuilder path, PriorityQueue<TagCount> heap, int limit) {
+        if (node.count > 0) {
+            heap.offer(new TagCount(path.toString(), node.count));
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        }
+        for (Node child : node.children.values()) {
+            path.append(child.ch);
+            collect(child, path, heap, limit);
+            path.setLength(path.length() - 1);
+        }
+    }
+
+    private void pruneRareTags() {
+        List<Map.Entry<Node, Long>> tags = new ArrayList<>(tagCount);
+        collectNodes(root, tags);
+        tags.sort(Map.Entry.comparingByValue());
+
+        int target = (int) (maxTags * PRUNE_RATIO);
+        for (int i = 0; i < tags.size() && tagCount > target; i++) {
+            Node node = tags.get(i).getKey();
+            node.count = 0;
+            tagCount--;
+            invalidate(node);
+            prune(node);
+        }
+    }
+
+    private void collectNodes(Node node, List<Map.Entry<Node, Long>> tags) {
+        if (node.count > 0) {
+            tags.add(Map.entry(node, node.count));
+        }
+        for (Node child : node.children.values()) {
+            collectNodes(child, tags);
+        }
+    }
+
+    // 태그도 자식도 없는 노드를 위로 올라가며 제거
+    private void prune(Node node) {
+        while (node.parent != null && node.count == 0 && node.children.isEmpty()) {
+            node.parent.children.remove(node.ch);
+            node = node.parent;
+        }
+    }
+
+    private void invalidate(Node node) {
+        for (Node current = node; current != null; current = current.parent) {
+            current.top = null;
+        }
+    }
+
+    public record TagCount(String tag, long count) {
+    }
+
+    private static final class Node {
+        private final Node parent;
+        private final char ch;
+        private final Map<Character, Node> children = new HashMap<>();
+        private long count;
+        private volatile List<TagCount> top;
+
+        private Node(Node parent, char ch) {
+            this.parent = parent;
+            this.ch = ch;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package org.example.flowday.domain.post.tag.util;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+// 태그 정규화 - 같은 태그가 공백/대소문자/유니코드 조합 차이로 따로 집계되지 않도록 통일
+public final class TagNormalizer {
+    public static final int MAX_LENGTH = 30;
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private TagNormalizer() {
+    }
+
+    // 앞쪽 #, 모든 공백 제거 후 소문자로 변환 (NFC 정규화, 최대 30자)
+    public static String normalize(String raw) {
+        if (raw == null) {
+            return "";
+        }
+
+        String tag = Normalizer.normalize(raw, Normalizer.Form.NFC).strip();
+        while (tag.startsWith("#")) {
+            tag = tag.substring(1);
+        }
+        tag = WHITESPACE.matcher(tag).replaceAll("").toLowerCase(Locale.ROOT);
+
+        return tag.length() > MAX_LENGTH ? tag.substring(0, MAX_LENGTH) : tag;
+    }
+}
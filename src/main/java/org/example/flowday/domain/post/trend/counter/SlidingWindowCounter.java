@@ -0,0 +1,162 @@
+package org.example.flowday.domain.post.trend.counter;
+
+import java.util.*;
+
+/**
+ * 시간 단위 버킷 링 버퍼 카운터
+ * 최근 capacity 시간의 버킷을 hour % capacity 위치에 보관하고, 기간(window)별 합계를 함께 유지합니다.
+ * 시간이 지나 기간 밖으로 나간 버킷은 합계에서 빼므로, 상위 k 조회 시 버킷을 다시 합산하지 않습니다.
+ * 시각은 epoch 기준 시간(hour) 단위로 호출하는 쪽에서 넘겨줍니다.
+ * 저장은 마지막 저장 이후의 증감분만 넘겨, 여러 인스턴스가 같은 버킷에 더해서 저장할 수 있도록 합니다.
+ */
+public class SlidingWindowCounter<K> {
+    private final int capacity;
+    private final int[] windows;
+    private final long[] bucketHours;
+    private final Map<K, Long>[] buckets;
+    private final Map<Integer, Map<K, Long>> totals = new HashMap<>();
+    // 아직 저장하지 않은 증감분 (시간 -> 항목별 증감)
+    private Map<Long, Map<K, Long>> pendingDeltas = new HashMap<>();
+    private long currentHour = Long.MIN_VALUE;
+
+    @SuppressWarnings("unchecked")
+    public SlidingWindowCounter(int... windows) {
+        this.windows = windows.clone();
+        this.capacity = Arrays.stream(windows).max().orElseThrow();
+        this.bucketHours = new long[capacity];
+        this.buckets = new Map[capacity];
+
+        Arrays.fill(bucketHours, Long.MIN_VALUE);
+        for (int i = 0; i < capacity; i++) {
+            buckets[i] = new HashMap<>();
+        }
+        for (int window : windows) {
+            totals.put(window, new HashMap<>());
+        }
+    }
+
+    public synchronized void add(K key, long delta, long hour) {
+        if (apply(key, delta, hour)) {
+            pendingDeltas.computeIfAbsent(hour, h -> new HashMap<>()).merge(key, delta, Long::sum);
+        }
+    }
+
+    // 가장 최근 버킷부터 찾아 남아 있는 1건을 상쇄 - 보관 기간 안에 남은 값이 없으면 false
+    public synchronized boolean cancelLatest(K key, long nowHour) {
+        advance(nowHour);
+        for (long hour = currentHour; hour > currentHour - capacity; hour--) {
+            int slot = slot(hour);
+            if (bucketHours[slot] == hour && buckets[slot].getOrDefault(key, 0L) > 0) {
+                add(key, -1, hour);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 저장된 버킷 복원 - 이미 저장된 값이므로 증감분으로 남기지 않음
+    public synchronized void restore(K key, long count, long hour) {
+        apply(key, count, hour);
+    }
+
+    // 최근 window 시간 동안 합계가 큰 순서로 k 건
+    public synchronized List<Map.Entry<K, Long>> top(int window, int k, long nowHour) {
+        advance(nowHour);
+        Map<K, Long> windowTotals = totals.get(window);
+        if (windowTotals == null) {
+            throw new IllegalArgumentException("unknown window: " + window);
+        }
+
+        PriorityQueue<Map.Entry<K, Long>> heap = new PriorityQueue<>(Map.Entry.comparingByValue());
+        for (Map.Entry<K, Long> entry : windowTotals.entrySet()) {
+            if (entry.getValue() <= 0) {
+                continue;
+            }
+            heap.offer(Map.entry(entry.getKey(), entry.getValue()));
+            if (heap.size() > k) {
+                heap.poll();
+            }
+        }
+
+        List<Map.Entry<K, Long>> result = new ArrayList<>(heap);
+        result.sort(Map.Entry.<K, Long>comparingByValue().reversed());
+        return result;
+    }
+
+    // 마지막 호출 이후의 증감분 (시간 -> 항목별 증감)
+    public synchronized Map<Long, Map<K, Long>> drainPendingDeltas() {
+        Map<Long, Map<K, Long>> drained = pendingDeltas;
+        pendingDeltas = new HashMap<>();
+        return drained;
+    }
+
+    // 저장에 실패한 증감분을 되돌려 다음 저장 때 함께 보냄
+    public synchronized void requeue(long hour, Map<K, Long> deltas) {
+        Map<K, Long> pending = pendingDeltas.computeIfAbsent(hour, h -> new HashMap<>());
+        deltas.forEach((key, delta) -> pending.merge(key, delta, Long::sum));
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    // 보관 기간 밖의 시간이면 무시하고 false
+    private boolean apply(K key, long delta, long hour) {
+        advance(hour);
+        if (hour <= currentHour - capacity) {
+            return false;
+        }
+
+        int slot = slot(hour);
+        if (bucketHours[slot] != hour) {
+            buckets[slot].clear();
+            bucketHours[slot] = hour;
+        }
+        buckets[slot].merge(key, delta, Long::sum);
+
+        for (int window : windows) {
+            if (hour > currentHour - window) {
+                Map<K, Long> windowTotals = totals.get(window);
+                if (windowTotals.merge(key, delta, Long::sum) == 0) {
+                    windowTotals.remove(key);
+                }
+            }
+        }
+        return true;
+    }
+
+    // 현재 시각을 옮기면서 기간 밖으로 나간 버킷을 합계에서 제거
+    private void advance(long nowHour) {
+        if (nowHour <= currentHour) {
+            return;
+        }
+        if (currentHour == Long.MIN_VALUE || nowHour - currentHour >= capacity) {
+            totals.values().forEach(Map::clear);
+            Arrays.fill(bucketHours, Long.MIN_VALUE);
+            Arrays.stream(buckets).forEach(Map::clear);
+            currentHour = nowHour;
+            return;
+        }
+
+        for (long hour = currentHour + 1; hour <= nowHour; hour++) {
+            for (int window : windows) {
+                long expiredHour = hour - window;
+                int slot = slot(expiredHour);
+                if (bucketHours[slot] != expiredHour) {
+                    continue;
+                }
+                Map<K, Long> windowTotals = totals.get(window);
+                buckets[slot].forEach((key, count) -> {
+                    if (windowTotals.merge(key, -count, Long::sum) == 0) {
+                        windowTotals.remove(key);
+                    }
+                });
+            }
+        }
+        currentHour = nowHour;
+    }
+
+    private int slot(long hour) {
+        return (int) Math.floorMod(hour, (long) capacity);
+    }
+}
@@ -0,0 +1,29 @@
+package org.example.flowday.domain.post.trend.counter;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.example.flowday.domain.post.post.exception.PostException;
+
+import java.util.Arrays;
+
+// 트렌드 집계 기간 - API 의 window 파라미터 값
+@Getter
+@RequiredArgsConstructor
+public enum TrendWindow {
+    DAY("24h", 24),
+    WEEK("7d", 24 * 7);
+
+    private final String label;
+    private final int hours;
+
+    public static TrendWindow from(String label) {
+        return Arrays.stream(values())
+                .filter(window -> window.label.equalsIgnoreCase(label))
+                .findFirst()
+                .orElseThrow(PostException.INVALID_TREND_WINDOW::get);
+    }
+
+    public static int[] allHours() {
+        return Arrays.stream(values()).mapToInt(TrendWindow::getHours).toArray();
+    }
+}
@@ -0,0 +1,8 @@
+package org.example.flowday.domain.post.trend.dto;
+
+// 트렌드 항목과 기간 내 집계 값
+public record TrendCountDTO<K>(
+        K key,
+        long count
+) {
+}
@@ -0,0 +1,34 @@
+package org.example.flowday.domain.post.trend.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// 트렌드 카운터의 시간 버킷 스냅샷 - 재시작 시 최근 7일 집계 복원용
+@Entity
+@Table(name = "trend_buckets", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_trend_buckets_kind_hour_key", columnNames = {"kind", "bucket_hour", "item_key"})
+})
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@ToString
+@Builder
+public class TrendBucket {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private TrendKind kind;
+
+    // epoch 기준 시간 (System.currentTimeMillis() / 1시간)
+    @Column(name = "bucket_hour", nullable = false)
+    private long bucketHour;
+
+    @Column(name = "item_key", nullable = false, length = 100)
+    private String itemKey;
+
+    @Column(name = "item_count", nullable = false)
+    private long itemCount;
+}
@@ -0,0 +1,6 @@
+package org.example.flowday.domain.post.trend.entity;
+
+public enum TrendKind {
+    POST_LIKE,  // 게시글별 좋아요 수 (item_key = 게시글 ID)
+    TAG_USE     // 태그별 사용 횟수 (item_key = 정규화된 태그)
+}
@@ -0,0 +1,20 @@
+package org.example.flowday.domain.post.trend.repository;
+
+import org.example.flowday.domain.post.trend.entity.TrendBucket;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+public interface TrendBucketRepository extends JpaRepository<TrendBucket, Long>, TrendBucketRepositoryCustom {
+
+    List<TrendBucket> findByBucketHourGreaterThanOrderByBucketHourAsc(long bucketHour);
+
+    @Transactional
+    @Modifying
+    @Query("delete from TrendBucket b where b.bucketHour <= :bucketHour")
+    int deleteExpired(@Param("bucketHour") long bucketHour);
+}
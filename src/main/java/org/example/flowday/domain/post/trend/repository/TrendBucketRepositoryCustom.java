@@ -0,0 +1,10 @@
+package org.example.flowday.domain.post.trend.repository;
+
+import org.example.flowday.domain.post.trend.entity.TrendKind;
+
+import java.util.Map;
+
+public interface TrendBucketRepositoryCustom {
+    // 해당 시간 버킷에 증감분을 더함 (없는 항목은 추가) - 여러 인스턴스가 같은 버킷에 저장해도 덮어쓰지 않음
+    void addToBucket(TrendKind kind, long bucketHour, Map<String, Long> deltas);
+}
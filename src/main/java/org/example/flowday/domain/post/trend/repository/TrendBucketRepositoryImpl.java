@@ -0,0 +1,34 @@
+package org.example.flowday.domain.post.trend.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.example.flowday.domain.post.trend.entity.TrendKind;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class TrendBucketRepositoryImpl implements TrendBucketRepositoryCustom {
+    private static final String UPSERT_SQL =
+            "INSERT INTO trend_buckets (kind, bucket_hour, item_key, item_count) VALUES (?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE item_count = item_count + ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional
+    public void addToBucket(TrendKind kind, long bucketHour, Map<String, Long> deltas) {
+        // 교착 상태를 피하도록 항목 순서를 고정
+        List<Object[]> args = deltas.entrySet().stream()
+                .filter(entry -> entry.getValue() != 0)
+                .sorted(Map.Entry.comparingByKey())
+                .map(entry -> new Object[]{kind.name(), bucketHour, entry.getKey(), entry.getValue(), entry.getValue()})
+                .toList();
+        if (!args.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT_SQL, args);
+        }
+    }
+}
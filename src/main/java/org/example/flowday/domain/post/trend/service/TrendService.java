@@ -0,0 +1,153 @@
+package org.example.flowday.domain.post.trend.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.flowday.domain.post.likes.event.dto.PostLikeChangedEvent;
+import org.example.flowday.domain.post.post.entity.Status;
+import org.example.flowday.domain.post.post.event.dto.PostCreatedEvent;
+import org.example.flowday.domain.post.post.event.dto.PostUpdatedEvent;
+import org.example.flowday.domain.post.tag.util.TagNormalizer;
+import org.example.flowday.domain.post.trend.counter.SlidingWindowCounter;
+import org.example.flowday.domain.post.trend.counter.TrendWindow;
+import org.example.flowday.domain.post.trend.dto.TrendCountDTO;
+import org.example.flowday.domain.post.trend.entity.TrendBucket;
+import org.example.flowday.domain.post.trend.entity.TrendKind;
+import org.example.flowday.domain.post.trend.repository.TrendBucketRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 최근 24시간 / 7일 트렌드 집계
+ * 게시글별 좋아요 수와 태그별 사용 횟수를 시간 단위 버킷 카운터에 누적하고,
+ * 마지막 저장 이후의 증감분만 주기적으로 trend_buckets 에 더해 저장하여 재시작 시 복원합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TrendService {
+    private static final long HOUR_MILLIS = 60 * 60 * 1000L;
+    public static final int MAX_SIZE = 50;
+
+    private final TrendBucketRepository trendBucketRepository;
+    private final SlidingWindowCounter<Long> postLikes = new SlidingWindowCounter<>(TrendWindow.allHours());
+    private final SlidingWindowCounter<String> tagUses = new SlidingWindowCounter<>(TrendWindow.allHours());
+
+    // 기간 내 좋아요가 많은 게시글 ID (많은 순) - 비공개 게시글을 거르고 채울 수 있도록 MAX_SIZE 로 자르지 않음
+    public List<TrendCountDTO<Long>> topPosts(TrendWindow window, int size) {
+        return top(postLikes, window, Math.max(1, size));
+    }
+
+    // 기간 내 많이 사용된 태그 (많은 순)
+    public List<TrendCountDTO<String>> topTags(TrendWindow window, int size) {
+        return top(tagUses, window, Math.max(1, Math.min(size, MAX_SIZE)));
+    }
+
+    private <K> List<TrendCountDTO<K>> top(SlidingWindowCounter<K> counter, TrendWindow window, int limit) {
+        return counter.top(window.getHours(), limit, currentHour()).stream()
+                .map(entry -> new TrendCountDTO<>(entry.getKey(), entry.getValue()))
+                .toList();
+    }
+
+    // 좋아요 취소는 조회 없이 가장 최근 버킷에 남은 좋아요를 상쇄 (기간 안에 남은 좋아요가 없으면 무시)
+    @TransactionalEventListener
+    public void handle(PostLikeChangedEvent event) {
+        if (event.liked()) {
+            postLikes.add(event.postId(), 1, currentHour());
+        } else {
+            postLikes.cancelLatest(event.postId(), currentHour());
+        }
+    }
+
+    @TransactionalEventListener
+    public void handle(PostCreatedEvent event) {
+        if (event.post().status() == Status.PUBLIC) {
+            countTags(event.post().tags(), List.of());
+        }
+    }
+
+    // 새로 추가된 태그만 사용으로 집계 (공개로 전환된 경우 모든 태그)
+    @TransactionalEventListener
+    public void handle(PostUpdatedEvent event) {
+        if (event.after().status() != Status.PUBLIC) {
+            return;
+        }
+        List<String> before = event.before().status() == Status.PUBLIC ? event.before().tags() : List.of();
+        countTags(event.after().tags(), before);
+    }
+
+    private void countTags(List<String> tags, List<String> excluded) {
+        Set<String> excludedNames = normalize(excluded);
+        long hour = currentHour();
+        for (String name : normalize(tags)) {
+            if (!excludedNames.contains(name)) {
+                tagUses.add(name, 1, hour);
+            }
+        }
+    }
+
+    private Set<String> normalize(List<String> tags) {
+        if (tags == null) {
+            return Set.of();
+        }
+        return tags.stream()
+                .map(TagNormalizer::normalize)
+                .filter(name -> !name.isEmpty())
+                .collect(Collectors.toSet());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void restore() {
+        long oldestHour = currentHour() - postLikes.capacity();
+        List<TrendBucket> buckets = trendBucketRepository.findByBucketHourGreaterThanOrderByBucketHourAsc(oldestHour);
+
+        for (TrendBucket bucket : buckets) {
+            switch (bucket.getKind()) {
+                case POST_LIKE -> postLikes.restore(Long.valueOf(bucket.getItemKey()), bucket.getItemCount(), bucket.getBucketHour());
+                case TAG_USE -> tagUses.restore(bucket.getItemKey(), bucket.getItemCount(), bucket.getBucketHour());
+            }
+        }
+        log.info("트렌드 버킷 복원 완료 - {}건", buckets.size());
+    }
+
+    @Scheduled(fixedDelayString = "${custom.trend.persist-interval-ms:300000}")
+    public synchronized void persist() {
+        save(TrendKind.POST_LIKE, postLikes);
+        save(TrendKind.TAG_USE, tagUses);
+        try {
+            trendBucketRepository.deleteExpired(currentHour() - postLikes.capacity());
+        } catch (DataAccessException e) {
+            log.warn("만료된 트렌드 버킷 삭제 실패 - 다음 저장 시 다시 삭제", e);
+        }
+    }
+
+    // 버킷 단위로 저장하고, 실패한 버킷의 증감분은 되돌려 다음 저장 때 다시 시도
+    private <K> void save(TrendKind kind, SlidingWindowCounter<K> counter) {
+        for (Map.Entry<Long, Map<K, Long>> bucket : counter.drainPendingDeltas().entrySet()) {
+            Map<String, Long> deltas = new HashMap<>();
+            bucket.getValue().forEach((key, delta) -> deltas.put(String.valueOf(key), delta));
+            try {
+                trendBucketRepository.addToBucket(kind, bucket.getKey(), deltas);
+            } catch (DataAccessException e) {
+                counter.requeue(bucket.getKey(), bucket.getValue());
+                log.warn("트렌드 버킷 저장 실패 - {} {}시 버킷은 다음 저장 때 다시 시도", kind, bucket.getKey(), e);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        persist();
+    }
+
+    private long currentHour() {
+        return System.currentTimeMillis() / HOUR_MILLIS;
+    }
+}
@@ -5,6 +5,8 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+import java.util.concurrent.ThreadPoolExecutor;
+
 @Configuration
 @EnableAsync
 public class AsyncConfig {
@@ -19,4 +21,32 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
+
+    // S3 업로드 전용 풀 - 동시 업로드 수를 제한하고, 큐가 차면 작업은 아웃박스에 남아 다음 폴링에서 처리
+    @Bean
+    public ThreadPoolTaskExecutor fileUploadExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("FileUpload-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    // 요청 안의 여러 이미지를 동시에 올리는 S3 PUT 풀 - 모든 요청이 공유하므로 인스턴스 전체의 동시 PUT 수가 제한됨
+    // 큐까지 차면 요청 스레드가 직접 올림 (업로드를 버리지 않고 요청 속도를 늦춤)
+    @Bean
+    public ThreadPoolTaskExecutor filePutExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(8);
+        executor.setMaxPoolSize(8);
+        executor.setQueueCapacity(200);
+        executor.setThreadNamePrefix("FilePut-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
 }
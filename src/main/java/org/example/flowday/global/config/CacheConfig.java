@@ -0,0 +1,27 @@
+package org.example.flowday.global.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+    public static final String POST_DETAIL = "postDetail";
+
+    @Bean
+    public CacheManager cacheManager() {
+        // 캐시 이름을 미리 등록해야 actuator가 기동 시 hit/miss/eviction 메트릭을 등록합니다
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(POST_DETAIL);
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                .maximumSize(10_000)                        // 최대 항목 수 (초과 시 빈도 낮은 항목부터 제거)
+                .expireAfterWrite(Duration.ofMinutes(5))    // 이벤트 누락 대비 최대 보관 시간
+                .recordStats());
+        return cacheManager;
+    }
+}
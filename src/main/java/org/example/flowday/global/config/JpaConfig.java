@@ -3,6 +3,8 @@ package org.example.flowday.global.config;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
+import org.example.flowday.domain.post.likes.repository.LikeDuplicateCleanup;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -19,4 +21,10 @@ public class JpaConfig {
         return new JPAQueryFactory(entityManager);
     }
 
+    // ddl-auto 가 유니크 제약을 추가하기 전에 기존 중복 행을 정리
+    @Bean
+    public static EntityManagerFactoryDependsOnPostProcessor likeDuplicateCleanupDependsOn() {
+        return new EntityManagerFactoryDependsOnPostProcessor(LikeDuplicateCleanup.class);
+    }
+
 }
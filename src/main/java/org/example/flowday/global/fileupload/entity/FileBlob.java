@@ -0,0 +1,33 @@
+package org.example.flowday.global.fileupload.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// 내용(SHA-256) 기준으로 공유되는 S3 객체 - 이 객체를 가리키는 업로드 완료 GenFile 수를 참조 수로 관리
+@Entity
+@Table(name = "file_blobs", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_file_blobs_hash", columnNames = "hash")
+})
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@ToString
+@Builder
+public class FileBlob {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 64)
+    private String hash;
+
+    @Column(name = "file_size", nullable = false)
+    private long fileSize;
+
+    @Column(name = "content_type", length = 100)
+    private String contentType;
+
+    // FileBlobRepository.addRef 로만 변경 (동시 수정 시 유실 방지)
+    @Column(name = "ref_count", updatable = false)
+    private int refCount;
+}
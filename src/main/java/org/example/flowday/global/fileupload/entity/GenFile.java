@@ -36,12 +36,23 @@ public class GenFile {
     private String originFileName;  // 원본 파일 이름
     private String s3FileName;      // 실제 S3에 업로드된 파일 이름 (UUID 포함)
 
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private GenFileStatus status;   // 업로드 상태 (null 은 이전 데이터로 READY 취급)
+
+    @Column(length = 64)
+    private String contentHash;     // 파일 내용 SHA-256 (스트리밍 업로드에서 계산, 이전 데이터는 null)
+
 
 
     public String getFileName() {
         return getId() + "." + getFileExt();
     }
 
+    public boolean isReady() {
+        return status == null || status == GenFileStatus.READY;
+    }
+
     public String getUrl() {
         return "/gen/" + getFileDir() + "/" + getFileName();
     }
@@ -58,5 +69,7 @@ public class GenFile {
         fileDir = other.getFileDir();
         originFileName = other.getOriginFileName();
         s3FileName = other.getS3FileName();
+        status = other.getStatus();
+        contentHash = other.getContentHash();
     }
 }
@@ -0,0 +1,8 @@
+package org.example.flowday.global.fileupload.entity;
+
+// 파일 업로드 상태 - 컬럼 추가 이전에 저장된 파일(null)은 READY 로 취급
+public enum GenFileStatus {
+    PENDING,
+    READY,
+    FAILED
+}
@@ -0,0 +1,112 @@
+package org.example.flowday.global.fileupload.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// S3 업로드 작업 아웃박스 - 게시글 트랜잭션과 함께 커밋되고 업로드 워커가 처리합니다.
+@Entity
+@Table(name = "gen_file_upload_jobs", indexes = {
+        @Index(name = "idx_upload_jobs_status_next_attempt", columnList = "status, next_attempt_at")
+})
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@ToString
+@Builder
+public class GenFileUploadJob {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "gen_file_id", nullable = false)
+    private Long genFileId;
+
+    @Column(name = "s3_key", nullable = false, length = 500)
+    private String s3Key;
+
+    @Column(name = "content_type", length = 100)
+    private String contentType;
+
+    // 업로드 전까지 파일 내용을 보관하는 로컬 경로
+    @Column(name = "staged_path", nullable = false, length = 500)
+    private String stagedPath;
+
+    // 임시 파일을 저장한 인스턴스 - 해당 인스턴스의 워커만 처리 (이전 데이터는 null 로 어느 인스턴스든 처리)
+    @Column(name = "owner", length = 100)
+    private String owner;
+
+    // 이 업로드로 교체된 이전 S3 객체 - 작업이 끝난 뒤(새 파일이 READY 가 된 뒤) 정리
+    @Column(name = "replaced_file_dir", length = 200)
+    private String replacedFileDir;
+
+    @Column(name = "replaced_s3_file_name", length = 200)
+    private String replacedS3FileName;
+
+    @Column(name = "replaced_content_hash", length = 64)
+    private String replacedContentHash;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "replaced_status", length = 20)
+    private GenFileStatus replacedStatus;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private UploadJobStatus status;
+
+    // RUNNING 으로 선점한 시각 - 오래 머문 작업은 워커가 다시 PENDING 으로 돌림
+    @Column(name = "locked_at")
+    private LocalDateTime lockedAt;
+
+    public static GenFileUploadJob of(Long genFileId, String s3Key, String contentType, String stagedPath,
+                                      String owner, GenFile replaced) {
+        return GenFileUploadJob.builder()
+                .genFileId(genFileId)
+                .s3Key(s3Key)
+                .contentType(contentType)
+                .stagedPath(stagedPath)
+                .owner(owner)
+                .replacedFileDir(replaced != null ? replaced.getFileDir() : null)
+                .replacedS3FileName(replaced != null ? replaced.getS3FileName() : null)
+                .replacedContentHash(replaced != null ? replaced.getContentHash() : null)
+                .replacedStatus(replaced != null ? replaced.getStatus() : null)
+                .attempts(0)
+                .nextAttemptAt(LocalDateTime.now())
+                .status(UploadJobStatus.PENDING)
+                .build();
+    }
+
+    // 교체된 이전 객체 정보 (없으면 null)
+    public GenFile replacedObject() {
+        if (replacedFileDir == null && replacedS3FileName == null) {
+            return null;
+        }
+        return GenFile.builder()
+                .fileDir(replacedFileDir)
+                .s3FileName(replacedS3FileName)
+                .contentHash(replacedContentHash)
+                .status(replacedStatus)
+                .build();
+    }
+
+    // 실패 기록 후 다음 시도 시각 예약
+    public void retryAt(LocalDateTime nextAttemptAt) {
+        attempts++;
+        this.nextAttemptAt = nextAttemptAt;
+        status = UploadJobStatus.PENDING;
+        lockedAt = null;
+    }
+
+    public void fail() {
+        attempts++;
+        status = UploadJobStatus.FAILED;
+        lockedAt = null;
+    }
+}
@@ -0,0 +1,8 @@
+package org.example.flowday.global.fileupload.entity;
+
+// 업로드 작업 상태 - 완료된 작업은 행을 삭제하므로 별도 상태가 없음
+public enum UploadJobStatus {
+    PENDING,
+    RUNNING,
+    FAILED
+}
@@ -0,0 +1,5 @@
+package org.example.flowday.global.fileupload.event;
+
+// 더 이상 참조되지 않는 이전 방식(내용 주소가 아닌) S3 객체 - 커밋 후 삭제합니다.
+public record GenFileObjectReleasedEvent(String s3Key) {
+}
@@ -0,0 +1,7 @@
+package org.example.flowday.global.fileupload.event;
+
+import java.util.List;
+
+// 업로드 작업 등록 이벤트 - 커밋 시 워커를 깨우고, 롤백 시 임시 파일을 정리합니다.
+public record GenFileUploadEnqueuedEvent(List<String> stagedPaths) {
+}
@@ -0,0 +1,7 @@
+package org.example.flowday.global.fileupload.event;
+
+// 업로드 작업 없이 바로 저장된 원본(스트리밍 / multipart)의 변형 이미지 생성 요청 - 커밋 후 워커가 처리합니다.
+// 처리 시점에 같은 자리의 원본 내용(contentHash)이 바뀌었으면 건너뜁니다.
+public record GenFileVariantsRequestedEvent(String relTypeCode, Long relId, String typeCode, String type2Code,
+                                            int fileNo, String contentHash) {
+}
@@ -0,0 +1,82 @@
+package org.example.flowday.global.fileupload.image;
+
+/**
+ * JPEG 의 EXIF Orientation(0x0112) 값 읽기
+ * APP1 세그먼트의 TIFF IFD0 만 확인하며, 값이 없거나 형식이 맞지 않으면 1(회전 없음)을 반환합니다.
+ */
+final class ExifOrientation {
+    private static final int NORMAL = 1;
+    private static final int TAG_ORIENTATION = 0x0112;
+
+    private ExifOrientation() {
+    }
+
+    static int read(byte[] data) {
+        if (data.length < 4 || u8(data, 0) != 0xFF || u8(data, 1) != 0xD8) {
+            return NORMAL;
+        }
+
+        int pos = 2;
+        while (pos + 4 <= data.length && u8(data, pos) == 0xFF) {
+            int marker = u8(data, pos + 1);
+            int length = (u8(data, pos + 2) << 8) | u8(data, pos + 3);
+            // 이미지 데이터(SOS) 이후에는 EXIF 가 없음
+            if (marker == 0xDA || marker == 0xD9 || length < 2) {
+                return NORMAL;
+            }
+            if (marker == 0xE1 && isExifHeader(data, pos + 4)) {
+                return readTiff(data, pos + 10, Math.min(data.length, pos + 2 + length));
+            }
+            pos += 2 + length;
+        }
+        return NORMAL;
+    }
+
+    private static boolean isExifHeader(byte[] data, int pos) {
+        return pos + 6 <= data.length
+                && data[pos] == 'E' && data[pos + 1] == 'x' && data[pos + 2] == 'i' && data[pos + 3] == 'f'
+                && data[pos + 4] == 0 && data[pos + 5] == 0;
+    }
+
+    private static int readTiff(byte[] data, int tiff, int end) {
+        if (tiff + 8 > end) {
+            return NORMAL;
+        }
+        boolean littleEndian = data[tiff] == 'I';
+
+        long ifdOffset = u32(data, tiff + 4, littleEndian);
+        if (ifdOffset < 8 || tiff + ifdOffset + 2 > end) {
+            return NORMAL;
+        }
+        int ifd = (int) (tiff + ifdOffset);
+
+        int count = u16(data, ifd, littleEndian);
+        for (int i = 0; i < count; i++) {
+            int entry = ifd + 2 + i * 12;
+            if (entry + 12 > end) {
+                break;
+            }
+            if (u16(data, entry, littleEndian) == TAG_ORIENTATION) {
+                int value = u16(data, entry + 8, littleEndian);
+                return value >= 1 && value <= 8 ? value : NORMAL;
+            }
+        }
+        return NORMAL;
+    }
+
+    private static int u8(byte[] data, int pos) {
+        return data[pos] & 0xFF;
+    }
+
+    private static int u16(byte[] data, int pos, boolean littleEndian) {
+        return littleEndian
+                ? u8(data, pos) | (u8(data, pos + 1) << 8)
+                : (u8(data, pos) << 8) | u8(data, pos + 1);
+    }
+
+    private static long u32(byte[] data, int pos, boolean littleEndian) {
+        return littleEndian
+                ? (long) u16(data, pos, true) | ((long) u16(data, pos + 2, true) << 16)
+                : ((long) u16(data, pos, false) << 16) | u16(data, pos + 2, false);
+    }
+}
@@ -0,0 +1,35 @@
+package org.example.flowday.global.fileupload.image;
+
+import java.util.Arrays;
+import java.util.List;
+
+// 피드용 고정 너비 이미지 - 원본과 같은 fileNo 로 저장하고 type2Code 로 구분
+public enum ImageVariant {
+    W320(320),
+    W640(640),
+    W1280(1280);
+
+    private static final List<String> TYPE2_CODES = Arrays.stream(values()).map(ImageVariant::type2Code).toList();
+
+    private final int width;
+
+    ImageVariant(int width) {
+        this.width = width;
+    }
+
+    public int width() {
+        return width;
+    }
+
+    public String type2Code() {
+        return "w" + width;
+    }
+
+    public static List<String> type2Codes() {
+        return TYPE2_CODES;
+    }
+
+    public static boolean isVariant(String type2Code) {
+        return type2Code != null && TYPE2_CODES.contains(type2Code);
+    }
+}
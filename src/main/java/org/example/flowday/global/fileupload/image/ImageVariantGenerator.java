@@ -0,0 +1,184 @@
+package org.example.flowday.global.fileupload.image;
+
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 원본 이미지로 고정 너비 변형 이미지를 만드는 생성기 (ImageIO 만 사용)
+ * 투명도가 있으면 PNG, 없으면 JPEG 로 다시 인코딩하며 메타데이터를 쓰지 않으므로 EXIF 는 제거됩니다.
+ * EXIF 회전 값은 제거 전에 픽셀에 반영하고, 원본보다 넓은 변형과 GIF(애니메이션)는 만들지 않습니다.
+ */
+@Component
+public class ImageVariantGenerator {
+    private static final float JPEG_QUALITY = 0.82f;
+    // 디코딩 전 픽셀 수 제한 (압축 폭탄 방지) - ARGB 로 약 96MB
+    static final long MAX_PIXELS = 24_000_000L;
+    // 동시에 디코딩하는 원본 수 제한 - 업로드 풀 크기와 무관하게 디코딩 메모리는 최대 약 MAX_PIXELS * 4 * 2 바이트
+    private static final int MAX_CONCURRENT_DECODES = 2;
+
+    private final Semaphore decodePermits = new Semaphore(MAX_CONCURRENT_DECODES);
+
+    public record VariantImage(ImageVariant variant, int width, int height, byte[] bytes, String fileExt, String contentType) {
+    }
+
+    // 원본을 디코딩한 이미지가 변형을 모두 만들 때까지 메모리에 있으므로 전체를 허가 안에서 실행
+    public List<VariantImage> generate(byte[] original) throws IOException {
+        decodePermits.acquireUninterruptibly();
+        try {
+            return generateVariants(original);
+        } finally {
+            decodePermits.release();
+        }
+    }
+
+    private List<VariantImage> generateVariants(byte[] original) throws IOException {
+        BufferedImage source = read(original);
+        if (source == null) {
+            return List.of();
+        }
+        source = applyOrientation(source, ExifOrientation.read(original));
+
+        boolean alpha = source.getColorModel().hasAlpha();
+        List<VariantImage> variants = new ArrayList<>();
+        for (ImageVariant variant : ImageVariant.values()) {
+            if (variant.width() >= source.getWidth()) {
+                continue;
+            }
+
+            BufferedImage scaled = scale(source, variant.width(), alpha);
+            byte[] bytes = alpha ? writePng(scaled) : writeJpeg(scaled);
+            variants.add(new VariantImage(variant, scaled.getWidth(), scaled.getHeight(), bytes,
+                    alpha ? "png" : "jpg", alpha ? "image/png" : "image/jpeg"));
+        }
+        return variants;
+    }
+
+    private BufferedImage read(byte[] original) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(new ByteArrayInputStream(original))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+            if (!readers.hasNext()) {
+                return null;
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in);
+                if ("gif".equalsIgnoreCase(reader.getFormatName())
+                        || (long) reader.getWidth(0) * reader.getHeight(0) > MAX_PIXELS) {
+                    return null;
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // 1/2 씩 줄인 뒤 마지막에 목표 너비로 맞춤 (한 번에 크게 줄일 때 생기는 계단 현상 방지)
+    static BufferedImage scale(BufferedImage source, int targetWidth, boolean alpha) {
+        int targetHeight = Math.max(1, (int) Math.round((double) source.getHeight() * targetWidth / source.getWidth()));
+
+        BufferedImage current = source;
+        int width = source.getWidth();
+        int height = source.getHeight();
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = width == targetWidth ? targetHeight : Math.max(targetHeight, height / 2);
+            current = draw(current, width, height, alpha);
+        } while (width != targetWidth);
+
+        return current;
+    }
+
+    private static BufferedImage draw(BufferedImage source, int width, int height, boolean alpha) {
+        BufferedImage target = new BufferedImage(width, height, alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+
+    // EXIF 회전 반영 (3: 180도, 6: 시계 90도, 8: 반시계 90도 - 좌우 반전 값은 무시)
+    static BufferedImage applyOrientation(BufferedImage source, int orientation) {
+        int w = source.getWidth();
+        int h = source.getHeight();
+
+        AffineTransform transform = new AffineTransform();
+        boolean swap;
+        switch (orientation) {
+            case 3 -> {
+                transform.translate(w, h);
+                transform.rotate(Math.PI);
+                swap = false;
+            }
+            case 6 -> {
+                transform.translate(h, 0);
+                transform.rotate(Math.PI / 2);
+                swap = true;
+            }
+            case 8 -> {
+                transform.translate(0, w);
+                transform.rotate(-Math.PI / 2);
+                swap = true;
+            }
+            default -> {
+                return source;
+            }
+        }
+
+        boolean alpha = source.getColorModel().hasAlpha();
+        BufferedImage target = new BufferedImage(swap ? h : w, swap ? w : h,
+                alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.drawImage(source, transform, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+
+    private static byte[] writeJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(JPEG_QUALITY);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream ios = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(ios);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] writePng(BufferedImage image) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+}
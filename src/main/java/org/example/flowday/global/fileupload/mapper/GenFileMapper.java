@@ -2,33 +2,68 @@ package org.example.flowday.global.fileupload.mapper;
 
 import org.example.flowday.domain.post.post.dto.GenFileResponseDTO;
 import org.example.flowday.global.fileupload.entity.GenFile;
+import org.example.flowday.global.fileupload.entity.GenFileStatus;
 
 import java.io.UnsupportedEncodingException;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 public class GenFileMapper {
+    // 원본 응답에 변형 이미지 URL(type2Code -> url) 추가 - 업로드가 끝난 변형만 포함
+    public static GenFileResponseDTO toResponseDTO(GenFile genFile, Collection<GenFile> variants) {
+        GenFileResponseDTO dto = toResponseDTO(genFile);
+        if (dto.getUrl() == null) {
+            return dto;
+        }
+
+        Map<String, String> variantUrls = new LinkedHashMap<>();
+        for (GenFile variant : variants) {
+            if (variant.isReady()) {
+                variantUrls.put(variant.getType2Code(), toUrl(variant));
+            }
+        }
+        dto.setVariantUrls(variantUrls);
+        return dto;
+    }
+
     public static GenFileResponseDTO toResponseDTO(GenFile genFile) {
+        // 아직 업로드되지 않은(또는 실패한) 파일은 URL 없이 상태만 전달
+        if (!genFile.isReady()) {
+            return GenFileResponseDTO.builder()
+                    .id(genFile.getId())
+                    .originFileName(genFile.getOriginFileName())
+                    .fileSize(genFile.getFileSize())
+                    .fileExt(genFile.getFileExt())
+                    .status(genFile.getStatus())
+                    .build();
+        }
+
+        return GenFileResponseDTO.builder()
+                .id(genFile.getId())
+                .url(toUrl(genFile))
+                .originFileName(genFile.getOriginFileName())
+                .fileSize(genFile.getFileSize())
+                .fileExt(genFile.getFileExt())
+                .status(GenFileStatus.READY)
+                .build();
+    }
+
+    public static String toUrl(GenFile genFile) {
         // 파일 경로와 파일 이름을 URL 인코딩
         String encodedFileDir = encodePath(genFile.getFileDir());
         String encodedS3FileName = encodePath(genFile.getS3FileName());
 
         // S3에 저장된 파일의 URL을 사용하여 파일 URL 생성
-        String fileUrl = String.format("https://%s.s3.%s.amazonaws.com/%s/%s",
+        return String.format("https://%s.s3.%s.amazonaws.com/%s/%s",
                 "flowday", // 버킷 이름
                 "ap-northeast-2", // AWS 리전
                 encodedFileDir,
                 encodedS3FileName); // 실제 S3에 저장된 파일 이름 (UUID 포함된 이름)
-
-        return GenFileResponseDTO.builder()
-                .id(genFile.getId())
-                .url(fileUrl)
-                .originFileName(genFile.getOriginFileName())
-                .fileSize(genFile.getFileSize())
-                .fileExt(genFile.getFileExt())
-                .build();
     }
 
     // 경로의 각 부분을 인코딩하는 메서드
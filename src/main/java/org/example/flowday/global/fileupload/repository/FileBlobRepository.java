@@ -0,0 +1,26 @@
+package org.example.flowday.global.fileupload.repository;
+
+import jakarta.persistence.LockModeType;
+import org.example.flowday.global.fileupload.entity.FileBlob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+public interface FileBlobRepository extends JpaRepository<FileBlob, Long>, FileBlobRepositoryCustom {
+
+    // 참조 수 증감 - 해당 해시가 없으면 0 반환
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE file_blobs SET ref_count = GREATEST(ref_count + :delta, 0) WHERE hash = :hash", nativeQuery = true)
+    int addRef(@Param("hash") String hash, @Param("delta") int delta);
+
+    // 삭제 여부 판단용 - 행 잠금으로 동시에 참조를 늘리는 요청과 순서를 맞춤
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM FileBlob b WHERE b.hash = :hash")
+    Optional<FileBlob> findForUpdate(@Param("hash") String hash);
+}
@@ -0,0 +1,6 @@
+package org.example.flowday.global.fileupload.repository;
+
+public interface FileBlobRepositoryCustom {
+    // 참조 수 1로 등록 - 같은 해시가 이미 있으면 무시하고 0 반환
+    int insertIgnore(String hash, long fileSize, String contentType);
+}
@@ -0,0 +1,21 @@
+package org.example.flowday.global.fileupload.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+@RequiredArgsConstructor
+public class FileBlobRepositoryImpl implements FileBlobRepositoryCustom {
+    private static final String INSERT_IGNORE_SQL =
+            "INSERT IGNORE INTO file_blobs (hash, file_size, content_type, ref_count) VALUES (?, ?, ?, 1)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional
+    public int insertIgnore(String hash, long fileSize, String contentType) {
+        return jdbcTemplate.update(INSERT_IGNORE_SQL, hash, fileSize, contentType);
+    }
+}
@@ -1,15 +1,54 @@
 package org.example.flowday.global.fileupload.repository;
 
+import jakarta.persistence.LockModeType;
 import org.example.flowday.global.fileupload.entity.GenFile;
+import org.example.flowday.global.fileupload.entity.GenFileStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface GenFileRepository extends JpaRepository<GenFile, Long> {
+public interface GenFileRepository extends JpaRepository<GenFile, Long>, GenFileRepositoryCustom {
     List<GenFile> findByRelTypeCodeAndRelId(String post, Long id);
 
+    // 파일 목록 수정(번호 다시 매김)용 - 워커가 같은 원본의 변형을 저장하는 동안 번호가 바뀌지 않도록 행을 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT g FROM GenFile g WHERE g.relTypeCode = :relTypeCode AND g.relId = :relId")
+    List<GenFile> findForUpdate(@Param("relTypeCode") String relTypeCode, @Param("relId") Long relId);
+
+    // 변형 저장 직전에 원본의 현재 번호 / 내용을 다시 읽음 - 파일 목록 수정과 순서를 맞춤
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT g FROM GenFile g WHERE g.id = :id")
+    Optional<GenFile> findByIdForUpdate(@Param("id") Long id);
+
     Optional<GenFile> findByRelTypeCodeAndRelIdAndTypeCodeAndType2CodeAndFileNo(String relTypeCode, long relId, String typeCode, String type2Code, int fileNo);
+
+    List<GenFile> findByRelTypeCodeAndRelIdAndTypeCodeAndFileNo(String relTypeCode, long relId, String typeCode, int fileNo);
+
+    // 여러 객체의 첫번째 원본 파일(fileNo 최소)과 그 변형(variantCode)을 한 번의 쿼리로 조회 - 업로드가 끝난 파일만 대상
+    @Query("SELECT g FROM GenFile g " +
+            "WHERE g.relTypeCode = :relTypeCode AND g.relId IN :relIds " +
+            "AND (g.status IS NULL OR g.status = org.example.flowday.global.fileupload.entity.GenFileStatus.READY) " +
+            "AND (g.type2Code NOT IN :variantCodes OR g.type2Code = :variantCode) " +
+            "AND g.fileNo = (SELECT MIN(g2.fileNo) FROM GenFile g2 " +
+            "WHERE g2.relTypeCode = g.relTypeCode AND g2.relId = g.relId AND g2.type2Code NOT IN :variantCodes " +
+            "AND (g2.status IS NULL OR g2.status = org.example.flowday.global.fileupload.entity.GenFileStatus.READY))")
+    List<GenFile> findFirstFilesByRelTypeCodeAndRelIdIn(@Param("relTypeCode") String relTypeCode, @Param("relIds") Collection<Long> relIds,
+                                                        @Param("variantCodes") Collection<String> variantCodes, @Param("variantCode") String variantCode);
+
+    // 업로드 완료 처리 - 그 사이 파일이 삭제되거나 다른 파일로 교체됐다면 0 반환
+    @Transactional
+    @Modifying
+    @Query("UPDATE GenFile g SET g.status = :status " +
+            "WHERE g.id = :id AND g.status = org.example.flowday.global.fileupload.entity.GenFileStatus.PENDING " +
+            "AND CONCAT(g.fileDir, '/', g.s3FileName) = :s3Key")
+    int completeUpload(@Param("id") Long id, @Param("s3Key") String s3Key, @Param("status") GenFileStatus status);
 }
@@ -0,0 +1,10 @@
+package org.example.flowday.global.fileupload.repository;
+
+import org.example.flowday.global.fileupload.entity.GenFile;
+
+import java.util.List;
+
+public interface GenFileRepositoryCustom {
+    // 파일 메타데이터 일괄 INSERT (IDENTITY 전략에서는 JPA 배치 INSERT 가 동작하지 않음)
+    void insertAll(List<GenFile> genFiles);
+}
@@ -0,0 +1,45 @@
+package org.example.flowday.global.fileupload.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.example.flowday.global.fileupload.entity.GenFile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class GenFileRepositoryImpl implements GenFileRepositoryCustom {
+    // 컬럼명은 CamelCaseToUnderscoresNamingStrategy 기준 (type2Code -> type2code, s3FileName -> s3file_name)
+    private static final String INSERT_SQL = "INSERT INTO gen_file " +
+            "(created_at, modified_at, rel_type_code, rel_id, type_code, type2code, file_size, file_no, " +
+            "file_ext, file_dir, origin_file_name, s3file_name, status, content_hash) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional
+    public void insertAll(List<GenFile> genFiles) {
+        if (genFiles.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> args = genFiles.stream()
+                .map(genFile -> new Object[]{
+                        now, now,
+                        genFile.getRelTypeCode(), genFile.getRelId(),
+                        genFile.getTypeCode(), genFile.getType2Code(),
+                        genFile.getFileSize(), genFile.getFileNo(),
+                        genFile.getFileExt(), genFile.getFileDir(),
+                        genFile.getOriginFileName(), genFile.getS3FileName(),
+                        genFile.getStatus() != null ? genFile.getStatus().name() : null,
+                        genFile.getContentHash()
+                })
+                .toList();
+        jdbcTemplate.batchUpdate(INSERT_SQL, args);
+    }
+}
@@ -0,0 +1,60 @@
+package org.example.flowday.global.fileupload.repository;
+
+import org.example.flowday.global.fileupload.entity.GenFileUploadJob;
+import org.example.flowday.global.fileupload.entity.UploadJobStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface GenFileUploadJobRepository extends JpaRepository<GenFileUploadJob, Long> {
+
+    // 이 인스턴스가 처리할 수 있는(임시 파일을 가진) 실행 시각이 된 대기 작업 ID (오래된 순)
+    @Query("SELECT j.id FROM GenFileUploadJob j " +
+            "WHERE j.status = :status AND j.nextAttemptAt <= :now AND (j.owner = :owner OR j.owner IS NULL) " +
+            "ORDER BY j.nextAttemptAt ASC, j.id ASC")
+    List<Long> findDueIds(@Param("status") UploadJobStatus status, @Param("now") LocalDateTime now,
+                          @Param("owner") String owner, Pageable pageable);
+
+    // 대기 중인 작업만 선점 - 1 이면 선점 성공
+    @Transactional
+    @Modifying
+    @Query("UPDATE GenFileUploadJob j SET j.status = org.example.flowday.global.fileupload.entity.UploadJobStatus.RUNNING, j.lockedAt = :now " +
+            "WHERE j.id = :id AND j.status = org.example.flowday.global.fileupload.entity.UploadJobStatus.PENDING")
+    int claim(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    // 선점했지만 실행하지 못한 작업 반납
+    @Transactional
+    @Modifying
+    @Query("UPDATE GenFileUploadJob j SET j.status = org.example.flowday.global.fileupload.entity.UploadJobStatus.PENDING, j.lockedAt = null " +
+            "WHERE j.id = :id AND j.status = org.example.flowday.global.fileupload.entity.UploadJobStatus.RUNNING")
+    int release(@Param("id") Long id);
+
+    // 이 인스턴스의 워커가 중단되어 RUNNING 으로 남은 작업 복구
+    @Transactional
+    @Modifying
+    @Query("UPDATE GenFileUploadJob j SET j.status = org.example.flowday.global.fileupload.entity.UploadJobStatus.PENDING, j.lockedAt = null " +
+            "WHERE j.status = org.example.flowday.global.fileupload.entity.UploadJobStatus.RUNNING AND j.lockedAt < :lockedBefore " +
+            "AND (j.owner = :owner OR j.owner IS NULL)")
+    int recoverStuck(@Param("lockedBefore") LocalDateTime lockedBefore, @Param("owner") String owner);
+
+    // 기한이 지나도록 처리되지 않은 작업 ID - 임시 파일을 가진 인스턴스가 사라진 경우 (인스턴스 구분 없음)
+    @Query("SELECT j.id FROM GenFileUploadJob j " +
+            "WHERE (j.status = org.example.flowday.global.fileupload.entity.UploadJobStatus.PENDING AND j.nextAttemptAt < :before) " +
+            "OR (j.status = org.example.flowday.global.fileupload.entity.UploadJobStatus.RUNNING AND j.lockedAt < :before) " +
+            "ORDER BY j.id ASC")
+    List<Long> findOrphanedIds(@Param("before") LocalDateTime before, Pageable pageable);
+
+    // 조회 이후 처리되지 않은 경우에만 FAILED 로 - 1 이면 성공
+    @Transactional
+    @Modifying
+    @Query("UPDATE GenFileUploadJob j SET j.status = org.example.flowday.global.fileupload.entity.UploadJobStatus.FAILED, j.lockedAt = null " +
+            "WHERE j.id = :id AND ((j.status = org.example.flowday.global.fileupload.entity.UploadJobStatus.PENDING AND j.nextAttemptAt < :before) " +
+            "OR (j.status = org.example.flowday.global.fileupload.entity.UploadJobStatus.RUNNING AND j.lockedAt < :before))")
+    int failOrphaned(@Param("id") Long id, @Param("before") LocalDateTime before);
+}
@@ -0,0 +1,164 @@
+package org.example.flowday.global.fileupload.service;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.DeleteObjectRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.example.flowday.global.fileupload.entity.GenFile;
+import org.example.flowday.global.fileupload.repository.FileBlobRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 내용 주소 기반 파일 저장소
+ * S3 객체 키를 파일 내용의 SHA-256 으로 정해 같은 내용은 한 번만 업로드하고,
+ * 업로드가 끝난 GenFile 수를 참조 수로 관리해 마지막 참조가 사라질 때만 객체를 삭제합니다.
+ */
+@Slf4j
+@Service
+public class FileBlobService {
+    public static final String BLOB_DIR = "blobs";
+
+    private final FileBlobRepository fileBlobRepository;
+    private final AmazonS3 amazonS3;
+    private final TransactionTemplate purgeTransaction;
+
+    @Value("${spring.cloud.aws.s3.bucket}")
+    private String bucketName;
+
+    public FileBlobService(FileBlobRepository fileBlobRepository, AmazonS3 amazonS3, PlatformTransactionManager transactionManager) {
+        this.fileBlobRepository = fileBlobRepository;
+        this.amazonS3 = amazonS3;
+        // 커밋 이후 콜백에서도 별도 트랜잭션으로 실행
+        this.purgeTransaction = new TransactionTemplate(transactionManager);
+        this.purgeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @FunctionalInterface
+    public interface BlobUpload {
+        void put(String s3Key) throws IOException;
+    }
+
+    public static String s3Key(String hash) {
+        return BLOB_DIR + "/" + hash;
+    }
+
+    public static boolean isBlob(GenFile genFile) {
+        return genFile.getContentHash() != null && BLOB_DIR.equals(genFile.getFileDir());
+    }
+
+    public static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static String hex(MessageDigest digest) {
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    // 이미 있는 내용이면 참조만 늘림 - 없으면 false
+    public boolean retain(String hash) {
+        return fileBlobRepository.addRef(hash, 1) > 0;
+    }
+
+    // 업로드를 마친 새 객체 등록 (다른 요청이 먼저 등록했다면 참조만 늘림)
+    public void register(String hash, long fileSize, String contentType) {
+        if (fileBlobRepository.insertIgnore(hash, fileSize, contentType) == 0) {
+            fileBlobRepository.addRef(hash, 1);
+        }
+    }
+
+    // 같은 내용이 없을 때만 업로드 - 업로드했으면 true
+    public boolean acquire(String hash, long fileSize, String contentType, BlobUpload upload) throws IOException {
+        if (retain(hash)) {
+            return false;
+        }
+        upload.put(s3Key(hash));
+        register(hash, fileSize, contentType);
+        return true;
+    }
+
+    // 참조 해제 - 호출한 트랜잭션이 커밋된 뒤 참조가 남지 않았으면 객체 삭제
+    public void release(String hash) {
+        fileBlobRepository.addRef(hash, -1);
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            purge(hash);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                purge(hash);
+            }
+        });
+    }
+
+    // 업로드했지만 등록하지 못한 객체 정리 - 호출한 트랜잭션이 끝난 뒤(커밋 / 롤백) 등록된 행이 없을 때만 삭제
+    // 같은 내용을 다른 요청이 먼저 등록했다면 그 요청의 객체이므로 남겨둠
+    public void discardIfUnregistered(String hash) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            discard(hash);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                discard(hash);
+            }
+        });
+    }
+
+    // 호출한 트랜잭션이 롤백되면 등록도 함께 취소되므로, 새로 올린 객체를 정리
+    public void discardOnRollback(String hash) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    discard(hash);
+                }
+            }
+        });
+    }
+
+    private void discard(String hash) {
+        try {
+            purgeTransaction.executeWithoutResult(status -> {
+                if (fileBlobRepository.findForUpdate(hash).isEmpty()) {
+                    amazonS3.deleteObject(new DeleteObjectRequest(bucketName, s3Key(hash)));
+                }
+            });
+        } catch (Exception e) {
+            log.warn("등록되지 않은 S3 객체 삭제 실패: {}", s3Key(hash), e);
+        }
+    }
+
+    // 행을 잠근 채로 참조 수를 확인하고 S3 객체와 행을 삭제 (잠금 동안 retain 은 대기하고, 삭제 후에는 새로 업로드)
+    private void purge(String hash) {
+        try {
+            purgeTransaction.executeWithoutResult(status -> fileBlobRepository.findForUpdate(hash)
+                    .filter(blob -> blob.getRefCount() <= 0)
+                    .ifPresent(blob -> {
+                        amazonS3.deleteObject(new DeleteObjectRequest(bucketName, s3Key(hash)));
+                        fileBlobRepository.delete(blob);
+                    }));
+        } catch (Exception e) {
+            log.warn("참조가 없는 S3 객체 삭제 실패: {}", s3Key(hash), e);
+        }
+    }
+}
@@ -1,127 +1,689 @@
 package org.example.flowday.global.fileupload.service;
 
 import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.CopyObjectRequest;
 import com.amazonaws.services.s3.model.DeleteObjectRequest;
 import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.flowday.domain.post.post.dto.GenFileResponseDTO;
 import org.example.flowday.domain.post.post.entity.Post;
 import org.example.flowday.global.fileupload.entity.GenFile;
+import org.example.flowday.global.fileupload.entity.GenFileStatus;
+import org.example.flowday.global.fileupload.entity.GenFileUploadJob;
+import org.example.flowday.global.fileupload.event.GenFileObjectReleasedEvent;
+import org.example.flowday.global.fileupload.event.GenFileUploadEnqueuedEvent;
+import org.example.flowday.global.fileupload.event.GenFileVariantsRequestedEvent;
+import org.example.flowday.global.fileupload.image.ImageVariant;
+import org.example.flowday.global.fileupload.image.ImageVariantGenerator;
 import org.example.flowday.global.fileupload.mapper.GenFileMapper;
 import org.example.flowday.global.fileupload.repository.GenFileRepository;
+import org.example.flowday.global.fileupload.repository.GenFileUploadJobRepository;
 import org.example.flowday.standard.util.Util;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
 import java.util.*;
-
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class GenFileService {
     private final GenFileRepository genFileRepository;
+    private final GenFileUploadJobRepository genFileUploadJobRepository;
     private final AmazonS3 amazonS3;
+    private final ApplicationEventPublisher eventPublisher;
+    private final StreamingUploader streamingUploader;
+    private final ImageVariantGenerator imageVariantGenerator;
+    private final FileBlobService fileBlobService;
+    // S3 PUT 전용 공유 풀 (AsyncConfig.filePutExecutor) - 인스턴스 전체의 동시 업로드 수를 제한
+    private final TaskExecutor filePutExecutor;
+    // 변형 저장 트랜잭션 - 워커 스레드에서 원본 행을 잠그는 동안만 유지
+    private final TransactionTemplate variantTransaction;
 
     @Value("${spring.cloud.aws.s3.bucket}")
     private String bucketName;
 
+    // 업로드 전 파일을 보관하는 로컬 디렉터리 (워커와 같은 인스턴스에서 접근 가능해야 함)
+    @Value("${custom.upload.staging-dir:${java.io.tmpdir}/flowday-upload}")
+    private String stagingDir;
+
+    // 임시 파일을 가진 인스턴스 식별자 - 업로드 작업은 등록한 인스턴스의 워커만 처리 (비우면 호스트 이름)
+    @Value("${custom.upload.instance-id:}")
+    private String instanceId;
+
+    private static final String HOST_NAME = resolveHostName();
+
+    // 스트리밍 업로드 임시 키에 붙이는 파일 이름 / 저장하는 원본 파일 이름 최대 길이
+    private static final int MAX_KEY_NAME_LENGTH = 100;
+    private static final int MAX_ORIGIN_FILE_NAME_LENGTH = 200;
+
+    public GenFileService(GenFileRepository genFileRepository,
+                          GenFileUploadJobRepository genFileUploadJobRepository,
+                          AmazonS3 amazonS3,
+                          ApplicationEventPublisher eventPublisher,
+                          StreamingUploader streamingUploader,
+                          ImageVariantGenerator imageVariantGenerator,
+                          FileBlobService fileBlobService,
+                          @Qualifier("filePutExecutor") TaskExecutor filePutExecutor,
+                          PlatformTransactionManager transactionManager) {
+        this.genFileRepository = genFileRepository;
+        this.genFileUploadJobRepository = genFileUploadJobRepository;
+        this.amazonS3 = amazonS3;
+        this.eventPublisher = eventPublisher;
+        this.streamingUploader = streamingUploader;
+        this.imageVariantGenerator = imageVariantGenerator;
+        this.fileBlobService = fileBlobService;
+        this.filePutExecutor = filePutExecutor;
+        this.variantTransaction = new TransactionTemplate(transactionManager);
+    }
 
 
+    private static String resolveHostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "localhost";
+        }
+    }
+
+    public String uploadOwner() {
+        return instanceId == null || instanceId.isBlank() ? HOST_NAME : instanceId;
+    }
+
     private String getCurrentDirName(String relTypeCode) {
         return relTypeCode + "/" + Util.date.getCurrentDateFormatted("yyyy_MM_dd");
     }
 
 
+    // 여러 이미지를 동시에 S3에 올린 뒤 메타데이터를 한 번에 저장하고 변형 이미지 생성을 요청
+    // 내용(SHA-256)이 같은 객체가 이미 있으면 업로드하지 않고 참조만 늘립니다.
     public void saveFiles( List<MultipartFile> images , String relTypeCode , Long relId , String typeCode , String type2Code) {
+        Map<Integer, GenFile> existing = findExisting(relTypeCode, relId, typeCode, type2Code);
         int fileNo = 1;
 
         List<GenFile> genFiles = new ArrayList<>();
+        Map<String, MultipartFile> contents = new HashMap<>();
         for (MultipartFile image : images) {
             if (image.isEmpty()) {
                 continue;
             }
 
             String originFileName = image.getOriginalFilename();
-            String s3FileName = UUID.randomUUID() + "_" + originFileName;
-            String fileExt = Util.file.getExt(originFileName);
-            int fileSize = (int) image.getSize();
-
-            // S3 파일 저장 경로 설정
-            String currentDate = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyy_MM_dd"));
-            String fileDir = relTypeCode+"/" + currentDate;
-            String s3Key = fileDir + "/" + s3FileName;
-
-            // S3에 파일 업로드
-            try {
-                ObjectMetadata metadata = new ObjectMetadata();
-                metadata.setContentLength(image.getSize());
-                metadata.setContentType(image.getContentType());
-
-                amazonS3.putObject(new PutObjectRequest(bucketName, s3Key, image.getInputStream(), metadata)
-                        .withCannedAcl(com.amazonaws.services.s3.model.CannedAccessControlList.PublicRead));
-            } catch (IOException e) {
-                throw new RuntimeException("파일 업로드에 실패했습니다.", e);
+            String hash = hash(image);
+            GenFile oldGenFile = existing.get(fileNo);
+
+            // 같은 번호에 같은 내용이 이미 저장되어 있으면 그대로 유지
+            if (oldGenFile != null && oldGenFile.isReady() && FileBlobService.isBlob(oldGenFile) && hash.equals(oldGenFile.getContentHash())) {
+                fileNo++;
+                continue;
             }
 
-            // 파일 정보 저장
-            GenFile genFile = GenFile.builder()
+            genFiles.add(GenFile.builder()
                     .relTypeCode(relTypeCode)
                     .relId(relId)
                     .typeCode(typeCode)
                     .type2Code(type2Code)
                     .fileNo(fileNo++)
-                    .fileSize(fileSize)
-                    .fileDir(fileDir)
-                    .fileExt(fileExt)
+                    .fileSize((int) image.getSize())
+                    .fileDir(FileBlobService.BLOB_DIR)
+                    .fileExt(Util.file.getExt(originFileName))
                     .originFileName(originFileName)
-                    .s3FileName(s3FileName) // 실제 S3 파일 이름 저장
-                    .build();
+                    .s3FileName(hash) // S3 객체 이름은 내용 해시
+                    .status(GenFileStatus.READY)
+                    .contentHash(hash)
+                    .build());
+            contents.putIfAbsent(hash, image);
+        }
+
+        if (genFiles.isEmpty()) {
+            return;
+        }
+
+        // 이미 있는 내용은 참조만 늘리고, 없는 내용만 (요청 안에서도 한 번씩) 업로드
+        // 실패하면 늘린 참조를 되돌리고, 올렸지만 등록되지 않은 객체는 트랜잭션이 끝난 뒤 삭제
+        List<String> acquired = new ArrayList<>();
+        Set<String> uploaded = ConcurrentHashMap.newKeySet();
+        List<String> retainAfterUpload = new ArrayList<>();
+        Map<String, MultipartFile> uploads = new LinkedHashMap<>();
+        try {
+            for (GenFile genFile : genFiles) {
+                String hash = genFile.getContentHash();
+                if (uploads.containsKey(hash)) {
+                    retainAfterUpload.add(hash);
+                } else if (fileBlobService.retain(hash)) {
+                    acquired.add(hash);
+                } else {
+                    uploads.put(hash, contents.get(hash));
+                }
+            }
+
+            putObjects(uploads, uploaded);
+
+            uploads.forEach((hash, image) -> {
+                fileBlobService.register(hash, image.getSize(), image.getContentType());
+                acquired.add(hash);
+            });
+            for (String hash : retainAfterUpload) {
+                fileBlobService.retain(hash);
+                acquired.add(hash);
+            }
+
+            saveMetadata(genFiles, existing);
+        } catch (RuntimeException e) {
+            acquired.forEach(fileBlobService::release);
+            uploaded.forEach(fileBlobService::discardIfUnregistered);
+            throw e;
+        }
+
+        // 호출한 트랜잭션이 롤백되면 등록도 취소되므로 새로 올린 객체를 정리
+        uploaded.forEach(fileBlobService::discardOnRollback);
+        genFiles.forEach(this::requestVariants);
+    }
+
+    // 바로 저장한 원본의 변형 이미지는 커밋 후 워커가 S3 원본으로 생성
+    private void requestVariants(GenFile original) {
+        eventPublisher.publishEvent(new GenFileVariantsRequestedEvent(original.getRelTypeCode(), original.getRelId(),
+                original.getTypeCode(), original.getType2Code(), original.getFileNo(), original.getContentHash()));
+    }
+
+    // 공유 PUT 풀에서 동시에 업로드 - 전체 지연은 가장 느린 업로드 수준 (풀이 가득 차면 요청 스레드가 직접 업로드)
+    // 하나라도 실패하면 나머지가 끝날 때까지 기다린 뒤 실패 - 올라간 객체는 uploaded 에 모아 호출한 쪽에서 정리
+    private void putObjects(Map<String, MultipartFile> uploads, Set<String> uploaded) {
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        uploads.forEach((hash, image) -> futures.add(CompletableFuture.runAsync(() -> {
+            putObject(FileBlobService.s3Key(hash), image);
+            uploaded.add(hash);
+        }, filePutExecutor)));
+
+        try {
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            throw new RuntimeException("파일 업로드에 실패했습니다.", e.getCause());
+        }
+    }
+
+    private void putObject(String s3Key, MultipartFile image) {
+        try {
+            ObjectMetadata metadata = new ObjectMetadata();
+            metadata.setContentLength(image.getSize());
+            metadata.setContentType(image.getContentType());
+
+            amazonS3.putObject(new PutObjectRequest(bucketName, s3Key, image.getInputStream(), metadata)
+                    .withCannedAcl(com.amazonaws.services.s3.model.CannedAccessControlList.PublicRead));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 
-            genFile=save(genFile);
-            genFileRepository.save(genFile);
-            genFiles.add(genFile);
+    private static String hash(MultipartFile image) {
+        MessageDigest digest = FileBlobService.newDigest();
+        try (InputStream in = new DigestInputStream(image.getInputStream(), digest)) {
+            in.transferTo(OutputStream.nullOutputStream());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return FileBlobService.hex(digest);
+    }
+
+    // 같은 (타입, 번호)의 기존 파일 (fileNo -> GenFile)
+    private Map<Integer, GenFile> findExisting(String relTypeCode, Long relId, String typeCode, String type2Code) {
+        Map<Integer, GenFile> existing = new HashMap<>();
+        for (GenFile genFile : genFileRepository.findByRelTypeCodeAndRelId(relTypeCode, relId)) {
+            if (Objects.equals(genFile.getTypeCode(), typeCode) && Objects.equals(genFile.getType2Code(), type2Code)) {
+                existing.putIfAbsent(genFile.getFileNo(), genFile);
+            }
+        }
+        return existing;
+    }
+
+    // 같은 (타입, 번호)의 기존 파일은 교체하고, 나머지는 일괄 INSERT
+    private void saveMetadata(List<GenFile> genFiles, Map<Integer, GenFile> existing) {
+        List<GenFile> inserts = new ArrayList<>();
+        List<GenFile> replaced = new ArrayList<>();
+        List<GenFile> released = new ArrayList<>();
+        for (GenFile genFile : genFiles) {
+            GenFile oldGenFile = existing.get(genFile.getFileNo());
+            if (oldGenFile == null) {
+                inserts.add(genFile);
+                continue;
+            }
+            released.add(storedObjectOf(oldGenFile));
+            oldGenFile.merge(genFile);
+            replaced.add(oldGenFile);
+            // 이전 원본으로 만든 변형 이미지는 삭제 (새 변형은 커밋 후 다시 생성)
+            deleteVariants(oldGenFile);
+        }
+
+        genFileRepository.saveAll(replaced);
+        genFileRepository.insertAll(inserts);
+        // 교체된 이전 파일은 새 파일이 모두 올라간 뒤에 정리
+        released.forEach(this::releaseObject);
+    }
+
+    private void deleteObjectQuietly(String s3Key) {
+        try {
+            amazonS3.deleteObject(new DeleteObjectRequest(bucketName, s3Key));
+        } catch (Exception e) {
+            log.warn("S3 객체 삭제 실패: {}", s3Key, e);
+        }
+    }
 
+    // 파일이 가리키는 S3 객체 정리 - 공유 객체는 참조만 줄이고(업로드 완료 파일만 참조를 가짐), 이전 방식 객체는 커밋 후 삭제
+    private void releaseObject(GenFile genFile) {
+        if (FileBlobService.isBlob(genFile)) {
+            if (genFile.isReady()) {
+                fileBlobService.release(genFile.getContentHash());
+            }
+            return;
         }
+        eventPublisher.publishEvent(new GenFileObjectReleasedEvent(genFile.getFileDir() + "/" + genFile.getS3FileName()));
+    }
 
+    // 롤백되면 이전 객체를 계속 가리키므로 커밋된 뒤에만 삭제 (트랜잭션 밖에서 발행하면 바로 삭제)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handle(GenFileObjectReleasedEvent event) {
+        deleteObjectQuietly(event.s3Key());
+    }
 
+    // 업로드 작업이 교체한 이전 객체 정리 - 새 파일이 READY 가 되었거나 작업이 끝났을 때 워커가 호출
+    public void releaseReplaced(GenFileUploadJob job) {
+        GenFile replaced = job.replacedObject();
+        if (replaced != null) {
+            releaseObject(replaced);
+        }
+    }
+
+    // merge 로 덮어쓰기 전에 이전 객체 정보 보관
+    private static GenFile storedObjectOf(GenFile genFile) {
+        return GenFile.builder()
+                .fileDir(genFile.getFileDir())
+                .s3FileName(genFile.getS3FileName())
+                .contentHash(genFile.getContentHash())
+                .status(genFile.getStatus())
+                .build();
     }
 
-    //원하는 객체의 List<GenFile> 조회
+    // 파일을 로컬에 임시 저장(SHA-256 계산)하고 PENDING 상태의 GenFile 과 업로드 작업을 호출한 트랜잭션에 함께 저장
+    // 실제 S3 업로드는 커밋 이후 GenFileUploadWorker 가 처리하며, 같은 번호에 같은 내용이 이미 있으면 그대로 유지합니다.
+    public void enqueueFiles(List<MultipartFile> images, String relTypeCode, Long relId, String typeCode, String type2Code) {
+        enqueueFiles(images, relTypeCode, relId, typeCode, type2Code, 1);
+    }
+
+    private void enqueueFiles(List<MultipartFile> images, String relTypeCode, Long relId, String typeCode, String type2Code, int firstFileNo) {
+        Map<Integer, GenFile> existing = findExisting(relTypeCode, relId, typeCode, type2Code);
+        int fileNo = firstFileNo;
+
+        List<String> stagedPaths = new ArrayList<>();
+        try {
+            Path stagingRoot = Files.createDirectories(Paths.get(stagingDir));
+
+            for (MultipartFile image : images) {
+                if (image.isEmpty()) {
+                    continue;
+                }
+
+                String originFileName = image.getOriginalFilename();
+
+                Path stagedPath = stagingRoot.resolve(UUID.randomUUID() + ".upload");
+                MessageDigest digest = FileBlobService.newDigest();
+                try (InputStream in = new DigestInputStream(image.getInputStream(), digest)) {
+                    Files.copy(in, stagedPath);
+                }
+                String hash = FileBlobService.hex(digest);
+
+                GenFile oldGenFile = existing.get(fileNo);
+                if (oldGenFile != null && oldGenFile.isReady() && FileBlobService.isBlob(oldGenFile) && hash.equals(oldGenFile.getContentHash())) {
+                    deleteStagedFile(stagedPath.toString());
+                    fileNo++;
+                    continue;
+                }
+                stagedPaths.add(stagedPath.toString());
+
+                GenFile genFile = GenFile.builder()
+                        .relTypeCode(relTypeCode)
+                        .relId(relId)
+                        .typeCode(typeCode)
+                        .type2Code(type2Code)
+                        .fileNo(fileNo++)
+                        .fileSize((int) image.getSize())
+                        .fileDir(FileBlobService.BLOB_DIR)
+                        .fileExt(Util.file.getExt(originFileName))
+                        .originFileName(originFileName)
+                        .s3FileName(hash)
+                        .status(GenFileStatus.PENDING)
+                        .contentHash(hash)
+                        .build();
+
+                // 교체된 이전 객체는 새 파일 업로드가 끝난 뒤 워커가 정리 (그 전까지는 이전 URL 이 유효해야 함)
+                AtomicReference<GenFile> replaced = new AtomicReference<>();
+                genFile = save(genFile, replaced::set);
+                genFileUploadJobRepository.save(GenFileUploadJob.of(genFile.getId(), FileBlobService.s3Key(hash),
+                        image.getContentType(), stagedPath.toString(), uploadOwner(), replaced.get()));
+            }
+        } catch (IOException e) {
+            stagedPaths.forEach(GenFileService::deleteStagedFile);
+            throw new RuntimeException("업로드 파일 임시 저장에 실패했습니다.", e);
+        }
+
+        if (!stagedPaths.isEmpty()) {
+            eventPublisher.publishEvent(new GenFileUploadEnqueuedEvent(stagedPaths));
+        }
+    }
+
+    // 유지 / 삭제할 파일 ID 와 새 파일로 최소한의 변경만 반영
+    // 빠진 파일(과 변형)만 삭제하고, 유지한 파일은 S3 객체를 건드리지 않고 fileNo 만 다시 매긴 뒤 새 파일을 뒤에 추가합니다.
+    // keptIds 가 있으면 그 순서를 따르고, 없으면 removedIds 를 뺀 나머지를 기존 순서대로 유지합니다.
+    public void updateFiles(String relTypeCode, Long relId, String typeCode, String type2Code,
+                            List<Long> keptIds, List<Long> removedIds, List<MultipartFile> newImages) {
+        // 워커가 변형을 저장하는 동안 번호를 바꾸지 않도록 행을 잠그고 읽음 (워커는 원본을 잠근 뒤 현재 번호로 저장)
+        List<GenFile> relFiles = genFileRepository.findForUpdate(relTypeCode, relId);
+        List<GenFile> originals = relFiles.stream()
+                .filter(genFile -> Objects.equals(genFile.getTypeCode(), typeCode) && Objects.equals(genFile.getType2Code(), type2Code))
+                .sorted(Comparator.comparingInt(GenFile::getFileNo))
+                .toList();
+
+        List<GenFile> kept;
+        if (keptIds != null) {
+            Map<Long, GenFile> byId = new HashMap<>();
+            originals.forEach(genFile -> byId.put(genFile.getId(), genFile));
+            kept = keptIds.stream().distinct().map(byId::get).filter(Objects::nonNull).toList();
+        } else {
+            Set<Long> removed = removedIds != null ? new HashSet<>(removedIds) : Set.of();
+            kept = originals.stream().filter(genFile -> !removed.contains(genFile.getId())).toList();
+        }
+
+        // 변형 이미지는 fileNo 로 원본과 연결되므로 번호를 바꾸기 전에 삭제
+        Set<GenFile> keptSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        keptSet.addAll(kept);
+        originals.stream()
+                .filter(genFile -> !keptSet.contains(genFile))
+                .forEach(this::deleteWithVariants);
+
+        // 유지한 파일과 그 변형의 fileNo 를 1부터 다시 매김 (바뀌는 번호만 UPDATE)
+        Map<Integer, Integer> renumber = new HashMap<>();
+        for (int i = 0; i < kept.size(); i++) {
+            if (kept.get(i).getFileNo() != i + 1) {
+                renumber.put(kept.get(i).getFileNo(), i + 1);
+            }
+        }
+        if (!renumber.isEmpty()) {
+            for (GenFile genFile : relFiles) {
+                Integer fileNo = renumber.get(genFile.getFileNo());
+                boolean sameGroup = Objects.equals(genFile.getTypeCode(), typeCode)
+                        && (Objects.equals(genFile.getType2Code(), type2Code) || ImageVariant.isVariant(genFile.getType2Code()));
+                if (fileNo != null && sameGroup) {
+                    genFile.setFileNo(fileNo);
+                }
+            }
+        }
+
+        if (!newImages.isEmpty()) {
+            enqueueFiles(newImages, relTypeCode, relId, typeCode, type2Code, kept.size() + 1);
+        }
+    }
+
+    static void deleteStagedFile(String stagedPath) {
+        try {
+            Files.deleteIfExists(Paths.get(stagedPath));
+        } catch (IOException ignored) {
+            // 임시 디렉터리 파일이므로 삭제 실패는 무시
+        }
+    }
+
+    // 요청 본문을 그대로 S3에 스트리밍한 뒤 메타데이터 저장 (같은 번호의 기존 파일은 교체, 변형 이미지는 저장 후 생성 요청)
+    // 해시는 스트리밍이 끝나야 알 수 있으므로 임시 키로 올린 뒤, 같은 내용이 있으면 임시 객체를 지우고 없으면 해시 키로 복사
+    // 업로드가 끝난 뒤에 DB에 접근하므로 업로드 동안 커넥션을 잡지 않음
+    public GenFile saveStream(InputStream in, String originFileName, String relTypeCode, Long relId,
+                              String typeCode, String type2Code, int fileNo) throws IOException {
+        originFileName = limitLength(originFileName, MAX_ORIGIN_FILE_NAME_LENGTH);
+        String tempKey = getCurrentDirName(relTypeCode) + "/" + UUID.randomUUID() + "_" + keyNameOf(originFileName);
+
+        StreamingUploader.StreamedObject uploaded = streamingUploader.upload(in, tempKey);
+        String hash = uploaded.sha256();
+
+        // 복사 / 등록이 실패해도 임시 객체는 삭제하고, 복사했지만 등록하지 못한 객체도 정리
+        try {
+            if (!fileBlobService.retain(hash)) {
+                try {
+                    amazonS3.copyObject(new CopyObjectRequest(bucketName, tempKey, bucketName, FileBlobService.s3Key(hash))
+                            .withCannedAccessControlList(com.amazonaws.services.s3.model.CannedAccessControlList.PublicRead));
+                    fileBlobService.register(hash, uploaded.size(), uploaded.contentType());
+                } catch (RuntimeException e) {
+                    fileBlobService.discardIfUnregistered(hash);
+                    throw e;
+                }
+            }
+        } finally {
+            deleteObjectQuietly(tempKey);
+        }
+
+        // 파일 이름에 확장자가 없으면 감지한 MIME 타입으로 결정
+        String fileExt = Util.file.getExt(originFileName);
+        if (fileExt.isEmpty()) {
+            fileExt = uploaded.contentType().replace("image/", "").replace("jpeg", "jpg");
+        }
+
+        GenFile genFile = GenFile.builder()
+                .relTypeCode(relTypeCode)
+                .relId(relId)
+                .typeCode(typeCode)
+                .type2Code(type2Code)
+                .fileNo(fileNo)
+                .fileSize((int) uploaded.size())
+                .fileDir(FileBlobService.BLOB_DIR)
+                .fileExt(fileExt)
+                .originFileName(originFileName)
+                .s3FileName(hash)
+                .status(GenFileStatus.READY)
+                .contentHash(hash)
+                .build();
+
+        try {
+            genFile = save(genFile);
+        } catch (RuntimeException e) {
+            fileBlobService.release(hash);
+            throw e;
+        }
+        requestVariants(genFile);
+        return genFile;
+    }
+
+    // 헤더로 받은 파일 이름은 S3 키에 쓸 수 있는 문자만 남기고 길이 제한 (확장자가 남도록 뒤쪽을 유지)
+    static String keyNameOf(String fileName) {
+        String name = fileName == null ? "" : fileName.replaceAll("[^A-Za-z0-9._-]", "_");
+        if (name.length() > MAX_KEY_NAME_LENGTH) {
+            name = name.substring(name.length() - MAX_KEY_NAME_LENGTH);
+        }
+        return name.isEmpty() ? "file" : name;
+    }
+
+    private static String limitLength(String value, int maxLength) {
+        return value != null && value.length() > maxLength ? value.substring(value.length() - maxLength) : value;
+    }
+
+    // 업로드한 원본 이미지로 피드용 변형(w320/w640/w1280)을 만들어 같은 fileNo 로 저장
+    // 같은 원본으로 만든 변형은 내용이 같으므로 다시 올리지 않음
+    // 변형 생성 / 업로드는 잠금 없이 하고, 저장할 때만 원본 행을 잠근 채 다시 읽어 현재 fileNo 로 저장
+    // (그 사이 파일 목록 수정으로 번호가 바뀔 수 있음) 원본이 삭제 / 교체되었으면 확보한 참조만 해제
+    public void createVariants(GenFile original, byte[] bytes) throws IOException {
+        List<GenFile> variants = new ArrayList<>();
+        try {
+            for (ImageVariantGenerator.VariantImage image : imageVariantGenerator.generate(bytes)) {
+                MessageDigest digest = FileBlobService.newDigest();
+                digest.update(image.bytes());
+                String hash = FileBlobService.hex(digest);
+
+                fileBlobService.acquire(hash, image.bytes().length, image.contentType(), s3Key -> {
+                    ObjectMetadata metadata = new ObjectMetadata();
+                    metadata.setContentLength(image.bytes().length);
+                    metadata.setContentType(image.contentType());
+                    amazonS3.putObject(new PutObjectRequest(bucketName, s3Key, new ByteArrayInputStream(image.bytes()), metadata)
+                            .withCannedAcl(com.amazonaws.services.s3.model.CannedAccessControlList.PublicRead));
+                });
+
+                variants.add(GenFile.builder()
+                        .type2Code(image.variant().type2Code())
+                        .fileSize(image.bytes().length)
+                        .fileDir(FileBlobService.BLOB_DIR)
+                        .fileExt(image.fileExt())
+                        .originFileName(original.getOriginFileName())
+                        .s3FileName(hash)
+                        .status(GenFileStatus.READY)
+                        .contentHash(hash)
+                        .build());
+            }
+        } catch (IOException | RuntimeException e) {
+            variants.forEach(variant -> fileBlobService.release(variant.getContentHash()));
+            throw e;
+        }
+
+        try {
+            variantTransaction.executeWithoutResult(status -> saveVariants(original, variants));
+        } catch (RuntimeException e) {
+            // 롤백되었으므로 트랜잭션 밖에서 참조 해제
+            variants.forEach(variant -> fileBlobService.release(variant.getContentHash()));
+            throw e;
+        }
+    }
+
+    private void saveVariants(GenFile original, List<GenFile> variants) {
+        GenFile current = genFileRepository.findByIdForUpdate(original.getId()).orElse(null);
+        if (current == null || !current.isReady() || !Objects.equals(current.getContentHash(), original.getContentHash())) {
+            variants.forEach(variant -> fileBlobService.release(variant.getContentHash()));
+            return;
+        }
+
+        for (GenFile variant : variants) {
+            variant.setRelTypeCode(current.getRelTypeCode());
+            variant.setRelId(current.getRelId());
+            variant.setTypeCode(current.getTypeCode());
+            variant.setFileNo(current.getFileNo());
+            save(variant);
+        }
+    }
+
+    //원하는 객체의 List<GenFile> 조회 (원본만 - 변형 이미지는 제외)
     public List<GenFile> getFilesByPost(String relTypeCode , Long relId) {
-        return genFileRepository.findByRelTypeCodeAndRelId(relTypeCode, relId);
+        return genFileRepository.findByRelTypeCodeAndRelId(relTypeCode, relId).stream()
+                .filter(genFile -> !ImageVariant.isVariant(genFile.getType2Code()))
+                .collect(Collectors.toList());
     }
 
+    // 원본 이미지 응답 목록 (각 원본의 변형 이미지 URL 포함)
+    public List<GenFileResponseDTO> getImageResponses(String relTypeCode, Long relId) {
+        List<GenFile> originals = new ArrayList<>();
+        Map<String, List<GenFile>> variants = new HashMap<>();
+        for (GenFile genFile : genFileRepository.findByRelTypeCodeAndRelId(relTypeCode, relId)) {
+            if (ImageVariant.isVariant(genFile.getType2Code())) {
+                variants.computeIfAbsent(genFile.getTypeCode() + "__" + genFile.getFileNo(), k -> new ArrayList<>()).add(genFile);
+            } else {
+                originals.add(genFile);
+            }
+        }
+
+        return originals.stream()
+                .map(genFile -> GenFileMapper.toResponseDTO(genFile,
+                        variants.getOrDefault(genFile.getTypeCode() + "__" + genFile.getFileNo(), List.of())))
+                .collect(Collectors.toList());
+    }
 
-    //원하는 객체의 첫번째 이미지 조회
+    // 원본과 그 변형 이미지를 S3 / DB 에서 함께 삭제
+    public void deleteWithVariants(GenFile original) {
+        List<GenFile> genFiles = genFileRepository.findByRelTypeCodeAndRelIdAndTypeCodeAndFileNo(
+                original.getRelTypeCode(), original.getRelId(), original.getTypeCode(), original.getFileNo());
+        genFiles.forEach(this::releaseObject);
+        genFileRepository.deleteAll(genFiles);
+    }
+
+
+    //원하는 객체의 첫번째 이미지 조회 (업로드가 끝나지 않은 파일은 제외)
     public String getFirstImageUrlByObject(String relTypeCode , Long relId) {
         List<GenFile> genFiles = getFilesByPost(relTypeCode, relId);
 
-        if (genFiles == null || genFiles.isEmpty()) {
+        if (genFiles == null) {
             return null;
         }
 
-        GenFile firstGenFile = genFiles.get(0);
+        return genFiles.stream()
+                .filter(GenFile::isReady)
+                .findFirst()
+                .map(genFile -> GenFileMapper.toResponseDTO(genFile).getUrl())
+                .orElse(null);
+    }
+
+    //여러 객체의 첫번째 이미지를 한 번에 조회 (relId -> url)
+    public Map<Long, String> getFirstImageUrlsByObjects(String relTypeCode, Collection<Long> relIds) {
+        return getFirstImageUrlsByObjects(relTypeCode, relIds, null);
+    }
+
+    //여러 객체의 첫번째 이미지를 원하는 변형 크기로 조회 - 변형이 아직 없으면 원본 URL
+    public Map<Long, String> getFirstImageUrlsByObjects(String relTypeCode, Collection<Long> relIds, ImageVariant variant) {
+        if (relIds == null || relIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        String variantCode = variant != null ? variant.type2Code() : "";
+        Map<Long, GenFile> firstFiles = new HashMap<>();
+        for (GenFile genFile : genFileRepository.findFirstFilesByRelTypeCodeAndRelIdIn(relTypeCode, relIds, ImageVariant.type2Codes(), variantCode)) {
+            // 변형 이미지를 우선, 같은 fileNo가 중복 저장된 경우 먼저 조회된 파일 사용
+            firstFiles.merge(genFile.getRelId(), genFile,
+                    (current, candidate) -> variantCode.equals(candidate.getType2Code()) && !variantCode.equals(current.getType2Code()) ? candidate : current);
+        }
 
-        return GenFileMapper.toResponseDTO(firstGenFile).getUrl();
+        Map<Long, String> urls = new HashMap<>();
+        firstFiles.forEach((relId, genFile) -> urls.put(relId, GenFileMapper.toUrl(genFile)));
+        return urls;
     }
 
 
     public GenFile save(GenFile genFile) {
+        return save(genFile, this::releaseObject);
+    }
+
+    // 교체된 이전 객체(merge 전 정보)는 onReplaced 로 넘김
+    private GenFile save(GenFile genFile, Consumer<GenFile> onReplaced) {
         Optional<GenFile> opOldGenFile = genFileRepository.findByRelTypeCodeAndRelIdAndTypeCodeAndType2CodeAndFileNo(genFile.getRelTypeCode(), genFile.getRelId(), genFile.getTypeCode()
                 , genFile.getType2Code(), genFile.getFileNo());
 
         if(opOldGenFile.isPresent()) {
             GenFile oldGenFile = opOldGenFile.get();
-            //s3에 업로드 된 이미지 삭제
-            deleteFileFromS3(oldGenFile.getFileDir() , oldGenFile.getS3FileName());
+            //s3에 업로드 된 이미지 정리 (공유 객체는 참조만 해제)
+            onReplaced.accept(storedObjectOf(oldGenFile));
 
             oldGenFile.merge(genFile);
 
             genFileRepository.save(oldGenFile);
 
+            // 원본이 교체되면 이전 원본으로 만든 변형 이미지도 삭제 (새 변형은 업로드 후 다시 생성)
+            if (!ImageVariant.isVariant(genFile.getType2Code())) {
+                deleteVariants(oldGenFile);
+            }
+
             return oldGenFile;
 
         }
@@ -131,13 +693,23 @@ public class GenFileService {
 
     }
 
+    private void deleteVariants(GenFile original) {
+        List<GenFile> variants = genFileRepository.findByRelTypeCodeAndRelIdAndTypeCodeAndFileNo(
+                        original.getRelTypeCode(), original.getRelId(), original.getTypeCode(), original.getFileNo())
+                .stream()
+                .filter(genFile -> ImageVariant.isVariant(genFile.getType2Code()))
+                .toList();
+        variants.forEach(this::releaseObject);
+        genFileRepository.deleteAll(variants);
+    }
+
     //s3에 업로드된 파일 삭제
     public void deleteFileFromS3(String fileDir, String s3FileName) {
 
         String s3Key = fileDir + "/" + s3FileName;
         try {
             amazonS3.deleteObject(new DeleteObjectRequest(bucketName, s3Key));
-            System.out.println("파일이 성공적으로 삭제되었습니다: " + s3Key);
+            log.info("파일이 성공적으로 삭제되었습니다: {}", s3Key);
         } catch (Exception e) {
             throw new RuntimeException("S3에서 파일 삭제에 실패했습니다: " + s3Key, e);
         }
@@ -0,0 +1,270 @@
+package org.example.flowday.global.fileupload.service;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.CannedAccessControlList;
+import com.amazonaws.services.s3.model.DeleteObjectRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.S3Object;
+import lombok.extern.slf4j.Slf4j;
+import org.example.flowday.global.fileupload.entity.GenFile;
+import org.example.flowday.global.fileupload.entity.GenFileStatus;
+import org.example.flowday.global.fileupload.entity.GenFileUploadJob;
+import org.example.flowday.global.fileupload.entity.UploadJobStatus;
+import org.example.flowday.global.fileupload.event.GenFileUploadEnqueuedEvent;
+import org.example.flowday.global.fileupload.event.GenFileVariantsRequestedEvent;
+import org.example.flowday.global.fileupload.repository.GenFileRepository;
+import org.example.flowday.global.fileupload.repository.GenFileUploadJobRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * S3 업로드 아웃박스 워커
+ * 커밋된 업로드 작업을 선점(PENDING -> RUNNING)한 뒤 전용 스레드 풀에서 업로드하고,
+ * 성공하면 GenFile 을 READY 로 바꾸고 피드용 변형 이미지를 만든 뒤 작업을 삭제합니다.
+ * 실패한 작업은 지수 백오프로 재시도하며, 최대 횟수를 넘기면 FAILED 로 남깁니다.
+ * 임시 파일은 등록한 인스턴스의 로컬 디스크에만 있으므로 자기 인스턴스의 작업만 선점하고,
+ * 교체된 이전 객체는 작업이 끝날 때(업로드 완료 / 불필요 / 최종 실패) 정리합니다.
+ * 재배포 등으로 등록한 인스턴스가 사라져 기한이 지나도록 남은 작업은 어느 인스턴스에서든 FAILED 로 정리합니다.
+ * 작업 없이 바로 저장된 원본(스트리밍 / multipart)의 변형 이미지도 커밋 후 같은 풀에서 만듭니다.
+ */
+@Slf4j
+@Component
+public class GenFileUploadWorker {
+    private static final int BATCH_SIZE = 50;
+    private static final int MAX_ATTEMPTS = 5;
+    private static final long BASE_BACKOFF_SECONDS = 10;
+    private static final long STUCK_AFTER_MINUTES = 10;
+    // 재시도 간격 합계(10 + 20 + 40 + 80초)보다 충분히 길게 - 이 시간 동안 처리되지 않았다면 담당 인스턴스가 없는 것
+    private static final long ORPHANED_AFTER_MINUTES = 60;
+
+    private final GenFileUploadJobRepository jobRepository;
+    private final GenFileRepository genFileRepository;
+    private final GenFileService genFileService;
+    private final FileBlobService fileBlobService;
+    private final AmazonS3 amazonS3;
+    private final TaskExecutor fileUploadExecutor;
+
+    @Value("${spring.cloud.aws.s3.bucket}")
+    private String bucketName;
+
+    public GenFileUploadWorker(GenFileUploadJobRepository jobRepository,
+                               GenFileRepository genFileRepository,
+                               GenFileService genFileService,
+                               FileBlobService fileBlobService,
+                               AmazonS3 amazonS3,
+                               @Qualifier("fileUploadExecutor") TaskExecutor fileUploadExecutor) {
+        this.jobRepository = jobRepository;
+        this.genFileRepository = genFileRepository;
+        this.genFileService = genFileService;
+        this.fileBlobService = fileBlobService;
+        this.amazonS3 = amazonS3;
+        this.fileUploadExecutor = fileUploadExecutor;
+    }
+
+    // 작업이 커밋되면 폴링 주기를 기다리지 않고 바로 처리
+    // 커밋 직후 콜백에서는 트랜잭션 리소스가 아직 묶여 있으므로 업로드 풀로 넘겨서 실행
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handle(GenFileUploadEnqueuedEvent event) {
+        try {
+            fileUploadExecutor.execute(this::drain);
+        } catch (RejectedExecutionException ignored) {
+            // 풀이 가득 찬 경우 다음 폴링에서 처리
+        }
+    }
+
+    // 바로 저장된 원본의 변형 이미지 생성 - 업로드 풀이 가득 차면 원본 URL 로 대체되므로 건너뜀
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handle(GenFileVariantsRequestedEvent event) {
+        try {
+            fileUploadExecutor.execute(() -> createVariants(event));
+        } catch (RejectedExecutionException e) {
+            log.warn("업로드 풀이 가득 차 변형 이미지 생성을 건너뜀 ({}:{}:{})", event.relTypeCode(), event.relId(), event.fileNo());
+        }
+    }
+
+    // 롤백된 작업의 임시 파일 정리
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_ROLLBACK)
+    public void handleRollback(GenFileUploadEnqueuedEvent event) {
+        event.stagedPaths().forEach(GenFileService::deleteStagedFile);
+    }
+
+    @Scheduled(initialDelayString = "${custom.upload.poll-interval-ms:10000}",
+            fixedDelayString = "${custom.upload.poll-interval-ms:10000}")
+    public void poll() {
+        int recovered = jobRepository.recoverStuck(LocalDateTime.now().minusMinutes(STUCK_AFTER_MINUTES), genFileService.uploadOwner());
+        if (recovered > 0) {
+            log.warn("중단된 업로드 작업 {}건 재등록", recovered);
+        }
+        failOrphaned();
+        drain();
+    }
+
+    // 임시 파일이 없어 더 이상 올릴 수 없는 작업은 파일을 FAILED 로 바꾸고 교체된 이전 객체를 정리
+    private void failOrphaned() {
+        LocalDateTime before = LocalDateTime.now().minusMinutes(ORPHANED_AFTER_MINUTES);
+        for (Long jobId : jobRepository.findOrphanedIds(before, PageRequest.of(0, BATCH_SIZE))) {
+            // 다른 인스턴스가 먼저 정리했거나 그사이 처리된 작업은 건너뜀
+            if (jobRepository.failOrphaned(jobId, before) == 0) {
+                continue;
+            }
+            jobRepository.findById(jobId).ifPresent(job -> {
+                log.error("담당 인스턴스가 처리하지 않은 업로드 작업 실패 처리 (jobId={}, owner={}, key={})",
+                        job.getId(), job.getOwner(), job.getS3Key());
+                genFileRepository.completeUpload(job.getGenFileId(), job.getS3Key(), GenFileStatus.FAILED);
+                GenFileService.deleteStagedFile(job.getStagedPath());
+                releaseReplaced(job);
+            });
+        }
+    }
+
+    private void drain() {
+        List<Long> jobIds = jobRepository.findDueIds(UploadJobStatus.PENDING, LocalDateTime.now(),
+                genFileService.uploadOwner(), PageRequest.of(0, BATCH_SIZE));
+
+        for (Long jobId : jobIds) {
+            // 다른 스레드가 먼저 선점한 작업은 건너뜀
+            if (jobRepository.claim(jobId, LocalDateTime.now()) == 0) {
+                continue;
+            }
+
+            try {
+                fileUploadExecutor.execute(() -> process(jobId));
+            } catch (RejectedExecutionException e) {
+                // 풀이 가득 차면 반납하고 다음 폴링에서 처리
+                jobRepository.release(jobId);
+                return;
+            }
+        }
+    }
+
+    private void process(Long jobId) {
+        GenFileUploadJob job = jobRepository.findById(jobId).orElse(null);
+        if (job == null) {
+            return;
+        }
+
+        // 업로드 전에 파일이 삭제되거나 교체되었다면 작업만 정리
+        GenFile genFile = genFileRepository.findById(job.getGenFileId()).orElse(null);
+        if (genFile == null || genFile.getStatus() != GenFileStatus.PENDING
+                || !job.getS3Key().equals(genFile.getFileDir() + "/" + genFile.getS3FileName())) {
+            finish(job);
+            return;
+        }
+
+        // 내용 주소 파일은 같은 내용의 객체가 이미 있으면 업로드 없이 참조만 늘림
+        boolean blob = FileBlobService.isBlob(genFile);
+        try {
+            File stagedFile = new File(job.getStagedPath());
+            if (blob) {
+                fileBlobService.acquire(genFile.getContentHash(), stagedFile.length(), job.getContentType(),
+                        s3Key -> putObject(s3Key, stagedFile, job.getContentType()));
+            } else {
+                putObject(job.getS3Key(), stagedFile, job.getContentType());
+            }
+        } catch (Exception e) {
+            retryOrFail(job, e);
+            return;
+        }
+
+        // 업로드 도중 파일이 삭제/교체되었다면 방금 확보한 객체(참조)를 정리
+        if (genFileRepository.completeUpload(job.getGenFileId(), job.getS3Key(), GenFileStatus.READY) == 0) {
+            if (blob) {
+                fileBlobService.release(genFile.getContentHash());
+            } else {
+                deleteObjectQuietly(job.getS3Key());
+            }
+        } else {
+            createVariants(genFile, job);
+        }
+        finish(job);
+    }
+
+    private void putObject(String s3Key, File file, String contentType) {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(file.length());
+        metadata.setContentType(contentType);
+
+        amazonS3.putObject(new PutObjectRequest(bucketName, s3Key, file)
+                .withMetadata(metadata)
+                .withCannedAcl(CannedAccessControlList.PublicRead));
+    }
+
+    private void retryOrFail(GenFileUploadJob job, Exception e) {
+        if (job.getAttempts() + 1 >= MAX_ATTEMPTS) {
+            log.error("S3 업로드 실패 - 재시도 중단 (jobId={}, key={})", job.getId(), job.getS3Key(), e);
+            job.fail();
+            jobRepository.save(job);
+            genFileRepository.completeUpload(job.getGenFileId(), job.getS3Key(), GenFileStatus.FAILED);
+            GenFileService.deleteStagedFile(job.getStagedPath());
+            releaseReplaced(job);
+            return;
+        }
+
+        long backoffSeconds = BASE_BACKOFF_SECONDS << job.getAttempts();
+        log.warn("S3 업로드 실패 - {}초 후 재시도 (jobId={}, attempts={})", backoffSeconds, job.getId(), job.getAttempts() + 1, e);
+        job.retryAt(LocalDateTime.now().plusSeconds(backoffSeconds));
+        jobRepository.save(job);
+    }
+
+    // 변형 이미지 생성 실패는 원본 업로드에 영향을 주지 않음 (피드는 원본 URL 로 대체)
+    private void createVariants(GenFile genFile, GenFileUploadJob job) {
+        try {
+            genFileService.createVariants(genFile, Files.readAllBytes(Path.of(job.getStagedPath())));
+        } catch (Exception e) {
+            log.warn("변형 이미지 생성 실패 (genFileId={})", genFile.getId(), e);
+        }
+    }
+
+    // 작업을 지운 뒤 교체된 이전 객체 정리 (재시도로 두 번 해제되지 않도록 작업 삭제가 먼저)
+    // 요청 이후 원본이 교체되거나 삭제되었으면 건너뜀
+    private void createVariants(GenFileVariantsRequestedEvent event) {
+        GenFile original = genFileRepository.findByRelTypeCodeAndRelIdAndTypeCodeAndType2CodeAndFileNo(
+                event.relTypeCode(), event.relId(), event.typeCode(), event.type2Code(), event.fileNo()).orElse(null);
+        if (original == null || !original.isReady() || !Objects.equals(original.getContentHash(), event.contentHash())) {
+            return;
+        }
+
+        try (S3Object object = amazonS3.getObject(bucketName, original.getFileDir() + "/" + original.getS3FileName())) {
+            genFileService.createVariants(original, object.getObjectContent().readAllBytes());
+        } catch (Exception e) {
+            log.warn("변형 이미지 생성 실패 (genFileId={})", original.getId(), e);
+        }
+    }
+
+    private void finish(GenFileUploadJob job) {
+        jobRepository.deleteById(job.getId());
+        GenFileService.deleteStagedFile(job.getStagedPath());
+        releaseReplaced(job);
+    }
+
+    private void releaseReplaced(GenFileUploadJob job) {
+        try {
+            genFileService.releaseReplaced(job);
+        } catch (Exception e) {
+            log.warn("교체된 이전 파일 정리 실패 (jobId={})", job.getId(), e);
+        }
+    }
+
+    private void deleteObjectQuietly(String s3Key) {
+        try {
+            amazonS3.deleteObject(new DeleteObjectRequest(bucketName, s3Key));
+        } catch (Exception e) {
+            log.warn("사용되지 않는 S3 객체 삭제 실패: {}", s3Key, e);
+        }
+    }
+}
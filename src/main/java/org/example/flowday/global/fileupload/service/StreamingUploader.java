@@ -0,0 +1,136 @@
+package org.example.flowday.global.fileupload.service;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.*;
+import org.apache.tika.Tika;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 요청 본문을 버퍼 하나로 S3 멀티파트 업로드에 흘려보내는 업로더
+ * 파트 크기(5MB)만큼만 메모리에 두고, 읽는 동안 크기 / SHA-256 / MIME 타입을 계산합니다.
+ * 파트 하나 이하의 작은 파일은 멀티파트 없이 단일 PUT 으로 올립니다.
+ */
+@Component
+public class StreamingUploader {
+    // S3 멀티파트 최소 파트 크기
+    static final int PART_SIZE = 5 * 1024 * 1024;
+    private static final Set<String> ALLOWED_MIME_TYPES = Set.of("image/jpeg", "image/png", "image/gif", "image/webp");
+
+    private final AmazonS3 amazonS3;
+    private final Tika tika = new Tika();
+
+    @Value("${spring.cloud.aws.s3.bucket}")
+    private String bucketName;
+
+    // 멀티파트 업로드와 같은 파일 크기 제한 사용
+    @Value("${spring.servlet.multipart.max-file-size:10MB}")
+    private DataSize maxFileSize;
+
+    public StreamingUploader(AmazonS3 amazonS3) {
+        this.amazonS3 = amazonS3;
+    }
+
+    public record StreamedObject(String s3Key, long size, String sha256, String contentType) {
+    }
+
+    public StreamedObject upload(InputStream in, String s3Key) throws IOException {
+        MessageDigest digest = sha256();
+        byte[] buffer = new byte[PART_SIZE];
+
+        int read = in.readNBytes(buffer, 0, PART_SIZE);
+        if (read == 0) {
+            throw new IllegalArgumentException("빈 파일은 업로드할 수 없습니다.");
+        }
+
+        // 첫 파트의 앞부분(매직 바이트)으로 MIME 타입 판별
+        String contentType = tika.detect(read == PART_SIZE ? buffer : Arrays.copyOf(buffer, read));
+        if (!ALLOWED_MIME_TYPES.contains(contentType)) {
+            throw new IllegalArgumentException("허용되지 않는 MIME 타입입니다: " + contentType);
+        }
+
+        digest.update(buffer, 0, read);
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentType(contentType);
+
+        // 파트 하나로 끝나는 파일은 단일 PUT
+        if (read < PART_SIZE || isEof(in)) {
+            checkSize(read);
+            metadata.setContentLength(read);
+            amazonS3.putObject(new PutObjectRequest(bucketName, s3Key, new ByteArrayInputStream(buffer, 0, read), metadata)
+                    .withCannedAcl(CannedAccessControlList.PublicRead));
+            return new StreamedObject(s3Key, read, HexFormat.of().formatHex(digest.digest()), contentType);
+        }
+
+        String uploadId = amazonS3.initiateMultipartUpload(new InitiateMultipartUploadRequest(bucketName, s3Key, metadata)
+                .withCannedACL(CannedAccessControlList.PublicRead)).getUploadId();
+        try {
+            List<PartETag> partETags = new ArrayList<>();
+            long size = 0;
+            int partNumber = 1;
+
+            while (read > 0) {
+                size += read;
+                checkSize(size);
+                partETags.add(uploadPart(s3Key, uploadId, partNumber++, buffer, read));
+
+                read = in.readNBytes(buffer, 0, PART_SIZE);
+                digest.update(buffer, 0, read);
+            }
+
+            amazonS3.completeMultipartUpload(new CompleteMultipartUploadRequest(bucketName, s3Key, uploadId, partETags));
+            return new StreamedObject(s3Key, size, HexFormat.of().formatHex(digest.digest()), contentType);
+        } catch (IOException | RuntimeException e) {
+            amazonS3.abortMultipartUpload(new AbortMultipartUploadRequest(bucketName, s3Key, uploadId));
+            throw e;
+        }
+    }
+
+    private PartETag uploadPart(String s3Key, String uploadId, int partNumber, byte[] buffer, int length) {
+        UploadPartRequest request = new UploadPartRequest()
+                .withBucketName(bucketName)
+                .withKey(s3Key)
+                .withUploadId(uploadId)
+                .withPartNumber(partNumber)
+                .withInputStream(new ByteArrayInputStream(buffer, 0, length))
+                .withPartSize(length);
+        return amazonS3.uploadPart(request).getPartETag();
+    }
+
+    // 버퍼가 정확히 가득 찬 경우 다음 바이트가 있는지 확인 (mark 를 지원하지 않는 스트림은 멀티파트로 진행)
+    private boolean isEof(InputStream in) throws IOException {
+        if (!in.markSupported()) {
+            return false;
+        }
+        in.mark(1);
+        int next = in.read();
+        in.reset();
+        return next == -1;
+    }
+
+    private void checkSize(long size) {
+        if (size > maxFileSize.toBytes()) {
+            throw new IllegalArgumentException("파일 크기가 제한(" + maxFileSize.toMegabytes() + "MB)을 초과했습니다.");
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
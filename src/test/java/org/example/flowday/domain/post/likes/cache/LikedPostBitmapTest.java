@@ -0,0 +1,62 @@
+package org.example.flowday.domain.post.likes.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LikedPostBitmapTest {
+
+    @Test
+    @DisplayName("추가 / 삭제 / 포함 여부")
+    void addRemoveContains() {
+        LikedPostBitmap bitmap = LikedPostBitmap.of(List.of(1L, 2L, 70_000L));
+
+        assertThat(bitmap.contains(1L)).isTrue();
+        assertThat(bitmap.contains(70_000L)).isTrue();
+        assertThat(bitmap.contains(3L)).isFalse();
+        assertThat(bitmap.cardinality()).isEqualTo(3);
+
+        assertThat(bitmap.add(2L)).isFalse();
+        assertThat(bitmap.remove(2L)).isTrue();
+        assertThat(bitmap.remove(2L)).isFalse();
+        assertThat(bitmap.contains(2L)).isFalse();
+        assertThat(bitmap.cardinality()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("배열 컨테이너 한도를 넘으면 비트맵으로, 다시 줄면 배열로 전환")
+    void containerConversion() {
+        LikedPostBitmap bitmap = new LikedPostBitmap();
+        int count = LikedPostBitmap.ARRAY_MAX + 10;
+
+        for (long id = 0; id < count * 2L; id += 2) {
+            bitmap.add(id);
+        }
+        assertThat(bitmap.cardinality()).isEqualTo(count);
+        assertThat(bitmap.contains(2L * (count - 1))).isTrue();
+        assertThat(bitmap.contains(3L)).isFalse();
+
+        for (long id = 0; id < 40; id += 2) {
+            bitmap.remove(id);
+        }
+        assertThat(bitmap.cardinality()).isEqualTo(count - 20);
+        assertThat(bitmap.contains(38L)).isFalse();
+        assertThat(bitmap.contains(40L)).isTrue();
+        assertThat(bitmap.contains(2L * (count - 1))).isTrue();
+    }
+
+    @Test
+    @DisplayName("비어있는 구간은 제거")
+    void removeLastInChunk() {
+        LikedPostBitmap bitmap = LikedPostBitmap.of(List.of(5L, 1L << 20));
+
+        bitmap.remove(1L << 20);
+
+        assertThat(bitmap.contains(1L << 20)).isFalse();
+        assertThat(bitmap.contains(5L)).isTrue();
+        assertThat(bitmap.cardinality()).isEqualTo(1);
+    }
+}
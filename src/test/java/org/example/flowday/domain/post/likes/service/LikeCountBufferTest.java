@@ -0,0 +1,169 @@
+package org.example.flowday.domain.post.likes.service;
+
+import org.example.flowday.domain.post.likes.event.dto.PostLikeChangedEvent;
+import org.example.flowday.global.config.CacheConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class LikeCountBufferTest {
+    private JdbcTemplate jdbcTemplate;
+    private Cache cache;
+    private LikeCountBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        cache = mock(Cache.class);
+        CacheManager cacheManager = mock(CacheManager.class);
+        when(cacheManager.getCache(CacheConfig.POST_DETAIL)).thenReturn(cache);
+
+        buffer = new LikeCountBuffer(jdbcTemplate, cacheManager);
+    }
+
+    @Test
+    @DisplayName("좋아요/취소를 게시글별로 합쳐 id 순으로 한 번에 반영하고 상세 캐시를 제거")
+    @SuppressWarnings("unchecked")
+    void flushBatchesNetDeltas() {
+        buffer.handle(new PostLikeChangedEvent(2L, 10L, true));
+        buffer.handle(new PostLikeChangedEvent(1L, 10L, true));
+        buffer.handle(new PostLikeChangedEvent(1L, 10L, true));
+        buffer.handle(new PostLikeChangedEvent(3L, 10L, true));
+        buffer.handle(new PostLikeChangedEvent(3L, 10L, false));
+
+        buffer.flush();
+
+        ArgumentCaptor<List<Object[]>> args = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), args.capture());
+        assertThat(args.getValue()).containsExactly(new Object[]{2L, 1L}, new Object[]{1L, 2L});
+        verify(cache).evict(1L);
+        verify(cache).evict(2L);
+        verify(cache, never()).evict(3L);
+
+        // 반영한 증감분은 다시 보내지 않음
+        buffer.flush();
+        verifyNoMoreInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("반영에 실패한 증감분은 다음 flush 에서 새 증감분과 합쳐 재시도")
+    @SuppressWarnings("unchecked")
+    void failedFlushIsRetried() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .thenThrow(new DataAccessResourceFailureException("down"))
+                .thenReturn(new int[]{1});
+
+        buffer.add(1L, 1);
+        buffer.flush();
+        verify(cache, never()).evict(any());
+
+        buffer.add(1L, 1);
+        buffer.flush();
+
+        ArgumentCaptor<List<Object[]>> args = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(2)).batchUpdate(anyString(), args.capture());
+        assertThat(args.getAllValues().get(1)).containsExactly(new Object[]{2L, 1L});
+        verify(cache).evict(1L);
+    }
+
+    @Test
+    @DisplayName("flush 가 유휴 버퍼를 제거하는 중에 들어온 증감분도 유실되지 않음")
+    @SuppressWarnings("unchecked")
+    void concurrentAddDuringFlushIsNotLost() throws Exception {
+        AtomicLong flushed = new AtomicLong();
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenAnswer(invocation -> {
+            List<Object[]> args = invocation.getArgument(1);
+            args.forEach(arg -> flushed.addAndGet((Long) arg[0]));
+            return new int[args.size()];
+        });
+
+        int threads = 4;
+        int addsPerThread = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean running = new AtomicBoolean(true);
+        try {
+            for (int t = 0; t < threads; t++) {
+                executor.execute(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    // 드문드문 더해 flush 가 같은 게시글의 버퍼를 유휴로 보고 제거하는 경우를 만듦
+                    for (int i = 0; i < addsPerThread; i++) {
+                        buffer.add(1L, 1);
+                        if (i % 1_000 == 0) {
+                            Thread.yield();
+                        }
+                    }
+                });
+            }
+
+            Thread flusher = new Thread(() -> {
+                while (running.get()) {
+                    buffer.flush();
+                }
+            });
+            flusher.start();
+            start.countDown();
+
+            executor.shutdown();
+            assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+            running.set(false);
+            flusher.join();
+        } finally {
+            executor.shutdownNow();
+        }
+        buffer.flush();
+
+        assertThat(flushed.get()).isEqualTo((long) threads * addsPerThread);
+    }
+
+    @Test
+    @DisplayName("기동 시 재집계는 기본으로 id 구간 단위로 실행하고, 설정으로 끈 경우에만 건너뜀")
+    void reconcileRunsByDefaultAndBatched() {
+        ReflectionTestUtils.setField(buffer, "reconcileOnStartup", false);
+        buffer.reconcileAtStartup();
+        verifyNoInteractions(jdbcTemplate);
+
+        ReflectionTestUtils.setField(buffer, "reconcileOnStartup", true);
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class))).thenReturn(1_200L);
+        List<Long> ranges = new ArrayList<>();
+        when(jdbcTemplate.update(anyString(), any(Object[].class))).thenAnswer(invocation -> {
+            ranges.add(invocation.getArgument(1));
+            return 1;
+        });
+
+        buffer.reconcileAtStartup();
+
+        assertThat(ranges).containsExactly(0L, 500L, 1_000L);
+    }
+
+    @Test
+    @DisplayName("설정 값이 주입되지 않아도 재집계는 켜져 있음")
+    void reconcileIsEnabledByDefault() {
+        assertThat(ReflectionTestUtils.getField(new LikeCountBuffer(jdbcTemplate, mock(CacheManager.class)), "reconcileOnStartup"))
+                .isEqualTo(true);
+    }
+}
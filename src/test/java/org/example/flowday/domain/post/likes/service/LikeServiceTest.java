@@ -0,0 +1,95 @@
+package org.example.flowday.domain.post.likes.service;
+
+import org.example.flowday.domain.member.entity.Member;
+import org.example.flowday.domain.member.entity.Role;
+import org.example.flowday.domain.member.repository.MemberRepository;
+import org.example.flowday.domain.post.likes.dto.LikesDTO;
+import org.example.flowday.domain.post.likes.repository.LikeRepository;
+import org.example.flowday.domain.post.post.entity.Post;
+import org.example.flowday.domain.post.post.entity.Status;
+import org.example.flowday.domain.post.post.exception.PostTaskException;
+import org.example.flowday.domain.post.post.repository.PostRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class LikeServiceTest {
+
+    @Autowired
+    private LikeService likeService;
+
+    @Autowired
+    private LikeRepository likeRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    private Member member;
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        member = memberRepository.save(Member.builder()
+                .name("좋아요유저")
+                .loginId("likeuser@example.com")
+                .pw("password")
+                .role(Role.ROLE_USER)
+                .build());
+
+        post = postRepository.save(Post.builder()
+                .title("좋아요 게시글")
+                .contents("좋아요 내용")
+                .writer(member)
+                .status(Status.PUBLIC)
+                .build());
+    }
+
+    @Test
+    @DisplayName("좋아요는 한 번만 추가되고, 두 번째 요청은 이미 좋아요 예외")
+    void addLike_OnlyOnce() {
+        LikesDTO.LikeResponseDTO response = likeService.addLike(post.getId(), member.getId());
+
+        assertThat(response.getId()).isNotNull();
+        assertThatThrownBy(() -> likeService.addLike(post.getId(), member.getId()))
+                .isInstanceOf(PostTaskException.class)
+                .hasMessage("게시글에 이미 좋아요를 눌렀습니다");
+        assertThat(likeRepository.findAllPostIdByMemberId(member.getId())).containsExactly(post.getId());
+    }
+
+    @Test
+    @DisplayName("없는 게시글에 좋아요 / 좋아요 취소하면 게시글 없음 예외")
+    void like_PostNotFound() {
+        long missingPostId = post.getId() + 1_000;
+
+        assertThatThrownBy(() -> likeService.addLike(missingPostId, member.getId()))
+                .isInstanceOf(PostTaskException.class)
+                .hasMessage("해당 게시글을 찾을 수 없습니다");
+        assertThatThrownBy(() -> likeService.removeLike(missingPostId, member.getId()))
+                .isInstanceOf(PostTaskException.class)
+                .hasMessage("해당 게시글을 찾을 수 없습니다");
+    }
+
+    @Test
+    @DisplayName("좋아요 취소는 여러 번 요청해도 성공하고 좋아요 행만 삭제")
+    void removeLike_Idempotent() {
+        likeService.addLike(post.getId(), member.getId());
+
+        likeService.removeLike(post.getId(), member.getId());
+        likeService.removeLike(post.getId(), member.getId());
+
+        assertThat(likeRepository.findByPostIdAndMemberId(post.getId(), member.getId())).isEmpty();
+    }
+}
@@ -8,23 +8,33 @@ import org.example.flowday.domain.post.comment.comment.entity.Reply;
 import org.example.flowday.domain.post.comment.comment.repository.ReplyRepository;
 import org.example.flowday.domain.post.likes.entity.Likes;
 import org.example.flowday.domain.post.likes.repository.LikeRepository;
+import org.example.flowday.domain.post.post.dto.PostRequestDTO;
 import org.example.flowday.domain.post.post.entity.Post;
 import org.example.flowday.domain.post.post.entity.Status;
 import org.example.flowday.domain.post.post.repository.PostRepository;
 import org.example.flowday.domain.post.tag.service.TagService;
+import org.example.flowday.global.config.CacheConfig;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.test.context.support.WithUserDetails;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMultipartHttpServletRequestBuilder;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.*;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -59,6 +69,12 @@ public class PostControllerTest {
     @Autowired
     private TagService tagService;
 
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     private Member testMember1;
     private Member testMember2;
     private Post testPost1;
@@ -262,6 +278,22 @@ public class PostControllerTest {
 
     }
 
+    @Test
+    @DisplayName("GET /api/v1/posts/all/filter - 공개 범위 필터 조회 성공")
+    @WithUserDetails(value = "testuser10@example.com", userDetailsServiceBeanName = "securityUserService")
+    void getFilteredPosts_Success() throws Exception {
+        mockMvc.perform(get("/api/v1/posts/all/filter")
+                        .param("status", "COUPLE")
+                        .param("hasCourse", "false")
+                        .param("pageSize", "10")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].status", is("COUPLE")))
+                .andExpect(jsonPath("$.regionCounts").exists())
+                .andExpect(jsonPath("$.seasonCounts").exists());
+    }
+
     @Test
     @DisplayName("GET /api/v1/posts/all/couple - 커플 게시글 조회 성공")
     @WithUserDetails(value = "testuser10@example.com", userDetailsServiceBeanName = "securityUserService")
@@ -319,4 +351,159 @@ public class PostControllerTest {
 
 
 
+    @Test
+    @DisplayName("GET /api/v1/posts/all/latest?cursor= - pageSize 가 범위를 벗어나면 400")
+    @WithUserDetails(value = "testuser10@example.com", userDetailsServiceBeanName = "securityUserService")
+    void getAllPostsByCursor_InvalidPageSize() throws Exception {
+        mockMvc.perform(get("/api/v1/posts/all/latest")
+                        .param("cursor", "")
+                        .param("pageSize", "0")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/api/v1/posts/all/filter")
+                        .param("pageSize", "1000")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("PUT /api/v1/posts/{id}/images/{fileNo} - fileNo 가 범위를 벗어나면 400")
+    @WithUserDetails(value = "testuser10@example.com", userDetailsServiceBeanName = "securityUserService")
+    void uploadImage_InvalidFileNo() throws Exception {
+        mockMvc.perform(put("/api/v1/posts/{id}/images/{fileNo}", testPost1.getId(), 0)
+                        .contentType(MediaType.IMAGE_PNG)
+                        .content(new byte[]{1}))
+                .andDo(print())
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(put("/api/v1/posts/{id}/images/{fileNo}", testPost1.getId(), PostRequestDTO.MAX_IMAGES + 1)
+                        .contentType(MediaType.IMAGE_PNG)
+                        .content(new byte[]{1}))
+                .andDo(print())
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("게시글 상세 캐시 - 수정/삭제가 커밋되면 캐시에서 제거")
+    @WithUserDetails(value = "testuser10@example.com", userDetailsServiceBeanName = "securityUserService")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void getPostById_CacheEvictedOnUpdateAndDelete() throws Exception {
+        // 커밋 후 이벤트로 제거되므로 테스트 트랜잭션 없이 실행
+        Post cachedPost = postRepository.save(Post.builder()
+                .title("캐시 게시글")
+                .contents("캐시 내용")
+                .writer(testMember1)
+                .status(Status.PRIVATE)
+                .build());
+        Cache cache = cacheManager.getCache(CacheConfig.POST_DETAIL);
+
+        mockMvc.perform(get("/api/v1/posts/{id}", cachedPost.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title", is("캐시 게시글")));
+        assertThat(cache.get(cachedPost.getId())).isNotNull();
+
+        MockMultipartHttpServletRequestBuilder builder = multipart("/api/v1/posts/{id}", cachedPost.getId());
+        builder.with(request -> {
+            request.setMethod("PUT");
+            return request;
+        });
+        builder.param("title", "수정된 캐시 게시글");
+        builder.param("contents", "수정된 캐시 내용");
+        builder.param("status", "PRIVATE");
+
+        mockMvc.perform(builder)
+                .andExpect(status().isOk());
+        assertThat(cache.get(cachedPost.getId())).isNull();
+
+        mockMvc.perform(get("/api/v1/posts/{id}", cachedPost.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title", is("수정된 캐시 게시글")));
+        assertThat(cache.get(cachedPost.getId())).isNotNull();
+
+        mockMvc.perform(delete("/api/v1/posts/{id}", cachedPost.getId()))
+                .andExpect(status().isOk());
+        assertThat(cache.get(cachedPost.getId())).isNull();
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/posts/all/likes - 좋아요 누른 순서로 커서 페이징, 삭제된 게시글의 좋아요는 제외")
+    @WithUserDetails(value = "testuser10@example.com", userDetailsServiceBeanName = "securityUserService")
+    void getAllMyLikesPostsByCursor_Success() throws Exception {
+        // testPost2 (setUp) -> 삭제된 게시글 -> testPost1 -> testPost3 순서로 좋아요
+        likeRepository.save(Likes.builder().memberId(testMember1.getId()).postId(testPost3.getId() + 1_000).build());
+        likeRepository.save(Likes.builder().memberId(testMember1.getId()).postId(testPost1.getId()).build());
+        likeRepository.save(Likes.builder().memberId(testMember1.getId()).postId(testPost3.getId()).build());
+
+        MvcResult first = mockMvc.perform(get("/api/v1/posts/all/likes")
+                        .param("cursor", "")
+                        .param("pageSize", "2"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].id", contains(testPost3.getId().intValue(), testPost1.getId().intValue())))
+                .andExpect(jsonPath("$.hasNext", is(true)))
+                .andReturn();
+        String nextCursor = objectMapper.readTree(first.getResponse().getContentAsString()).get("nextCursor").asText();
+
+        mockMvc.perform(get("/api/v1/posts/all/likes")
+                        .param("cursor", nextCursor)
+                        .param("pageSize", "2"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].id", contains(testPost2.getId().intValue())))
+                .andExpect(jsonPath("$.hasNext", is(false)));
+
+        mockMvc.perform(get("/api/v1/posts/all/likes")
+                        .param("page", "0")
+                        .param("pageSize", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements", is(3)));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/posts/all/reply - 게시글별 내 마지막 댓글 시간 순으로 한 번씩만 조회")
+    @WithUserDetails(value = "testuser10@example.com", userDetailsServiceBeanName = "securityUserService")
+    void getAllMyReplyPostsByCursor_Success() throws Exception {
+        LocalDateTime base = LocalDateTime.of(2024, 11, 1, 12, 0);
+        Reply first = replyRepository.save(Reply.builder().content("댓글1").member(testMember1).post(testPost1).build());
+        Reply second = replyRepository.save(Reply.builder().content("댓글2").member(testMember1).post(testPost3).build());
+        Reply third = replyRepository.save(Reply.builder().content("댓글3").member(testMember1).post(testPost1).build());
+        replyRepository.flush();
+
+        // 댓글 시간을 고정 (setUp 의 testPost2 댓글이 가장 오래됨)
+        jdbcTemplate.update("UPDATE reply SET created_at = ? WHERE member_id = ?", base, testMember1.getId());
+        jdbcTemplate.update("UPDATE reply SET created_at = ? WHERE id = ?", base.plusMinutes(1), first.getId());
+        jdbcTemplate.update("UPDATE reply SET created_at = ? WHERE id = ?", base.plusMinutes(2), second.getId());
+        jdbcTemplate.update("UPDATE reply SET created_at = ? WHERE id = ?", base.plusMinutes(3), third.getId());
+
+        MvcResult page = mockMvc.perform(get("/api/v1/posts/all/reply")
+                        .param("cursor", "")
+                        .param("pageSize", "2"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].id", contains(testPost1.getId().intValue(), testPost3.getId().intValue())))
+                .andExpect(jsonPath("$.content[0].lastRepliedAt", is("2024-11-01T12:03:00")))
+                .andExpect(jsonPath("$.hasNext", is(true)))
+                .andReturn();
+        String nextCursor = objectMapper.readTree(page.getResponse().getContentAsString()).get("nextCursor").asText();
+
+        mockMvc.perform(get("/api/v1/posts/all/reply")
+                        .param("cursor", nextCursor)
+                        .param("pageSize", "2"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].id", contains(testPost2.getId().intValue())))
+                .andExpect(jsonPath("$.hasNext", is(false)));
+
+        // 페이지 조회도 댓글 수와 관계없이 게시글당 한 번
+        mockMvc.perform(get("/api/v1/posts/all/reply")
+                        .param("page", "0")
+                        .param("pageSize", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements", is(3)))
+                .andExpect(jsonPath("$.content", hasSize(3)));
+    }
+
 }
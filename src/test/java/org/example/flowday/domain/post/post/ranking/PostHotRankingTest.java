@@ -0,0 +1,75 @@
+package org.example.flowday.domain.post.post.ranking;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostHotRankingTest {
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 11, 1, 12, 0);
+
+    @Test
+    @DisplayName("반응이 같으면 최근 게시글이, 작성 시간이 같으면 반응이 많은 게시글이 위")
+    void orderByReactionsAndAge() {
+        PostHotRanking ranking = new PostHotRanking();
+        ranking.put(PostHotRanking.Ranked.of(1L, 10L, 10, 0, NOW.minusDays(1)));
+        ranking.put(PostHotRanking.Ranked.of(2L, 10L, 10, 0, NOW));
+        ranking.put(PostHotRanking.Ranked.of(3L, 10L, 3, 1, NOW));
+
+        assertThat(ids(ranking.page(0, 10))).containsExactly(2L, 3L, 1L);
+        assertThat(ids(ranking.page(1, 1))).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("좋아요/댓글 증감 시 순위 갱신")
+    void incrementalUpdate() {
+        PostHotRanking ranking = new PostHotRanking();
+        ranking.put(PostHotRanking.Ranked.of(1L, 10L, 0, 0, NOW));
+        ranking.put(PostHotRanking.Ranked.of(2L, 10L, 1, 0, NOW));
+
+        ranking.add(1L, 0, 1);
+        assertThat(ids(ranking.page(0, 10))).containsExactly(1L, 2L);
+
+        ranking.add(1L, 0, -1);
+        ranking.add(2L, -5, 0);
+        assertThat(ids(ranking.page(0, 10))).containsExactly(2L, 1L);
+
+        // 랭킹에 없는 게시글은 무시
+        ranking.add(99L, 1, 0);
+        assertThat(ranking.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("커서 이후 순위 조회")
+    void after() {
+        PostHotRanking ranking = new PostHotRanking();
+        for (long id = 1; id <= 5; id++) {
+            ranking.put(PostHotRanking.Ranked.of(id, 10L, 0, 0, NOW.plusHours(id)));
+        }
+
+        PostHotRanking.Ranked second = ranking.page(1, 1).get(0);
+        assertThat(ids(ranking.after(second.score(), second.id(), 2))).containsExactly(3L, 2L);
+    }
+
+    @Test
+    @DisplayName("작성자 게시글 제거 / 전체 재적재")
+    void removeAndReplace() {
+        PostHotRanking ranking = new PostHotRanking();
+        ranking.put(PostHotRanking.Ranked.of(1L, 10L, 0, 0, NOW));
+        ranking.put(PostHotRanking.Ranked.of(2L, 20L, 0, 0, NOW));
+
+        ranking.removeByWriter(10L);
+        assertThat(ids(ranking.page(0, 10))).containsExactly(2L);
+
+        ranking.replaceAll(List.of(PostHotRanking.Ranked.of(3L, 10L, 1, 0, NOW)));
+        assertThat(ids(ranking.page(0, 10))).containsExactly(3L);
+        assertThat(ranking.size()).isEqualTo(1);
+    }
+
+    private List<Long> ids(List<PostHotRanking.Ranked> ranked) {
+        return ranked.stream().map(PostHotRanking.Ranked::id).toList();
+    }
+}
@@ -0,0 +1,115 @@
+package org.example.flowday.domain.post.post.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostSearchIndexTest {
+
+    private static PostSearchDocument document(Long id, String title, String contents, List<String> tags) {
+        return new PostSearchDocument(id, LocalDateTime.of(2024, 1, 1, 0, 0).plusDays(id), title, contents,
+                "작성자", "서울", "봄", tags, null, List.of());
+    }
+
+    @Test
+    @DisplayName("단어 중간 일치 검색과 제목 가중치")
+    void searchRanksTitleMatchHigher() {
+        PostSearchIndex index = new PostSearchIndex();
+        index.replaceAll(List.of(
+                document(1L, "데이트 코스 추천", "성수동 카페거리", List.of()),
+                document(2L, "주말 나들이", "성수동 데이트 후기", List.of()),
+                document(3L, "맛집 탐방", "을지로", List.of("노포"))
+        ));
+
+        PostSearchIndex.SearchHits hits = index.search("데이트", 0, 10);
+
+        assertThat(hits.total()).isEqualTo(2);
+        assertThat(hits.ids()).containsExactly(1L, 2L);
+        assertThat(index.search("수동", 0, 10).ids()).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(index.search("노포", 0, 10).ids()).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("모든 검색 토큰을 포함한 게시글만 조회")
+    void searchRequiresAllTerms() {
+        PostSearchIndex index = new PostSearchIndex();
+        index.index(document(1L, "성수동 카페", "", List.of()));
+        index.index(document(2L, "성수동 맛집", "", List.of()));
+
+        assertThat(index.search("성수 카페", 0, 10).ids()).containsExactly(1L);
+        assertThat(index.search("없는단어", 0, 10).total()).isZero();
+    }
+
+    @Test
+    @DisplayName("토큰이 흩어져 있거나 순서가 다르면 일치하지 않음")
+    void searchRequiresContiguousMatch() {
+        PostSearchIndex index = new PostSearchIndex();
+        index.replaceAll(List.of(
+                document(1L, "서울 울역 산책", "", List.of()),
+                document(2L, "서울역 야경", "", List.of()),
+                document(3L, "카페 성수", "", List.of("ㅅㅇ 모임"))
+        ));
+
+        assertThat(index.search("서울역", 0, 10).ids()).containsExactly(2L);
+        assertThat(index.search("ㅅㅇㅇ", 0, 10).ids()).containsExactly(2L);
+        assertThat(index.search("성수 카페", 0, 10).ids()).containsExactly(3L);
+        assertThat(index.search("수성", 0, 10).total()).isZero();
+    }
+
+    @Test
+    @DisplayName("재색인 / 삭제 반영")
+    void reindexAndRemove() {
+        PostSearchIndex index = new PostSearchIndex();
+        index.index(document(1L, "겨울 바다", "", List.of()));
+
+        index.index(document(1L, "여름 바다", "", List.of()));
+        assertThat(index.search("겨울", 0, 10).total()).isZero();
+        assertThat(index.search("여름", 0, 10).ids()).containsExactly(1L);
+
+        index.remove(1L);
+        assertThat(index.search("바다", 0, 10).total()).isZero();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("초성 / 입력 중인 글자 / 한 글자 검색")
+    void koreanQueries() {
+        PostSearchIndex index = new PostSearchIndex();
+        index.replaceAll(List.of(
+                new PostSearchDocument(1L, null, "서울숲 산책", "", null, null, null, List.of(), null, List.of()),
+                new PostSearchDocument(2L, null, "부산 여행", "", null, null, null, List.of("해운대"), null, List.of()),
+                new PostSearchDocument(3L, null, "주말 데이트", "", null, null, null, List.of(), "코스", List.of("닭갈비 골목"))
+        ));
+
+        assertThat(index.search("ㅅㅇㅅ", 0, 10).ids()).containsExactly(1L);
+        assertThat(index.search("ㅎㅇㄷ", 0, 10).ids()).containsExactly(2L);
+        assertThat(index.search("서우", 0, 10).total()).isZero();
+        assertThat(index.search("서ㅇ", 0, 10).ids()).containsExactly(1L);
+        assertThat(index.search("ㅅㅓ", 0, 10).ids()).containsExactly(1L);
+        assertThat(index.search("ㅂㅜ", 0, 10).ids()).containsExactly(2L);
+        assertThat(index.search("달", 0, 10).total()).isZero();
+        assertThat(index.search("닭갈ㅂ", 0, 10).ids()).containsExactly(3L);
+        assertThat(index.search("숲", 0, 10).ids()).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("최신순 커서 검색")
+    void searchLatestWithCursor() {
+        PostSearchIndex index = new PostSearchIndex();
+        index.replaceAll(List.of(
+                document(1L, "한강 산책", "", List.of()),
+                document(2L, "한강 피크닉", "", List.of()),
+                document(3L, "한강 야경", "", List.of())
+        ));
+
+        List<Long> first = index.searchLatest("한강", null, null, 2);
+        assertThat(first).containsExactly(3L, 2L);
+
+        LocalDateTime cursorCreatedAt = LocalDateTime.of(2024, 1, 1, 0, 0).plusDays(2);
+        assertThat(index.searchLatest("한강", cursorCreatedAt, 2L, 2)).containsExactly(1L);
+    }
+}
@@ -0,0 +1,86 @@
+package org.example.flowday.domain.post.post.search;
+
+import org.example.flowday.domain.member.event.dto.PartnerDisconnectedEvent;
+import org.example.flowday.domain.post.post.entity.Status;
+import org.example.flowday.domain.post.post.event.dto.PostCreatedEvent;
+import org.example.flowday.domain.post.post.event.dto.PostDeletedEvent;
+import org.example.flowday.domain.post.post.event.dto.PostSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class PostSearchIndexerTest {
+    private PostSearchIndex index;
+    private PostSearchDocumentLoader loader;
+    private PostSearchIndexer indexer;
+
+    private static PostSearchDocument document(Long id, String title) {
+        return new PostSearchDocument(id, LocalDateTime.of(2024, 1, 1, 0, 0).plusDays(id), title, "",
+                "작성자", "서울", "봄", List.of(), null, List.of());
+    }
+
+    private static PostSnapshot snapshot(Long id) {
+        return new PostSnapshot(id, 1L, Status.PUBLIC, "서울", "봄", null, LocalDateTime.of(2024, 1, 1, 0, 0), List.of());
+    }
+
+    @BeforeEach
+    void setUp() {
+        index = new PostSearchIndex();
+        loader = mock(PostSearchDocumentLoader.class);
+        indexer = new PostSearchIndexer(index, loader);
+    }
+
+    @Test
+    @DisplayName("전체 재색인 중 생성/삭제된 게시글은 색인 교체 후 다시 반영")
+    void eventsDuringRebuildAreReplayed() {
+        when(loader.loadPublic(1L)).thenReturn(Optional.empty());
+        when(loader.loadPublic(3L)).thenReturn(Optional.of(document(3L, "한강 야경")));
+        // 스냅샷을 읽는 동안 1번 삭제, 3번 생성
+        when(loader.loadPublicAfter(anyLong(), anyInt())).thenAnswer(invocation -> {
+            indexer.handle(new PostDeletedEvent(snapshot(1L)));
+            indexer.handle(new PostCreatedEvent(snapshot(3L)));
+            return List.of(document(1L, "한강 피크닉"), document(2L, "한강 자전거"));
+        });
+
+        indexer.rebuild();
+
+        assertThat(index.search("한강", 0, 10).ids()).containsExactlyInAnyOrder(2L, 3L);
+        verify(loader, times(2)).loadPublic(3L);
+    }
+
+    @Test
+    @DisplayName("재색인 중이 아닐 때의 이벤트는 바로 반영하고 다음 재색인에서 다시 읽지 않음")
+    void eventsOutsideRebuildAreAppliedOnce() {
+        when(loader.loadPublic(1L)).thenReturn(Optional.of(document(1L, "한강 피크닉")));
+        indexer.handle(new PostCreatedEvent(snapshot(1L)));
+        assertThat(index.search("한강", 0, 10).ids()).containsExactly(1L);
+
+        when(loader.loadPublicAfter(anyLong(), anyInt())).thenReturn(List.of(document(1L, "한강 피크닉")));
+        indexer.rebuild();
+
+        verify(loader, times(1)).loadPublic(1L);
+    }
+
+    @Test
+    @DisplayName("연결 해제로 게시글이 비공개가 되면 작성자의 게시글을 색인에서 제거")
+    void partnerDisconnectRemovesWriterPosts() {
+        index.replaceAll(List.of(document(1L, "한강 피크닉"), document(2L, "한강 자전거")));
+        when(loader.loadPostIdsByWriter(10L)).thenReturn(List.of(1L));
+
+        indexer.handle(new PartnerDisconnectedEvent(20L, 10L, false));
+        assertThat(index.search("한강", 0, 10).ids()).containsExactlyInAnyOrder(1L, 2L);
+        verify(loader, never()).loadPostIdsByWriter(anyLong());
+
+        indexer.handle(new PartnerDisconnectedEvent(10L, 20L, true));
+        assertThat(index.search("한강", 0, 10).ids()).containsExactly(2L);
+    }
+}
@@ -7,13 +7,22 @@ import org.example.flowday.domain.course.spot.entity.Spot;
 import org.example.flowday.domain.member.entity.Member;
 import org.example.flowday.domain.member.entity.Role;
 import org.example.flowday.domain.member.repository.MemberRepository;
+import org.example.flowday.domain.post.likes.cache.LikedPostCache;
+import org.example.flowday.domain.post.post.dto.PostBriefResponseDTO;
+import org.example.flowday.domain.post.post.dto.PostCursorResponseDTO;
 import org.example.flowday.domain.post.post.dto.PostRequestDTO;
 import org.example.flowday.domain.post.post.dto.PostResponseDTO;
 import org.example.flowday.domain.post.post.entity.Post;
 import org.example.flowday.domain.post.post.mapper.PostMapper;
 import org.example.flowday.domain.post.post.repository.PostRepository;
+import org.example.flowday.domain.post.post.ranking.PostHotRanking;
+import org.example.flowday.domain.post.post.facet.PostFacetCounter;
+import org.example.flowday.domain.post.post.search.PostSearchIndex;
+import org.example.flowday.domain.post.post.timeline.CoupleTimeline;
+import org.example.flowday.domain.post.tag.repository.TagDictionaryRepository;
 import org.example.flowday.domain.post.tag.repository.TagRepository;
 import org.example.flowday.domain.post.tag.service.TagService;
+import org.example.flowday.domain.post.trend.service.TrendService;
 import org.example.flowday.global.fileupload.service.GenFileService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -21,9 +30,11 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -61,6 +72,30 @@ class PostServiceTest {
     @Mock
     private TagService tagService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private LikedPostCache likedPostCache;
+
+    @Mock
+    private PostSearchIndex postSearchIndex;
+
+    @Mock
+    private PostHotRanking postHotRanking;
+
+    @Mock
+    private TrendService trendService;
+
+    @Mock
+    private CoupleTimeline coupleTimeline;
+
+    @Mock
+    private PostFacetCounter postFacetCounter;
+
+    @Mock
+    private TagDictionaryRepository tagDictionaryRepository;
+
     private Member member;
     private Member partner;
     private Course course;
@@ -201,7 +236,9 @@ class PostServiceTest {
         postList.add(post);
         postList.add(post2);
         postList.add(post3);
-        Page<Post> posts = new PageImpl<>(postList);
+        Page<PostBriefResponseDTO> posts = new PageImpl<>(postList.stream()
+                .map(p -> new PostBriefResponseDTO(p, null))
+                .toList());
 
         when(postRepository.searchLatestPost(pageRequest)).thenReturn(posts);
 
@@ -218,12 +255,102 @@ class PostServiceTest {
         postList.add(post2);
         postList.add(post3);
         postList.add(post4);
-        Page<Post> posts = new PageImpl<>(postList);
+        List<Long> postIds = postList.stream().map(Post::getId).toList();
+        List<PostBriefResponseDTO> briefs = postList.stream()
+                .map(p -> new PostBriefResponseDTO(p, null))
+                .toList();
 
-        when(postRepository.searchCouplePost(pageRequest, member.getId(), member.getPartnerId())).thenReturn(posts);
+        when(memberRepository.findById(member.getId())).thenReturn(Optional.of(member));
+        when(coupleTimeline.page(member.getId(), member.getPartnerId(), 0, 10)).thenReturn(postIds);
+        when(coupleTimeline.size(member.getId(), member.getPartnerId())).thenReturn(4L);
+        when(postRepository.findBriefsByIds(postIds, org.example.flowday.domain.post.post.entity.Status.COUPLE)).thenReturn(briefs);
+
+        Page<PostBriefResponseDTO> posts = postService.findAllCouplePosts(pageRequest, member.getId());
 
         assertNotNull(posts);
         assertEquals(4, posts.getTotalElements());
+        assertThat(posts.getContent()).extracting(PostBriefResponseDTO::getId).containsExactly(1L, 2L, 3L, 4L);
+    }
+
+    @DisplayName("검색 커서 조회 - 색인에 남은 비공개 게시글이 걸러지면 조회 범위를 늘려 페이지를 채움")
+    @Test
+    void findAllKwPostsByCursor_FillsFilteredPage() {
+        PostBriefResponseDTO brief1 = new PostBriefResponseDTO(post, null);
+        PostBriefResponseDTO brief2 = new PostBriefResponseDTO(post2, null);
+
+        when(postSearchIndex.searchLatest("제목", null, null, 2)).thenReturn(List.of(3L, 1L));
+        when(postSearchIndex.searchLatest("제목", null, null, 4)).thenReturn(List.of(3L, 1L, 4L, 2L));
+        when(postRepository.findBriefsByIds(List.of(3L, 1L), org.example.flowday.domain.post.post.entity.Status.PUBLIC)).thenReturn(List.of(brief1));
+        when(postRepository.findBriefsByIds(List.of(3L, 1L, 4L, 2L), org.example.flowday.domain.post.post.entity.Status.PUBLIC)).thenReturn(List.of(brief1, brief2));
+
+        PostCursorResponseDTO page = postService.findAllKwPostsByCursor("제목", null, 1, member.getId());
+
+        assertThat(page.getContent()).extracting(PostBriefResponseDTO::getId).containsExactly(1L);
+        assertTrue(page.isHasNext());
+        assertNotNull(page.getNextCursor());
+    }
+
+    @DisplayName("검색 커서 조회 - 색인을 끝까지 읽으면 짧은 페이지여도 다음 페이지 없음")
+    @Test
+    void findAllKwPostsByCursor_LastPage() {
+        PostBriefResponseDTO brief1 = new PostBriefResponseDTO(post, null);
+
+        when(postSearchIndex.searchLatest("제목", null, null, 3)).thenReturn(List.of(3L, 1L));
+        when(postRepository.findBriefsByIds(List.of(3L, 1L), org.example.flowday.domain.post.post.entity.Status.PUBLIC)).thenReturn(List.of(brief1));
+
+        PostCursorResponseDTO page = postService.findAllKwPostsByCursor("제목", null, 2, member.getId());
+
+        assertThat(page.getContent()).extracting(PostBriefResponseDTO::getId).containsExactly(1L);
+        assertFalse(page.isHasNext());
+        verify(postSearchIndex, times(1)).searchLatest(anyString(), any(), any(), anyInt());
+    }
+
+    @DisplayName("인기 게시글 커서 조회 - 랭킹에 남은 비공개 게시글이 걸러져도 페이지를 채우고 커서에 점수를 담음")
+    @Test
+    void findAllMostLikePostsByCursor_FillsFilteredPage() {
+        LocalDateTime now = LocalDateTime.now();
+        PostHotRanking.Ranked ranked3 = PostHotRanking.Ranked.of(3L, 2L, 9, 0, now);
+        PostHotRanking.Ranked ranked1 = PostHotRanking.Ranked.of(1L, 1L, 5, 0, now);
+        PostHotRanking.Ranked ranked2 = PostHotRanking.Ranked.of(2L, 1L, 1, 0, now);
+
+        when(postHotRanking.page(0, 2)).thenReturn(List.of(ranked3, ranked1));
+        when(postHotRanking.page(0, 4)).thenReturn(List.of(ranked3, ranked1, ranked2));
+        when(postRepository.findBriefsByIds(List.of(3L, 1L), org.example.flowday.domain.post.post.entity.Status.PUBLIC))
+                .thenReturn(List.of(new PostBriefResponseDTO(post, null)));
+        when(postRepository.findBriefsByIds(List.of(3L, 1L, 2L), org.example.flowday.domain.post.post.entity.Status.PUBLIC))
+                .thenReturn(List.of(new PostBriefResponseDTO(post, null), new PostBriefResponseDTO(post2, null)));
+
+        PostCursorResponseDTO page = postService.findAllMostLikePostsByCursor(null, 1, member.getId());
+
+        assertThat(page.getContent()).extracting(PostBriefResponseDTO::getId).containsExactly(1L);
+        assertTrue(page.isHasNext());
+        assertEquals(ranked1.score(), org.example.flowday.domain.post.post.dto.PostCursor.decode(page.getNextCursor()).getScore());
+    }
+
+    @DisplayName("비정규화 컬럼 이관 - 미리보기와 태그 문자열을 채우고 마지막 ID 반환")
+    @Test
+    void backfillDenormalizedColumns() {
+        Post longPost = Post.builder()
+                .id(5L)
+                .title("제목")
+                .contents("스무 자가 넘는 게시글 본문은 미리보기에서 잘립니다")
+                .status(org.example.flowday.domain.post.post.entity.Status.PUBLIC)
+                .writer(member)
+                .build();
+        longPost.addTag("카페");
+        ReflectionTestUtils.setField(longPost, "tagString", null);
+
+        when(postRepository.findDenormalizationTargets(eq(0L), any())).thenReturn(List.of(post, longPost));
+        when(postRepository.findDenormalizationTargets(eq(5L), any())).thenReturn(List.of());
+
+        assertEquals(5L, postService.backfillDenormalizedColumns(0L, 100));
+        assertNull(postService.backfillDenormalizedColumns(5L, 100));
+
+        assertEquals("내용", post.getExcerpt());
+        assertEquals("", post.getTagString());
+        assertEquals(Post.EXCERPT_LENGTH, longPost.getExcerpt().length());
+        assertEquals("#카페", longPost.getTagString());
+        assertEquals(longPost.getExcerpt(), new PostBriefResponseDTO(longPost, null).getContent());
     }
 
     @Test
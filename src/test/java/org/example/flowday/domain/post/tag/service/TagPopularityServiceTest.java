@@ -0,0 +1,67 @@
+package org.example.flowday.domain.post.tag.service;
+
+import org.example.flowday.domain.member.event.dto.PartnerDisconnectedEvent;
+import org.example.flowday.domain.post.post.entity.Status;
+import org.example.flowday.domain.post.post.event.dto.PostCreatedEvent;
+import org.example.flowday.domain.post.post.event.dto.PostSnapshot;
+import org.example.flowday.domain.post.tag.dto.TagSuggestionDTO;
+import org.example.flowday.domain.post.tag.repository.TagRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.*;
+
+class TagPopularityServiceTest {
+
+    @Test
+    @DisplayName("연결 해제로 게시글이 비공개가 되면 공개 게시글 태그 수를 다시 적재")
+    void partnerDisconnectReloadsCounts() {
+        TagRepository tagRepository = mock(TagRepository.class);
+        when(tagRepository.countByContent(Status.PUBLIC))
+                .thenReturn(List.<Object[]>of(new Object[]{"데이트", 3L}, new Object[]{"데일리", 1L}))
+                .thenReturn(List.<Object[]>of(new Object[]{"데이트", 1L}));
+        TagPopularityService service = new TagPopularityService(tagRepository);
+        service.bootstrap();
+
+        service.handle(new PartnerDisconnectedEvent(1L, 2L, false));
+        assertThat(service.suggest("데", 10)).extracting(TagSuggestionDTO::getCount).containsExactly(3L, 1L);
+        verify(tagRepository, times(1)).countByContent(Status.PUBLIC);
+
+        service.handle(new PartnerDisconnectedEvent(1L, 2L, true));
+        assertThat(service.suggest("데", 10))
+                .extracting(TagSuggestionDTO::getName, TagSuggestionDTO::getCount)
+                .containsExactly(tuple("데이트", 1L));
+    }
+
+    @Test
+    @DisplayName("다시 적재하는 동안 들어온 증감은 새 트라이에도 반영")
+    void reloadKeepsDeltasAppliedDuringLoad() {
+        TagRepository tagRepository = mock(TagRepository.class);
+        TagPopularityService service = new TagPopularityService(tagRepository);
+        PostSnapshot post = new PostSnapshot(1L, 1L, Status.PUBLIC, "서울", "봄", null,
+                LocalDateTime.of(2024, 1, 1, 0, 0), List.of("데이트", "야경"));
+        when(tagRepository.countByContent(Status.PUBLIC)).thenAnswer(invocation -> {
+            // 집계 조회 중에 커밋된 게시글
+            service.handle(new PostCreatedEvent(post));
+            return List.<Object[]>of(new Object[]{"데이트", 3L});
+        });
+
+        service.bootstrap();
+
+        assertThat(service.suggest("", 10))
+                .extracting(TagSuggestionDTO::getName, TagSuggestionDTO::getCount)
+                .containsExactly(tuple("데이트", 4L), tuple("야경", 1L));
+
+        // 다음 적재는 DB 상태로 교체 (이전 적재 때 기록한 증감은 다시 더하지 않음)
+        when(tagRepository.countByContent(Status.PUBLIC)).thenReturn(List.<Object[]>of(new Object[]{"데이트", 4L}));
+        service.bootstrap();
+        assertThat(service.suggest("", 10))
+                .extracting(TagSuggestionDTO::getName, TagSuggestionDTO::getCount)
+                .containsExactly(tuple("데이트", 4L));
+    }
+}
@@ -0,0 +1,52 @@
+package org.example.flowday.domain.post.tag.service;
+
+import org.example.flowday.domain.post.post.entity.Post;
+import org.example.flowday.domain.post.tag.entity.PostTag;
+import org.example.flowday.domain.post.tag.entity.Tag;
+import org.example.flowday.domain.post.tag.repository.TagDictionaryRepository;
+import org.example.flowday.domain.post.tag.repository.TagRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+class TagServiceTest {
+
+    @InjectMocks
+    private TagService tagService;
+
+    @Mock
+    private TagRepository tagRepository;
+
+    @Mock
+    private TagDictionaryRepository tagDictionaryRepository;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    @DisplayName("DB 정렬 규칙상 같은 이름이 다른 표기로 저장돼 있어도 사전 항목을 연결하고 한 번만 집계")
+    void createTags_CollationEquivalentName() {
+        Tag cafe = Tag.builder().id(1L).name("cafe").build();
+        when(tagDictionaryRepository.findByNameIn(anyCollection())).thenReturn(List.of(cafe));
+        when(tagDictionaryRepository.findByName("café")).thenReturn(Optional.of(cafe));
+        Post post = Post.builder().id(1L).title("제목").contents("내용").build();
+
+        tagService.createTags("#cafe #café", post);
+
+        assertThat(post.getTags()).extracting(PostTag::getContent).containsExactly("cafe", "café");
+        assertThat(post.getTags()).extracting(PostTag::getTag).containsOnly(cafe);
+        verify(tagDictionaryRepository).addPostCount(List.of(1L), 1);
+    }
+}
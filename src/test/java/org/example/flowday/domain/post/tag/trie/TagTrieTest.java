@@ -0,0 +1,63 @@
+package org.example.flowday.domain.post.tag.trie;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TagTrieTest {
+
+    @Test
+    @DisplayName("접두어별 사용 횟수 상위 태그")
+    void topByPrefix() {
+        TagTrie trie = new TagTrie(100);
+        trie.add("데이트", 5);
+        trie.add("데이트코스", 3);
+        trie.add("데일리", 7);
+        trie.add("맛집", 10);
+
+        assertThat(trie.top("데이", 10))
+                .extracting(TagTrie.TagCount::tag)
+                .containsExactly("데이트", "데이트코스");
+        assertThat(trie.top("데", 2))
+                .extracting(TagTrie.TagCount::tag)
+                .containsExactly("데일리", "데이트");
+        assertThat(trie.top("", 1))
+                .extracting(TagTrie.TagCount::tag)
+                .containsExactly("맛집");
+        assertThat(trie.top("없음", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("횟수 변경 시 캐시된 순위도 갱신")
+    void cacheInvalidatedOnChange() {
+        TagTrie trie = new TagTrie(100);
+        trie.add("카페", 2);
+        trie.add("캠핑", 1);
+        assertThat(trie.top("카", 10)).extracting(TagTrie.TagCount::tag).containsExactly("카페");
+        assertThat(trie.top("", 1)).extracting(TagTrie.TagCount::tag).containsExactly("카페");
+
+        trie.add("캠핑", 5);
+        trie.add("카페", -2);
+
+        assertThat(trie.top("", 10)).extracting(TagTrie.TagCount::tag).containsExactly("캠핑");
+        assertThat(trie.count("카페")).isZero();
+        assertThat(trie.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("최대 태그 수를 넘으면 사용 횟수가 적은 태그부터 정리")
+    void pruneRareTags() {
+        TagTrie trie = new TagTrie(10);
+        for (int i = 0; i < 10; i++) {
+            trie.add("tag" + i, i + 1);
+        }
+
+        trie.add("new", 100);
+
+        assertThat(trie.size()).isLessThanOrEqualTo(9);
+        assertThat(trie.count("new")).isEqualTo(100);
+        assertThat(trie.count("tag9")).isEqualTo(10);
+        assertThat(trie.count("tag0")).isZero();
+    }
+}
@@ -0,0 +1,99 @@
+package org.example.flowday.domain.post.trend.counter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlidingWindowCounterTest {
+    private static final long NOW = 480_000;
+
+    @Test
+    @DisplayName("기간별 상위 항목")
+    void topByWindow() {
+        SlidingWindowCounter<String> counter = new SlidingWindowCounter<>(24, 168);
+        counter.add("카페", 3, NOW - 100);
+        counter.add("맛집", 2, NOW - 1);
+        counter.add("캠핑", 1, NOW);
+        counter.add("카페", 3, NOW);
+
+        assertThat(keys(counter.top(24, 10, NOW))).containsExactly("카페", "맛집", "캠핑");
+        assertThat(keys(counter.top(168, 2, NOW))).containsExactly("카페", "맛집");
+    }
+
+    @Test
+    @DisplayName("시간이 지나면 기간 밖 버킷은 합계에서 제외")
+    void expiresOldBuckets() {
+        SlidingWindowCounter<Long> counter = new SlidingWindowCounter<>(24, 168);
+        counter.add(1L, 5, NOW);
+        counter.add(2L, 1, NOW + 10);
+
+        assertThat(counter.top(24, 10, NOW + 24)).containsExactly(Map.entry(2L, 1L));
+        assertThat(keys(counter.top(168, 10, NOW + 24))).containsExactly(1L, 2L);
+        assertThat(counter.top(168, 10, NOW + 200)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("취소로 0 이하가 된 항목은 제외")
+    void ignoresNonPositive() {
+        SlidingWindowCounter<Long> counter = new SlidingWindowCounter<>(24);
+        counter.add(1L, 1, NOW);
+        counter.add(1L, -1, NOW);
+        counter.add(2L, -1, NOW);
+
+        assertThat(counter.top(24, 10, NOW)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("취소는 가장 최근 버킷에 남은 값을 상쇄하고, 남은 값이 없으면 무시")
+    void cancelLatest() {
+        SlidingWindowCounter<Long> counter = new SlidingWindowCounter<>(24, 168);
+        counter.add(1L, 1, NOW - 100);
+        counter.add(1L, 1, NOW - 2);
+
+        assertThat(counter.cancelLatest(1L, NOW)).isTrue();
+        assertThat(counter.top(24, 10, NOW)).isEmpty();
+        assertThat(counter.top(168, 10, NOW)).containsExactly(Map.entry(1L, 1L));
+
+        assertThat(counter.cancelLatest(1L, NOW)).isTrue();
+        assertThat(counter.cancelLatest(1L, NOW)).isFalse();
+        assertThat(counter.cancelLatest(2L, NOW)).isFalse();
+        assertThat(counter.drainPendingDeltas())
+                .containsOnly(Map.entry(NOW - 100, Map.of(1L, 0L)), Map.entry(NOW - 2, Map.of(1L, 0L)));
+    }
+
+    @Test
+    @DisplayName("저장하지 않은 증감분만 꺼내고, 복원한 버킷은 제외")
+    void pendingDeltas() {
+        SlidingWindowCounter<String> counter = new SlidingWindowCounter<>(24);
+        counter.restore("카페", 4, NOW - 2);
+        counter.add("카페", 1, NOW - 2);
+        counter.add("맛집", 1, NOW);
+        counter.add("맛집", 1, NOW);
+
+        assertThat(counter.drainPendingDeltas())
+                .containsOnly(Map.entry(NOW - 2, Map.of("카페", 1L)), Map.entry(NOW, Map.of("맛집", 2L)));
+        assertThat(counter.drainPendingDeltas()).isEmpty();
+        assertThat(counter.top(24, 10, NOW)).containsExactly(Map.entry("카페", 5L), Map.entry("맛집", 2L));
+    }
+
+    @Test
+    @DisplayName("저장에 실패해 되돌린 증감분은 새 증감분과 합쳐 다시 꺼냄")
+    void requeuedDeltas() {
+        SlidingWindowCounter<String> counter = new SlidingWindowCounter<>(24);
+        counter.add("맛집", 1, NOW);
+        Map<Long, Map<String, Long>> failed = counter.drainPendingDeltas();
+
+        counter.add("맛집", 2, NOW);
+        counter.requeue(NOW, failed.get(NOW));
+
+        assertThat(counter.drainPendingDeltas()).containsExactly(Map.entry(NOW, Map.of("맛집", 3L)));
+    }
+
+    private <K> List<K> keys(List<Map.Entry<K, Long>> entries) {
+        return entries.stream().map(Map.Entry::getKey).toList();
+    }
+}
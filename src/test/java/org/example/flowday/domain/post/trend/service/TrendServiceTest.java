@@ -0,0 +1,75 @@
+package org.example.flowday.domain.post.trend.service;
+
+import org.example.flowday.domain.post.likes.event.dto.PostLikeChangedEvent;
+import org.example.flowday.domain.post.trend.counter.TrendWindow;
+import org.example.flowday.domain.post.trend.dto.TrendCountDTO;
+import org.example.flowday.domain.post.trend.entity.TrendKind;
+import org.example.flowday.domain.post.trend.repository.TrendBucketRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class TrendServiceTest {
+    private TrendBucketRepository trendBucketRepository;
+    private TrendService trendService;
+
+    @BeforeEach
+    void setUp() {
+        trendBucketRepository = mock(TrendBucketRepository.class);
+        trendService = new TrendService(trendBucketRepository);
+    }
+
+    @Test
+    @DisplayName("좋아요 취소는 기간 안에 남은 좋아요만 상쇄")
+    void unlikeCancelsOnlyLikesInsideWindow() {
+        trendService.handle(new PostLikeChangedEvent(1L, 10L, true));
+        trendService.handle(new PostLikeChangedEvent(1L, 11L, true));
+        trendService.handle(new PostLikeChangedEvent(2L, 10L, true));
+
+        trendService.handle(new PostLikeChangedEvent(1L, 10L, false));
+        assertThat(trendService.topPosts(TrendWindow.from("7d"), 10))
+                .extracting(TrendCountDTO::key, TrendCountDTO::count)
+                .containsExactlyInAnyOrder(tuple(1L, 1L), tuple(2L, 1L));
+
+        // 기간 안에 남은 좋아요가 없는 게시글의 취소는 음수로 내려가지 않음
+        trendService.handle(new PostLikeChangedEvent(2L, 10L, false));
+        trendService.handle(new PostLikeChangedEvent(2L, 11L, false));
+        trendService.handle(new PostLikeChangedEvent(3L, 10L, false));
+        trendService.handle(new PostLikeChangedEvent(2L, 12L, true));
+        assertThat(trendService.topPosts(TrendWindow.from("7d"), 10))
+                .extracting(TrendCountDTO::key, TrendCountDTO::count)
+                .containsExactlyInAnyOrder(tuple(1L, 1L), tuple(2L, 1L));
+    }
+
+    @Test
+    @DisplayName("저장은 증감분을 더하고, 실패한 증감분은 다음 저장 때 합쳐서 다시 시도")
+    @SuppressWarnings("unchecked")
+    void persistAddsDeltasAndRetriesFailures() {
+        doThrow(new DataAccessResourceFailureException("down"))
+                .doNothing()
+                .when(trendBucketRepository).addToBucket(eq(TrendKind.POST_LIKE), anyLong(), anyMap());
+
+        trendService.handle(new PostLikeChangedEvent(1L, 10L, true));
+        trendService.persist();
+
+        trendService.handle(new PostLikeChangedEvent(1L, 11L, true));
+        trendService.persist();
+
+        ArgumentCaptor<Map<String, Long>> deltas = ArgumentCaptor.forClass(Map.class);
+        verify(trendBucketRepository, times(2)).addToBucket(eq(TrendKind.POST_LIKE), anyLong(), deltas.capture());
+        assertThat(deltas.getAllValues().get(1)).containsExactly(Map.entry("1", 2L));
+
+        // 저장한 증감분은 다시 보내지 않음
+        trendService.persist();
+        verify(trendBucketRepository, times(2)).addToBucket(eq(TrendKind.POST_LIKE), anyLong(), anyMap());
+    }
+}
@@ -0,0 +1,123 @@
+package org.example.flowday.global.fileupload.image;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImageVariantGeneratorTest {
+    private final ImageVariantGenerator generator = new ImageVariantGenerator();
+
+    @Test
+    @DisplayName("원본보다 작은 너비만 비율을 유지해 JPEG 로 생성")
+    void generateJpegVariants() throws IOException {
+        List<ImageVariantGenerator.VariantImage> variants = generator.generate(encode(2000, 1000, BufferedImage.TYPE_INT_RGB, "jpg"));
+
+        assertThat(variants).extracting(ImageVariantGenerator.VariantImage::variant)
+                .containsExactly(ImageVariant.W320, ImageVariant.W640, ImageVariant.W1280);
+        assertThat(variants).extracting(ImageVariantGenerator.VariantImage::height).containsExactly(160, 320, 640);
+        assertThat(variants).allSatisfy(variant -> {
+            assertThat(variant.fileExt()).isEqualTo("jpg");
+            assertThat(decode(variant.bytes()).getWidth()).isEqualTo(variant.variant().width());
+        });
+    }
+
+    @Test
+    @DisplayName("투명도가 있으면 PNG 로 생성")
+    void generatePngVariants() throws IOException {
+        List<ImageVariantGenerator.VariantImage> variants = generator.generate(encode(500, 500, BufferedImage.TYPE_INT_ARGB, "png"));
+
+        assertThat(variants).extracting(ImageVariantGenerator.VariantImage::variant).containsExactly(ImageVariant.W320);
+        assertThat(variants.get(0).contentType()).isEqualTo("image/png");
+        assertThat(decode(variants.get(0).bytes()).getColorModel().hasAlpha()).isTrue();
+    }
+
+    @Test
+    @DisplayName("EXIF 회전 값을 픽셀에 반영하고 결과에서 EXIF 제거")
+    void applyExifOrientation() throws IOException {
+        byte[] original = withOrientation(encode(1000, 600, BufferedImage.TYPE_INT_RGB, "jpg"), 6);
+        assertThat(ExifOrientation.read(original)).isEqualTo(6);
+
+        List<ImageVariantGenerator.VariantImage> variants = generator.generate(original);
+
+        // 90도 회전 후 600x1000 이므로 w640 / w1280 은 만들지 않음
+        assertThat(variants).extracting(ImageVariantGenerator.VariantImage::variant).containsExactly(ImageVariant.W320);
+        assertThat(variants.get(0).height()).isEqualTo(533);
+        assertThat(ExifOrientation.read(variants.get(0).bytes())).isEqualTo(1);
+        assertThat(new String(variants.get(0).bytes(), StandardCharsets.ISO_8859_1)).doesNotContain("Exif");
+    }
+
+    @Test
+    @DisplayName("이미지가 아니면 변형 없음")
+    void ignoreNonImage() throws IOException {
+        assertThat(generator.generate("not an image".getBytes(StandardCharsets.UTF_8))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("픽셀 수가 제한을 넘으면 디코딩하지 않고 변형 없음")
+    void ignoreTooManyPixels() throws IOException {
+        int side = (int) Math.sqrt(ImageVariantGenerator.MAX_PIXELS) + 1;
+        assertThat(generator.generate(pngHeader(side, side))).isEmpty();
+    }
+
+    // 크기만 담은 PNG (시그니처 + IHDR) - 헤더만 읽으므로 픽셀 데이터가 없어도 됨
+    private static byte[] pngHeader(int width, int height) {
+        ByteBuffer ihdr = ByteBuffer.allocate(17)
+                .put("IHDR".getBytes(StandardCharsets.US_ASCII))
+                .putInt(width)
+                .putInt(height)
+                .put(new byte[]{8, 2, 0, 0, 0});
+        CRC32 crc = new CRC32();
+        crc.update(ihdr.array());
+
+        return ByteBuffer.allocate(8 + 4 + 17 + 4)
+                .put(new byte[]{(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'})
+                .putInt(13)
+                .put(ihdr.array())
+                .putInt((int) crc.getValue())
+                .array();
+    }
+
+    private static byte[] encode(int width, int height, int type, String format) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, type);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, format, out);
+        return out.toByteArray();
+    }
+
+    private static BufferedImage decode(byte[] bytes) throws IOException {
+        return ImageIO.read(new ByteArrayInputStream(bytes));
+    }
+
+    // SOI 바로 뒤에 Orientation 태그 하나만 있는 APP1(EXIF) 세그먼트 삽입 (big endian)
+    private static byte[] withOrientation(byte[] jpeg, int orientation) {
+        byte[] tiff = {
+                'M', 'M', 0, 42, 0, 0, 0, 8,
+                0, 1,
+                0x01, 0x12, 0, 3, 0, 0, 0, 1, 0, (byte) orientation, 0, 0,
+                0, 0, 0, 0
+        };
+        int length = 2 + 6 + tiff.length;
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(jpeg, 0, 2);
+        out.write(0xFF);
+        out.write(0xE1);
+        out.write(length >> 8);
+        out.write(length & 0xFF);
+        out.writeBytes(new byte[]{'E', 'x', 'i', 'f', 0, 0});
+        out.writeBytes(tiff);
+        out.write(jpeg, 2, jpeg.length - 2);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,155 @@
+package org.example.flowday.global.fileupload.service;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.DeleteObjectRequest;
+import org.example.flowday.global.fileupload.entity.GenFile;
+import org.example.flowday.global.fileupload.entity.GenFileStatus;
+import org.example.flowday.global.fileupload.repository.FileBlobRepository;
+import org.example.flowday.global.fileupload.repository.GenFileRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+// 참조 수는 SQL(GREATEST / INSERT IGNORE)로 관리하므로 H2 에서 확인하고, 커밋 후 삭제를 보기 위해 테스트 트랜잭션은 쓰지 않음
+@SpringBootTest
+@ActiveProfiles("test")
+class FileBlobServiceTest {
+    private static final String HASH = "a".repeat(64);
+
+    @Autowired
+    private FileBlobRepository fileBlobRepository;
+
+    @Autowired
+    private GenFileRepository genFileRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private AmazonS3 amazonS3;
+    private FileBlobService fileBlobService;
+    private TransactionTemplate transaction;
+
+    @BeforeEach
+    void setUp() {
+        amazonS3 = mock(AmazonS3.class);
+        fileBlobService = new FileBlobService(fileBlobRepository, amazonS3, transactionManager);
+        ReflectionTestUtils.setField(fileBlobService, "bucketName", "bucket");
+        transaction = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM file_blobs WHERE hash = ?", HASH);
+        jdbcTemplate.update("DELETE FROM gen_file WHERE rel_type_code = ?", "blobTest");
+    }
+
+    private List<Integer> refCount() {
+        return jdbcTemplate.queryForList("SELECT ref_count FROM file_blobs WHERE hash = ?", Integer.class, HASH);
+    }
+
+    @Test
+    @DisplayName("등록 / 참조 / 해제에 따라 참조 수가 바뀌고, 마지막 참조가 사라지면 객체와 행을 삭제")
+    void retainReleaseAndPurge() {
+        assertThat(fileBlobService.retain(HASH)).isFalse();
+
+        fileBlobService.register(HASH, 10, "image/png");
+        assertThat(fileBlobService.retain(HASH)).isTrue();
+        // 다른 요청이 먼저 등록한 경우 참조만 늘림
+        fileBlobService.register(HASH, 10, "image/png");
+        assertThat(refCount()).containsExactly(3);
+
+        fileBlobService.release(HASH);
+        fileBlobService.release(HASH);
+        assertThat(refCount()).containsExactly(1);
+        verify(amazonS3, never()).deleteObject(any(DeleteObjectRequest.class));
+
+        fileBlobService.release(HASH);
+        assertThat(refCount()).isEmpty();
+        ArgumentCaptor<DeleteObjectRequest> delete = ArgumentCaptor.forClass(DeleteObjectRequest.class);
+        verify(amazonS3).deleteObject(delete.capture());
+        assertThat(delete.getValue().getKey()).isEqualTo(FileBlobService.s3Key(HASH));
+    }
+
+    @Test
+    @DisplayName("공유 객체는 참조가 남아 있으면 해제해도 유지되고, 해제는 커밋 후에만 삭제")
+    void sharedBlobSurvivesAndPurgesAfterCommit() {
+        fileBlobService.register(HASH, 10, "image/png");
+        fileBlobService.retain(HASH);
+
+        transaction.executeWithoutResult(status -> fileBlobService.release(HASH));
+        assertThat(refCount()).containsExactly(1);
+
+        // 롤백되면 참조 수도 그대로이고 삭제하지 않음
+        transaction.executeWithoutResult(status -> {
+            fileBlobService.release(HASH);
+            status.setRollbackOnly();
+        });
+        assertThat(refCount()).containsExactly(1);
+        verify(amazonS3, never()).deleteObject(any(DeleteObjectRequest.class));
+
+        transaction.executeWithoutResult(status -> {
+            fileBlobService.release(HASH);
+            verify(amazonS3, never()).deleteObject(any(DeleteObjectRequest.class));
+        });
+        assertThat(refCount()).isEmpty();
+        verify(amazonS3).deleteObject(any(DeleteObjectRequest.class));
+    }
+
+    @Test
+    @DisplayName("등록이 롤백된 객체는 삭제하고, 다른 요청이 등록한 객체는 남겨둠")
+    void discardUnregisteredObjects() {
+        transaction.executeWithoutResult(status -> {
+            fileBlobService.register(HASH, 10, "image/png");
+            fileBlobService.discardOnRollback(HASH);
+            status.setRollbackOnly();
+        });
+        assertThat(refCount()).isEmpty();
+        verify(amazonS3).deleteObject(any(DeleteObjectRequest.class));
+
+        fileBlobService.register(HASH, 10, "image/png");
+        fileBlobService.discardIfUnregistered(HASH);
+        assertThat(refCount()).containsExactly(1);
+        verify(amazonS3, times(1)).deleteObject(any(DeleteObjectRequest.class));
+    }
+
+    @Test
+    @DisplayName("일괄 INSERT 로 저장한 파일도 내용 해시를 가져 공유 객체로 인식")
+    void insertAllKeepsContentHash() {
+        genFileRepository.insertAll(List.of(GenFile.builder()
+                .relTypeCode("blobTest")
+                .relId(1L)
+                .typeCode("common")
+                .type2Code("inBody")
+                .fileNo(1)
+                .fileSize(10)
+                .fileDir(FileBlobService.BLOB_DIR)
+                .fileExt("png")
+                .originFileName("a.png")
+                .s3FileName(HASH)
+                .status(GenFileStatus.READY)
+                .contentHash(HASH)
+                .build()));
+
+        assertThat(genFileRepository.findByRelTypeCodeAndRelId("blobTest", 1L))
+                .singleElement()
+                .satisfies(genFile -> assertThat(FileBlobService.isBlob(genFile)).isTrue());
+    }
+}
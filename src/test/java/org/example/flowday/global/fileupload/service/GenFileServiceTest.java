@@ -0,0 +1,286 @@
+package org.example.flowday.global.fileupload.service;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import org.example.flowday.global.fileupload.entity.GenFile;
+import org.example.flowday.global.fileupload.entity.GenFileStatus;
+import org.example.flowday.global.fileupload.image.ImageVariant;
+import org.example.flowday.global.fileupload.image.ImageVariantGenerator;
+import org.example.flowday.global.fileupload.repository.GenFileRepository;
+import org.example.flowday.global.fileupload.repository.GenFileUploadJobRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class GenFileServiceTest {
+    private GenFileRepository genFileRepository;
+    private AmazonS3 amazonS3;
+    private FileBlobService fileBlobService;
+    private ThreadPoolTaskExecutor filePutExecutor;
+    private GenFileService genFileService;
+    private ImageVariantGenerator imageVariantGenerator;
+
+    @TempDir
+    private Path stagingDir;
+
+    private static GenFile stored(Long id, int fileNo, String type2Code) {
+        return GenFile.builder()
+                .id(id)
+                .relTypeCode("post")
+                .relId(1L)
+                .typeCode("common")
+                .type2Code(type2Code)
+                .fileNo(fileNo)
+                .fileDir(FileBlobService.BLOB_DIR)
+                .s3FileName("hash" + id)
+                .contentHash("hash" + id)
+                .status(GenFileStatus.READY)
+                .build();
+    }
+
+    private static MultipartFile image(String name, String content) {
+        return new MockMultipartFile("images", name, "image/png", content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @BeforeEach
+    void setUp() {
+        genFileRepository = mock(GenFileRepository.class);
+        amazonS3 = mock(AmazonS3.class);
+        fileBlobService = mock(FileBlobService.class);
+
+        filePutExecutor = new ThreadPoolTaskExecutor();
+        filePutExecutor.setCorePoolSize(2);
+        filePutExecutor.setMaxPoolSize(2);
+        filePutExecutor.initialize();
+
+        imageVariantGenerator = mock(ImageVariantGenerator.class);
+
+        genFileService = new GenFileService(genFileRepository, mock(GenFileUploadJobRepository.class), amazonS3,
+                mock(ApplicationEventPublisher.class), mock(StreamingUploader.class), imageVariantGenerator,
+                fileBlobService, filePutExecutor, mock(PlatformTransactionManager.class));
+        ReflectionTestUtils.setField(genFileService, "bucketName", "bucket");
+        ReflectionTestUtils.setField(genFileService, "stagingDir", stagingDir.toString());
+    }
+
+    @AfterEach
+    void tearDown() {
+        filePutExecutor.shutdown();
+    }
+
+    @Test
+    @DisplayName("서로 다른 내용은 공유 풀에서 동시에 한 번씩 업로드하고, 같은 내용은 참조만 늘림")
+    @SuppressWarnings("unchecked")
+    void saveFilesUploadsDistinctContentsConcurrently() throws Exception {
+        // 두 PUT 이 서로를 기다리므로 동시에 실행되지 않으면 시간 초과
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        when(amazonS3.putObject(any(PutObjectRequest.class))).thenAnswer(invocation -> {
+            threads.add(Thread.currentThread().getName());
+            bothStarted.countDown();
+            assertThat(bothStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            return null;
+        });
+
+        genFileService.saveFiles(List.of(image("a.png", "a"), image("b.png", "b"), image("a2.png", "a")),
+                "post", 1L, "common", "inBody");
+
+        ArgumentCaptor<PutObjectRequest> puts = ArgumentCaptor.forClass(PutObjectRequest.class);
+        verify(amazonS3, times(2)).putObject(puts.capture());
+        assertThat(puts.getAllValues()).extracting(PutObjectRequest::getKey).doesNotHaveDuplicates()
+                .allSatisfy(key -> assertThat(key).startsWith(FileBlobService.BLOB_DIR + "/"));
+        assertThat(threads).hasSize(2).allSatisfy(name -> assertThat(name).startsWith(filePutExecutor.getThreadNamePrefix()));
+
+        verify(fileBlobService, times(2)).register(anyString(), eq(1L), eq("image/png"));
+        // 같은 요청 안의 중복 내용은 업로드 후 참조만 추가
+        verify(fileBlobService, times(3)).retain(anyString());
+
+        ArgumentCaptor<List<GenFile>> inserts = ArgumentCaptor.forClass(List.class);
+        verify(genFileRepository).insertAll(inserts.capture());
+        assertThat(inserts.getValue()).extracting(GenFile::getFileNo).containsExactly(1, 2, 3);
+        assertThat(inserts.getValue().get(0).getContentHash()).isEqualTo(inserts.getValue().get(2).getContentHash());
+    }
+
+    @Test
+    @DisplayName("업로드가 실패하면 늘린 참조를 되돌리고 메타데이터를 저장하지 않음")
+    void saveFilesReleasesRetainedOnPutFailure() {
+        MultipartFile stored = image("a.png", "a");
+        when(fileBlobService.retain(sha256("a"))).thenReturn(true);
+        when(amazonS3.putObject(any(PutObjectRequest.class))).thenThrow(new IllegalStateException("S3 down"));
+
+        assertThatThrownBy(() -> genFileService.saveFiles(List.of(stored, image("b.png", "b")), "post", 1L, "common", "inBody"))
+                .isInstanceOf(RuntimeException.class);
+
+        verify(fileBlobService).release(sha256("a"));
+        verify(fileBlobService, never()).register(anyString(), anyLong(), anyString());
+        verify(fileBlobService, never()).discardIfUnregistered(anyString());
+        verify(genFileRepository, never()).insertAll(anyList());
+    }
+
+    @Test
+    @DisplayName("일부 업로드만 실패하면 올라간 객체는 등록되지 않은 경우에만 삭제")
+    void saveFilesDiscardsUploadedObjectsOnPartialFailure() {
+        when(amazonS3.putObject(argThat((PutObjectRequest request) -> request != null && request.getKey().endsWith(sha256("b")))))
+                .thenThrow(new IllegalStateException("S3 down"));
+
+        assertThatThrownBy(() -> genFileService.saveFiles(List.of(image("a.png", "a"), image("b.png", "b")), "post", 1L, "common", "inBody"))
+                .isInstanceOf(RuntimeException.class);
+
+        verify(fileBlobService).discardIfUnregistered(sha256("a"));
+        verify(fileBlobService, never()).discardIfUnregistered(sha256("b"));
+        verify(fileBlobService, never()).register(anyString(), anyLong(), anyString());
+    }
+
+    @Test
+    @DisplayName("메타데이터 저장이 실패하면 늘린 참조를 모두 해제하고 새로 올린 객체를 정리")
+    void saveFilesRevertsOnMetadataFailure() {
+        when(fileBlobService.retain(sha256("a"))).thenReturn(true);
+        doThrow(new IllegalStateException("DB down")).when(genFileRepository).insertAll(anyList());
+
+        assertThatThrownBy(() -> genFileService.saveFiles(List.of(image("a.png", "a"), image("b.png", "b"), image("b2.png", "b")),
+                "post", 1L, "common", "inBody"))
+                .isInstanceOf(IllegalStateException.class);
+
+        verify(fileBlobService).release(sha256("a"));
+        // 새로 등록한 b 와 같은 요청 안의 중복 b 참조
+        verify(fileBlobService, times(2)).release(sha256("b"));
+        verify(fileBlobService).discardIfUnregistered(sha256("b"));
+        verify(fileBlobService, never()).discardOnRollback(anyString());
+    }
+
+    @Test
+    @DisplayName("저장에 성공하면 새로 올린 객체만 롤백 시 정리하도록 등록")
+    void saveFilesRegistersRollbackCleanup() {
+        when(fileBlobService.retain(sha256("a"))).thenReturn(true);
+
+        genFileService.saveFiles(List.of(image("a.png", "a"), image("b.png", "b")), "post", 1L, "common", "inBody");
+
+        verify(fileBlobService).discardOnRollback(sha256("b"));
+        verify(fileBlobService, never()).discardOnRollback(sha256("a"));
+        verify(fileBlobService, never()).release(anyString());
+    }
+
+    @Test
+    @DisplayName("헤더로 받은 파일 이름은 S3 키에 쓸 수 있는 문자만 남기고 확장자 쪽을 남겨 길이 제한")
+    void keyNameOfSanitizesHeaderFileName() {
+        assertThat(GenFileService.keyNameOf("../../etc/passwd")).isEqualTo(".._.._etc_passwd");
+        assertThat(GenFileService.keyNameOf("여름 바다?.jpg")).isEqualTo("______.jpg");
+        assertThat(GenFileService.keyNameOf("")).isEqualTo("file");
+        assertThat(GenFileService.keyNameOf("a".repeat(300) + ".png")).hasSize(100).endsWith("a.png");
+    }
+
+    @Test
+    @DisplayName("파일 목록 수정 - 빠진 파일과 변형만 삭제하고, 유지한 파일과 변형은 요청한 순서로 번호를 다시 매긴 뒤 새 파일을 뒤에 추가")
+    void updateFilesReordersKeptAndAppendsNew() {
+        GenFile first = stored(1L, 1, "inBody");
+        GenFile second = stored(2L, 2, "inBody");
+        GenFile third = stored(3L, 3, "inBody");
+        GenFile secondVariant = stored(12L, 2, ImageVariant.W320.type2Code());
+        GenFile thirdVariant = stored(13L, 3, ImageVariant.W320.type2Code());
+        when(genFileRepository.findForUpdate("post", 1L)).thenReturn(List.of(first, second, third, secondVariant, thirdVariant));
+        when(genFileRepository.findByRelTypeCodeAndRelIdAndTypeCodeAndFileNo("post", 1L, "common", 2))
+                .thenReturn(List.of(second, secondVariant));
+
+        genFileService.updateFiles("post", 1L, "common", "inBody", List.of(3L, 1L), null, List.of(image("new.png", "new")));
+
+        verify(genFileRepository).deleteAll(List.of(second, secondVariant));
+        verify(fileBlobService).release("hash2");
+        verify(fileBlobService).release("hash12");
+        assertThat(third.getFileNo()).isEqualTo(1);
+        assertThat(thirdVariant.getFileNo()).isEqualTo(1);
+        assertThat(first.getFileNo()).isEqualTo(2);
+        verify(genFileRepository).save(argThat((GenFile genFile) -> genFile != null
+                && genFile.getFileNo() == 3 && genFile.getStatus() == GenFileStatus.PENDING));
+    }
+
+    @Test
+    @DisplayName("파일 목록 수정 - 유지 목록 없이 삭제만 보내면 나머지를 기존 순서대로 앞으로 당김")
+    void updateFilesRemovesAndKeepsOrder() {
+        GenFile first = stored(1L, 1, "inBody");
+        GenFile second = stored(2L, 2, "inBody");
+        GenFile third = stored(3L, 3, "inBody");
+        GenFile secondVariant = stored(12L, 2, ImageVariant.W320.type2Code());
+        when(genFileRepository.findForUpdate("post", 1L)).thenReturn(List.of(third, first, secondVariant, second));
+        when(genFileRepository.findByRelTypeCodeAndRelIdAndTypeCodeAndFileNo("post", 1L, "common", 1))
+                .thenReturn(List.of(first));
+
+        genFileService.updateFiles("post", 1L, "common", "inBody", null, List.of(1L), List.of());
+
+        verify(genFileRepository).deleteAll(List.of(first));
+        assertThat(second.getFileNo()).isEqualTo(1);
+        assertThat(secondVariant.getFileNo()).isEqualTo(1);
+        assertThat(third.getFileNo()).isEqualTo(2);
+        verify(genFileRepository, never()).save(any(GenFile.class));
+    }
+
+    @Test
+    @DisplayName("변형은 저장 직전에 다시 읽은 원본의 현재 번호로 저장")
+    void createVariantsUsesCurrentFileNo() throws Exception {
+        byte[] bytes = {1, 2, 3};
+        when(imageVariantGenerator.generate(bytes)).thenReturn(List.of(
+                new ImageVariantGenerator.VariantImage(ImageVariant.W320, 320, 160, new byte[]{4}, "jpg", "image/jpeg")));
+        GenFile original = stored(1L, 1, "inBody");
+        // 변형을 만드는 동안 파일 목록 수정으로 2번이 됨
+        when(genFileRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(stored(1L, 2, "inBody")));
+
+        genFileService.createVariants(original, bytes);
+
+        ArgumentCaptor<GenFile> saved = ArgumentCaptor.forClass(GenFile.class);
+        verify(genFileRepository).save(saved.capture());
+        assertThat(saved.getValue().getFileNo()).isEqualTo(2);
+        assertThat(saved.getValue().getType2Code()).isEqualTo(ImageVariant.W320.type2Code());
+        assertThat(saved.getValue().getRelId()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("변형을 만드는 동안 원본이 교체되었으면 저장하지 않고 확보한 참조를 해제")
+    void createVariantsSkipsReplacedOriginal() throws Exception {
+        byte[] bytes = {1, 2, 3};
+        byte[] variantBytes = {4};
+        when(imageVariantGenerator.generate(bytes)).thenReturn(List.of(
+                new ImageVariantGenerator.VariantImage(ImageVariant.W320, 320, 160, variantBytes, "jpg", "image/jpeg")));
+        GenFile replaced = stored(1L, 1, "inBody");
+        replaced.setContentHash("other");
+        when(genFileRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(replaced));
+
+        genFileService.createVariants(stored(1L, 1, "inBody"), bytes);
+
+        verify(fileBlobService).release(sha256(variantBytes));
+        verify(genFileRepository, never()).save(any(GenFile.class));
+    }
+
+    private static String sha256(byte[] bytes) {
+        MessageDigest digest = FileBlobService.newDigest();
+        digest.update(bytes);
+        return FileBlobService.hex(digest);
+    }
+
+    private static String sha256(String content) {
+        MessageDigest digest = FileBlobService.newDigest();
+        digest.update(content.getBytes(StandardCharsets.UTF_8));
+        return FileBlobService.hex(digest);
+    }
+}
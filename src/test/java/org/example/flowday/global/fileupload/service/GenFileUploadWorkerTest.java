@@ -0,0 +1,213 @@
+package org.example.flowday.global.fileupload.service;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import org.example.flowday.global.fileupload.entity.GenFile;
+import org.example.flowday.global.fileupload.entity.GenFileStatus;
+import org.example.flowday.global.fileupload.entity.GenFileUploadJob;
+import org.example.flowday.global.fileupload.entity.UploadJobStatus;
+import org.example.flowday.global.fileupload.repository.GenFileRepository;
+import org.example.flowday.global.fileupload.repository.GenFileUploadJobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class GenFileUploadWorkerTest {
+    private static final String S3_KEY = "post/2024_01_01/a.png";
+
+    private GenFileUploadJobRepository jobRepository;
+    private GenFileRepository genFileRepository;
+    private GenFileService genFileService;
+    private AmazonS3 amazonS3;
+
+    @TempDir
+    private Path stagingDir;
+
+    private Path stagedFile;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        jobRepository = mock(GenFileUploadJobRepository.class);
+        genFileRepository = mock(GenFileRepository.class);
+        genFileService = mock(GenFileService.class);
+        amazonS3 = mock(AmazonS3.class);
+        when(genFileService.uploadOwner()).thenReturn("host-a");
+
+        stagedFile = Files.write(stagingDir.resolve("a.upload"), new byte[]{1, 2, 3});
+    }
+
+    // 업로드 풀 대신 호출한 스레드에서 바로 실행
+    private GenFileUploadWorker worker(TaskExecutor executor) {
+        GenFileUploadWorker worker = new GenFileUploadWorker(jobRepository, genFileRepository, genFileService,
+                mock(FileBlobService.class), amazonS3, executor);
+        ReflectionTestUtils.setField(worker, "bucketName", "bucket");
+        return worker;
+    }
+
+    private GenFileUploadJob job(Long id, int attempts) {
+        GenFile replaced = GenFile.builder().fileDir("post/2023_12_31").s3FileName("old.png").status(GenFileStatus.READY).build();
+        GenFileUploadJob job = GenFileUploadJob.of(10L, S3_KEY, "image/png", stagedFile.toString(), "host-a", replaced);
+        ReflectionTestUtils.setField(job, "id", id);
+        ReflectionTestUtils.setField(job, "attempts", attempts);
+        when(jobRepository.findById(id)).thenReturn(Optional.of(job));
+        return job;
+    }
+
+    private void pendingFile() {
+        when(genFileRepository.findById(10L)).thenReturn(Optional.of(GenFile.builder()
+                .id(10L)
+                .fileDir("post/2024_01_01")
+                .s3FileName("a.png")
+                .status(GenFileStatus.PENDING)
+                .build()));
+    }
+
+    private void due(Long... jobIds) {
+        when(jobRepository.findDueIds(eq(UploadJobStatus.PENDING), any(), eq("host-a"), any())).thenReturn(List.of(jobIds));
+    }
+
+    @Test
+    @DisplayName("선점한 작업을 올리고 파일을 READY 로 바꾼 뒤 작업과 임시 파일, 교체된 객체를 정리")
+    void uploadsClaimedJob() throws IOException {
+        GenFileUploadJob job = job(1L, 0);
+        pendingFile();
+        due(1L);
+        when(jobRepository.claim(eq(1L), any())).thenReturn(1);
+        when(genFileRepository.completeUpload(10L, S3_KEY, GenFileStatus.READY)).thenReturn(1);
+
+        worker(Runnable::run).poll();
+
+        ArgumentCaptor<PutObjectRequest> put = ArgumentCaptor.forClass(PutObjectRequest.class);
+        verify(amazonS3).putObject(put.capture());
+        assertThat(put.getValue().getKey()).isEqualTo(S3_KEY);
+        verify(genFileService).createVariants(any(GenFile.class), eq(new byte[]{1, 2, 3}));
+        verify(jobRepository).deleteById(1L);
+        verify(genFileService).releaseReplaced(job);
+        assertThat(stagedFile).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("다른 스레드가 선점한 작업은 건너뛰고, 풀이 가득 차면 선점을 반납")
+    void releasesClaimWhenPoolRejects() {
+        due(1L, 2L, 3L);
+        when(jobRepository.claim(eq(1L), any())).thenReturn(0);
+        when(jobRepository.claim(eq(2L), any())).thenReturn(1);
+
+        worker(task -> {
+            throw new RejectedExecutionException("full");
+        }).poll();
+
+        verify(jobRepository).release(2L);
+        verify(jobRepository, never()).release(1L);
+        // 나머지 작업은 다음 폴링에서 처리
+        verify(jobRepository, never()).claim(eq(3L), any());
+    }
+
+    @Test
+    @DisplayName("업로드에 실패하면 지수 백오프로 다시 대기")
+    void retriesWithBackoff() {
+        GenFileUploadJob job = job(1L, 2);
+        pendingFile();
+        due(1L);
+        when(jobRepository.claim(eq(1L), any())).thenReturn(1);
+        when(amazonS3.putObject(any(PutObjectRequest.class))).thenThrow(new RuntimeException("s3 down"));
+
+        LocalDateTime before = LocalDateTime.now();
+        worker(Runnable::run).poll();
+
+        verify(jobRepository).save(job);
+        assertThat(job.getStatus()).isEqualTo(UploadJobStatus.PENDING);
+        assertThat(job.getAttempts()).isEqualTo(3);
+        // 10초 << 2
+        assertThat(job.getNextAttemptAt()).isBetween(before.plusSeconds(40), LocalDateTime.now().plusSeconds(40));
+        verify(genFileRepository, never()).completeUpload(any(), any(), any());
+        verify(genFileService, never()).releaseReplaced(any());
+        assertThat(stagedFile).exists();
+    }
+
+    @Test
+    @DisplayName("최대 횟수만큼 실패하면 작업과 파일을 FAILED 로 남기고 교체된 객체를 정리")
+    void failsAfterMaxAttempts() {
+        GenFileUploadJob job = job(1L, 4);
+        pendingFile();
+        due(1L);
+        when(jobRepository.claim(eq(1L), any())).thenReturn(1);
+        when(amazonS3.putObject(any(PutObjectRequest.class))).thenThrow(new RuntimeException("s3 down"));
+
+        worker(Runnable::run).poll();
+
+        assertThat(job.getStatus()).isEqualTo(UploadJobStatus.FAILED);
+        assertThat(job.getAttempts()).isEqualTo(5);
+        verify(jobRepository).save(job);
+        verify(genFileRepository).completeUpload(10L, S3_KEY, GenFileStatus.FAILED);
+        verify(genFileService).releaseReplaced(job);
+        verify(jobRepository, never()).deleteById(any());
+        assertThat(stagedFile).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("업로드 전에 파일이 교체되었으면 올리지 않고 작업만 정리")
+    void skipsSupersededJob() {
+        GenFileUploadJob job = job(1L, 0);
+        when(genFileRepository.findById(10L)).thenReturn(Optional.of(GenFile.builder()
+                .id(10L)
+                .fileDir("post/2024_01_02")
+                .s3FileName("b.png")
+                .status(GenFileStatus.PENDING)
+                .build()));
+        due(1L);
+        when(jobRepository.claim(eq(1L), any())).thenReturn(1);
+
+        worker(Runnable::run).poll();
+
+        verifyNoInteractions(amazonS3);
+        verify(jobRepository).deleteById(1L);
+        verify(genFileService).releaseReplaced(job);
+        assertThat(stagedFile).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("이 인스턴스에서 오래 RUNNING 으로 남은 작업을 다시 대기 상태로")
+    void recoversStuckJobs() {
+        LocalDateTime before = LocalDateTime.now();
+
+        worker(Runnable::run).poll();
+
+        ArgumentCaptor<LocalDateTime> lockedBefore = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(jobRepository).recoverStuck(lockedBefore.capture(), eq("host-a"));
+        assertThat(lockedBefore.getValue()).isBetween(before.minusMinutes(10), LocalDateTime.now().minusMinutes(10));
+    }
+
+    @Test
+    @DisplayName("담당 인스턴스가 사라져 기한이 지난 작업은 어느 인스턴스에서든 FAILED 로 정리")
+    void failsOrphanedJobs() {
+        GenFileUploadJob job = job(1L, 0);
+        when(jobRepository.findOrphanedIds(any(), any())).thenReturn(List.of(1L, 2L));
+        when(jobRepository.failOrphaned(eq(1L), any())).thenReturn(1);
+        // 다른 인스턴스가 먼저 정리한 작업
+        when(jobRepository.failOrphaned(eq(2L), any())).thenReturn(0);
+
+        worker(Runnable::run).poll();
+
+        verify(genFileRepository).completeUpload(10L, S3_KEY, GenFileStatus.FAILED);
+        verify(genFileService).releaseReplaced(job);
+        verify(jobRepository, never()).findById(2L);
+        assertThat(stagedFile).doesNotExist();
+    }
+}
@@ -0,0 +1,170 @@
+package org.example.flowday.global.fileupload.service;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class StreamingUploaderTest {
+    private static final byte[] PNG_SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+
+    private AmazonS3 amazonS3;
+    private StreamingUploader streamingUploader;
+
+    // PNG 매직 바이트로 시작하는 size 바이트
+    private static byte[] png(int size) {
+        byte[] bytes = new byte[size];
+        System.arraycopy(PNG_SIGNATURE, 0, bytes, 0, PNG_SIGNATURE.length);
+        return bytes;
+    }
+
+    // 요청 본문처럼 mark 를 지원하지 않는 스트림
+    private static InputStream unmarkable(byte[] bytes) {
+        return new FilterInputStream(new ByteArrayInputStream(bytes)) {
+            @Override
+            public boolean markSupported() {
+                return false;
+            }
+        };
+    }
+
+    private static String sha256(byte[] bytes) throws Exception {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+    }
+
+    @BeforeEach
+    void setUp() {
+        amazonS3 = mock(AmazonS3.class);
+        streamingUploader = new StreamingUploader(amazonS3);
+        ReflectionTestUtils.setField(streamingUploader, "bucketName", "bucket");
+        ReflectionTestUtils.setField(streamingUploader, "maxFileSize", DataSize.ofMegabytes(12));
+
+        InitiateMultipartUploadResult initiated = new InitiateMultipartUploadResult();
+        initiated.setUploadId("upload-1");
+        when(amazonS3.initiateMultipartUpload(any())).thenReturn(initiated);
+        when(amazonS3.uploadPart(any())).thenAnswer(invocation -> {
+            UploadPartRequest request = invocation.getArgument(0);
+            UploadPartResult result = new UploadPartResult();
+            result.setPartNumber(request.getPartNumber());
+            result.setETag("etag-" + request.getPartNumber());
+            return result;
+        });
+    }
+
+    @Test
+    @DisplayName("파트 하나보다 작은 파일은 단일 PUT 으로 올리고 크기 / 해시 / MIME 타입을 반환")
+    void smallFileUsesSinglePut() throws Exception {
+        byte[] bytes = png(1024);
+
+        StreamingUploader.StreamedObject object = streamingUploader.upload(unmarkable(bytes), "post/a.png");
+
+        assertThat(object.size()).isEqualTo(1024);
+        assertThat(object.sha256()).isEqualTo(sha256(bytes));
+        assertThat(object.contentType()).isEqualTo("image/png");
+        ArgumentCaptor<PutObjectRequest> put = ArgumentCaptor.forClass(PutObjectRequest.class);
+        verify(amazonS3).putObject(put.capture());
+        assertThat(put.getValue().getMetadata().getContentLength()).isEqualTo(1024);
+        verify(amazonS3, never()).initiateMultipartUpload(any());
+    }
+
+    @Test
+    @DisplayName("정확히 파트 크기인 파일은 끝을 확인할 수 있으면 단일 PUT, 없으면 파트 하나짜리 멀티파트")
+    void exactlyOnePartDependsOnMarkSupport() throws Exception {
+        byte[] bytes = png(StreamingUploader.PART_SIZE);
+
+        streamingUploader.upload(new ByteArrayInputStream(bytes), "post/a.png");
+        verify(amazonS3).putObject(any(PutObjectRequest.class));
+        verify(amazonS3, never()).initiateMultipartUpload(any());
+
+        StreamingUploader.StreamedObject object = streamingUploader.upload(unmarkable(bytes), "post/b.png");
+
+        assertThat(object.size()).isEqualTo(StreamingUploader.PART_SIZE);
+        assertThat(object.sha256()).isEqualTo(sha256(bytes));
+        verify(amazonS3, times(1)).uploadPart(any());
+        ArgumentCaptor<CompleteMultipartUploadRequest> complete = ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+        verify(amazonS3).completeMultipartUpload(complete.capture());
+        assertThat(complete.getValue().getPartETags()).extracting(PartETag::getPartNumber).containsExactly(1);
+        verify(amazonS3, times(1)).putObject(any(PutObjectRequest.class));
+    }
+
+    @Test
+    @DisplayName("파트 크기를 넘는 파일은 파트별로 올린 뒤 완료")
+    void largeFileUsesMultipart() throws Exception {
+        byte[] bytes = png(StreamingUploader.PART_SIZE * 2 + 100);
+
+        StreamingUploader.StreamedObject object = streamingUploader.upload(unmarkable(bytes), "post/a.png");
+
+        assertThat(object.size()).isEqualTo(bytes.length);
+        assertThat(object.sha256()).isEqualTo(sha256(bytes));
+        ArgumentCaptor<UploadPartRequest> parts = ArgumentCaptor.forClass(UploadPartRequest.class);
+        verify(amazonS3, times(3)).uploadPart(parts.capture());
+        assertThat(parts.getAllValues()).extracting(UploadPartRequest::getPartSize)
+                .containsExactly((long) StreamingUploader.PART_SIZE, (long) StreamingUploader.PART_SIZE, 100L);
+        verify(amazonS3).completeMultipartUpload(any());
+        verify(amazonS3, never()).abortMultipartUpload(any());
+    }
+
+    @Test
+    @DisplayName("읽는 도중 크기 제한을 넘으면 남은 본문을 올리지 않고 멀티파트 업로드를 취소")
+    void rejectsOversizedStreamMidway() {
+        byte[] bytes = png(StreamingUploader.PART_SIZE * 3);
+
+        assertThatThrownBy(() -> streamingUploader.upload(unmarkable(bytes), "post/a.png"))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        // 두 번째 파트를 읽은 시점(10MB)은 제한 안, 세 번째(15MB)에서 중단
+        verify(amazonS3, times(2)).uploadPart(any());
+        verify(amazonS3).abortMultipartUpload(any());
+        verify(amazonS3, never()).completeMultipartUpload(any());
+    }
+
+    @Test
+    @DisplayName("파트 업로드가 실패하면 멀티파트 업로드를 취소하고 예외를 그대로 전달")
+    void abortsMultipartOnFailure() {
+        doThrow(new AmazonServiceException("s3 down")).when(amazonS3).uploadPart(any());
+
+        assertThatThrownBy(() -> streamingUploader.upload(unmarkable(png(StreamingUploader.PART_SIZE + 1)), "post/a.png"))
+                .isInstanceOf(AmazonServiceException.class);
+
+        ArgumentCaptor<AbortMultipartUploadRequest> abort = ArgumentCaptor.forClass(AbortMultipartUploadRequest.class);
+        verify(amazonS3).abortMultipartUpload(abort.capture());
+        assertThat(abort.getValue().getUploadId()).isEqualTo("upload-1");
+        verify(amazonS3, never()).completeMultipartUpload(any());
+    }
+
+    @Test
+    @DisplayName("이미지가 아닌 내용은 S3 에 올리지 않고 거부")
+    void rejectsDisallowedMimeType() {
+        byte[] text = "hello, world".getBytes(StandardCharsets.UTF_8);
+
+        assertThatThrownBy(() -> streamingUploader.upload(unmarkable(text), "post/a.png"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("MIME");
+        verifyNoInteractions(amazonS3);
+    }
+
+    @Test
+    @DisplayName("빈 본문은 거부")
+    void rejectsEmptyBody() {
+        assertThatThrownBy(() -> streamingUploader.upload(unmarkable(new byte[0]), "post/a.png"))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(amazonS3);
+    }
+}